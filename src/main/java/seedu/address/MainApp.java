@@ -2,7 +2,10 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -14,6 +17,7 @@ import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
@@ -23,23 +27,36 @@ import seedu.address.logic.LogicManager;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.addressbook.AddressBook;
-import seedu.address.model.addressbook.ReadOnlyAddressBook;
-import seedu.address.model.expenses.ExpensesList;
-import seedu.address.model.expenses.ReadOnlyExpensesList;
-import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
-import seedu.address.model.recruitment.RecruitmentList;
-import seedu.address.model.schedule.ReadOnlyScheduleList;
-import seedu.address.model.schedule.ScheduleList;
-import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleArchive;
+import seedu.address.model.schedule.Year;
+import seedu.address.storage.ListJournal;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.addressbook.AddressBookStorage;
+import seedu.address.storage.addressbook.BinaryAddressBookFileStorage;
+import seedu.address.storage.addressbook.BinaryAddressBookStorage;
+import seedu.address.storage.addressbook.DatabaseAddressBookStorage;
+import seedu.address.storage.addressbook.JournalAddressBookStorage;
 import seedu.address.storage.addressbook.XmlAddressBookStorage;
+import seedu.address.storage.expenses.BinaryExpensesListFileStorage;
+import seedu.address.storage.expenses.BinaryExpensesListStorage;
+import seedu.address.storage.expenses.DatabaseExpensesListStorage;
 import seedu.address.storage.expenses.ExpensesListStorage;
+import seedu.address.storage.expenses.JournalExpensesListStorage;
 import seedu.address.storage.expenses.XmlExpensesListStorage;
+import seedu.address.storage.recruitment.BinaryRecruitmentListFileStorage;
+import seedu.address.storage.recruitment.BinaryRecruitmentListStorage;
+import seedu.address.storage.recruitment.DatabaseRecruitmentListStorage;
+import seedu.address.storage.recruitment.JournalRecruitmentListStorage;
 import seedu.address.storage.recruitment.RecruitmentListStorage;
 import seedu.address.storage.recruitment.XmlRecruitmentListStorage;
+import seedu.address.storage.schedule.BinaryScheduleListFileStorage;
+import seedu.address.storage.schedule.BinaryScheduleListStorage;
+import seedu.address.storage.schedule.DatabaseScheduleListStorage;
+import seedu.address.storage.schedule.JournalScheduleListStorage;
+import seedu.address.storage.schedule.PartitionedScheduleListStorage;
 import seedu.address.storage.schedule.ScheduleListStorage;
 import seedu.address.storage.schedule.XmlScheduleListStorage;
 import seedu.address.storage.userpref.JsonUserPrefsStorage;
@@ -76,11 +93,10 @@ public class MainApp extends Application {
         userPrefs = initPrefs(userPrefsStorage);
 
         //------------------------------------------------------------------
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ScheduleListStorage scheduleListStorage = new XmlScheduleListStorage(userPrefs.getScheduleListFilePath());
-        ExpensesListStorage expensesListStorage = new XmlExpensesListStorage(userPrefs.getExpensesListFilePath());
-        RecruitmentListStorage recruitmentListStorage = new XmlRecruitmentListStorage(
-                userPrefs.getRecruitmentListFilePath());
+        AddressBookStorage addressBookStorage = createAddressBookStorage(userPrefs);
+        ScheduleListStorage scheduleListStorage = createScheduleListStorage(userPrefs);
+        ExpensesListStorage expensesListStorage = createExpensesListStorage(userPrefs);
+        RecruitmentListStorage recruitmentListStorage = createRecruitmentListStorage(userPrefs);
 
         storage = new StorageManager(addressBookStorage, expensesListStorage, scheduleListStorage,
                 recruitmentListStorage, userPrefsStorage);
@@ -88,98 +104,131 @@ public class MainApp extends Application {
         //------------------------------------------------------------------
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // the app is shown once the address book is read, and commands wait for the other lists to be read
+        StartupLoader startupLoader = new StartupLoader(storage);
+        ModelManager modelManager = startupLoader.createModel(userPrefs);
+        if (scheduleListStorage instanceof PartitionedScheduleListStorage) {
+            PartitionedScheduleListStorage partitionedStorage = (PartitionedScheduleListStorage) scheduleListStorage;
+            modelManager.setScheduleArchive(new ScheduleArchive() {
+                @Override
+                public List<Schedule> read(Predicate<Year> isNeeded) {
+                    return readArchivedSchedules(partitionedStorage, isNeeded);
+                }
+
+                @Override
+                public Predicate<Year> findYearsOf(EmployeeId employeeId) {
+                    return partitionedStorage.findUnreadYears(employeeId)::contains;
+                }
+            });
+        }
+        // the oldest changes kept for undo are moved to the data directory, in the records of the binary format
+        modelManager.setUndoHistoryDirectory(userPrefs.getAddressBookFilePath().toAbsolutePath().getParent(),
+                BinaryAddressBookFileStorage.getRecordCodec(), BinaryExpensesListFileStorage.getRecordCodec(),
+                BinaryScheduleListFileStorage.getRecordCodec(), BinaryRecruitmentListFileStorage.getRecordCodec());
+        model = modelManager;
+        startupLoader.getLoadedFuture().thenRun(() -> Platform.runLater(startupLoader::finishLoading));
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, startupLoader::finishLoading);
 
         ui = new UiManager(logic, config, userPrefs);
 
         initEventsCenter();
     }
 
+    private static AddressBookStorage createAddressBookStorage(UserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookFileFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case DATABASE:
+            return new DatabaseAddressBookStorage(filePath);
+        case JOURNAL:
+            return new JournalAddressBookStorage(filePath);
+        case COMPRESSED_JOURNAL:
+            return new JournalAddressBookStorage(filePath, ListJournal.DEFAULT_COMPACTION_THRESHOLD, true);
+        case COMPRESSED_XML:
+            return new XmlAddressBookStorage(filePath, true);
+        default:
+            return new XmlAddressBookStorage(filePath);
+        }
+    }
+
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the storage of the schedule list, which is split into a file per year unless it is kept in a database.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        Optional<ReadOnlyExpensesList> expensesListOptional;
-        Optional<ReadOnlyScheduleList> scheduleListOptional;
-        Optional<ReadOnlyRecruitmentList> recruitmentListOptional;
-
-        ReadOnlyAddressBook initialData;
-        ReadOnlyExpensesList initialExpenses;
-        ReadOnlyScheduleList initialSchedule;
-        ReadOnlyRecruitmentList initialRecruitment;
-
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
+    private static ScheduleListStorage createScheduleListStorage(UserPrefs userPrefs) {
+        Path filePath = userPrefs.getScheduleListFilePath();
+        switch (userPrefs.getScheduleListFileFormat()) {
+        case BINARY:
+            return new PartitionedScheduleListStorage(filePath, BinaryScheduleListStorage::new);
+        case DATABASE:
+            return new DatabaseScheduleListStorage(filePath);
+        case JOURNAL:
+            return new PartitionedScheduleListStorage(filePath, JournalScheduleListStorage::new);
+        case COMPRESSED_JOURNAL:
+            return new PartitionedScheduleListStorage(filePath, yearFilePath ->
+                    new JournalScheduleListStorage(yearFilePath, ListJournal.DEFAULT_COMPACTION_THRESHOLD, true));
+        case COMPRESSED_XML:
+            return new PartitionedScheduleListStorage(filePath, yearFilePath ->
+                    new XmlScheduleListStorage(yearFilePath, true));
+        default:
+            return new PartitionedScheduleListStorage(filePath, XmlScheduleListStorage::new);
         }
+    }
 
-        try {
-            expensesListOptional = storage.readExpensesList();
-            if (!expensesListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
-                initialExpenses = new ExpensesList();
-            } else {
-                initialExpenses = expensesListOptional.get();
-            }
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialExpenses = new ExpensesList();
-
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialExpenses = new ExpensesList();
+    private static ExpensesListStorage createExpensesListStorage(UserPrefs userPrefs) {
+        Path filePath = userPrefs.getExpensesListFilePath();
+        switch (userPrefs.getExpensesListFileFormat()) {
+        case BINARY:
+            return new BinaryExpensesListStorage(filePath);
+        case DATABASE:
+            return new DatabaseExpensesListStorage(filePath);
+        case JOURNAL:
+            return new JournalExpensesListStorage(filePath);
+        case COMPRESSED_JOURNAL:
+            return new JournalExpensesListStorage(filePath, ListJournal.DEFAULT_COMPACTION_THRESHOLD, true);
+        case COMPRESSED_XML:
+            return new XmlExpensesListStorage(filePath, true);
+        default:
+            return new XmlExpensesListStorage(filePath);
         }
+    }
 
-        try {
-            scheduleListOptional = storage.readScheduleList();
-            if (!scheduleListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a schedule List");
-                initialSchedule = new ScheduleList();
-            } else {
-                initialSchedule = scheduleListOptional.get();
-            }
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty ScheduleList");
-            initialSchedule = new ScheduleList();
-
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty ScheduleList");
-            initialSchedule = new ScheduleList();
+    private static RecruitmentListStorage createRecruitmentListStorage(UserPrefs userPrefs) {
+        Path filePath = userPrefs.getRecruitmentListFilePath();
+        switch (userPrefs.getRecruitmentListFileFormat()) {
+        case BINARY:
+            return new BinaryRecruitmentListStorage(filePath);
+        case DATABASE:
+            return new DatabaseRecruitmentListStorage(filePath);
+        case JOURNAL:
+            return new JournalRecruitmentListStorage(filePath);
+        case COMPRESSED_JOURNAL:
+            return new JournalRecruitmentListStorage(filePath, ListJournal.DEFAULT_COMPACTION_THRESHOLD, true);
+        case COMPRESSED_XML:
+            return new XmlRecruitmentListStorage(filePath, true);
+        default:
+            return new XmlRecruitmentListStorage(filePath);
         }
+    }
 
+    /**
+     * Returns the schedules not read yet from {@code scheduleListStorage} of the years accepted by {@code isNeeded},
+     * once the saves waiting to be written are written, so that none of them is written after the years are read.
+     */
+    private List<Schedule> readArchivedSchedules(PartitionedScheduleListStorage scheduleListStorage,
+                                                 Predicate<Year> isNeeded) {
+        if (!scheduleListStorage.hasUnreadYears(isNeeded)) {
+            return Collections.emptyList();
+        }
         try {
-            recruitmentListOptional = storage.readRecruitmentList();
-            if (!recruitmentListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a recruitment List");
-                initialRecruitment = new RecruitmentList();
-            } else {
-                initialRecruitment = recruitmentListOptional.get();
-            }
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty RecruitmentList");
-            initialRecruitment = new RecruitmentList();
-
+            storage.flush();
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty RecruitmentList");
-            initialRecruitment = new RecruitmentList();
+            // the save failed, so nothing is written over the years after they are read
+            logger.warning("Failed to save data before reading archived schedules " + StringUtil.getDetails(e));
+            EventsCenter.getInstance().post(new DataSavingExceptionEvent(e));
         }
-
-        return new ModelManager(initialData, initialExpenses, initialSchedule, initialRecruitment, userPrefs);
+        return scheduleListStorage.readYears(isNeeded);
     }
 
     private void initLogging(Config config) {
@@ -267,12 +316,22 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         ui.stop();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         Platform.exit();
         System.exit(0);
     }
@@ -0,0 +1,206 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.Storage;
+
+/**
+ * Reads the address book, expenses, schedule and recruitment data files at the same time when the app starts, so
+ * starting takes as long as the slowest file rather than all four.
+ * The model is created as soon as the address book is read, so the app can be shown while the other lists are still
+ * being read; they are put into the model by {@link #finishLoading()}.
+ */
+public class StartupLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupLoader.class);
+
+    private static final int MAX_THREAD_COUNT = 4;
+
+    private final CompletableFuture<ReadOnlyAddressBook> addressBook;
+    private final CompletableFuture<ReadOnlyExpensesList> expensesList;
+    private final CompletableFuture<ReadOnlyScheduleList> scheduleList;
+    private final CompletableFuture<ReadOnlyRecruitmentList> recruitmentList;
+
+    private ModelManager model;
+    private boolean isFinished;
+
+    /**
+     * Starts reading the data files from {@code storage}.
+     */
+    public StartupLoader(Storage storage) {
+        requireNonNull(storage);
+
+        int threadCount = Math.min(MAX_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "startup-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        addressBook = CompletableFuture.supplyAsync(timed("AddressBook", () -> readAddressBook(storage)), executor);
+        expensesList = CompletableFuture.supplyAsync(timed("ExpensesList", () -> readExpensesList(storage)), executor);
+        scheduleList = CompletableFuture.supplyAsync(timed("ScheduleList", () -> readScheduleList(storage)), executor);
+        recruitmentList = CompletableFuture.supplyAsync(
+                timed("RecruitmentList", () -> readRecruitmentList(storage)), executor);
+        CompletableFuture.allOf(addressBook, expensesList, scheduleList, recruitmentList)
+                .whenComplete((result, error) -> executor.shutdown());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the address book read and {@code userPrefs}, once the address book is read.
+     * The other lists are empty until {@link #finishLoading()} is called.
+     */
+    public ModelManager createModel(UserPrefs userPrefs) {
+        model = new ModelManager(getLoaded(addressBook, "AddressBook", AddressBook::new), new ExpensesList(),
+                new ScheduleList(), new RecruitmentList(), userPrefs);
+        return model;
+    }
+
+    /**
+     * Returns a future completed when all the data files have been read, normally even if reading one of them failed,
+     * as {@link #finishLoading()} then uses an empty list instead.
+     */
+    public CompletableFuture<Void> getLoadedFuture() {
+        return CompletableFuture.allOf(addressBook, expensesList, scheduleList, recruitmentList)
+                .exceptionally(error -> null);
+    }
+
+    /**
+     * Waits until all the data files have been read, then puts the lists read after the model was created into it.
+     * Does nothing if called again. Must be called on the thread that changes the model, before it is changed.
+     */
+    public void finishLoading() {
+        assert model != null;
+        if (isFinished) {
+            return;
+        }
+        model.loadInitialLists(getLoaded(expensesList, "ExpensesList", ExpensesList::new),
+                getLoaded(scheduleList, "ScheduleList", ScheduleList::new),
+                getLoaded(recruitmentList, "RecruitmentList", RecruitmentList::new));
+        isFinished = true;
+    }
+
+    /**
+     * Waits until {@code list} has been read, and returns it.
+     * An empty list from {@code emptyList} is returned instead if reading it failed with an unexpected error.
+     */
+    private static <T> T getLoaded(CompletableFuture<? extends T> list, String name, Supplier<T> emptyList) {
+        try {
+            return list.join();
+        } catch (CompletionException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty " + name + " "
+                    + StringUtil.getDetails(e.getCause()));
+            return emptyList.get();
+        }
+    }
+
+    /**
+     * Wraps {@code reader} to log how long it takes to read the {@code name} data file.
+     */
+    private static <T> Supplier<T> timed(String name, Supplier<T> reader) {
+        return () -> {
+            long start = System.nanoTime();
+            T data = reader.get();
+            logger.info("Read " + name + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            return data;
+        };
+    }
+
+    /**
+     * Returns the address book in {@code storage}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private static ReadOnlyAddressBook readAddressBook(Storage storage) {
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample AddressBook");
+            }
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            return new AddressBook();
+
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            return new AddressBook();
+        }
+    }
+
+    private static ReadOnlyExpensesList readExpensesList(Storage storage) {
+        try {
+            Optional<ReadOnlyExpensesList> expensesListOptional = storage.readExpensesList();
+            if (!expensesListOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample AddressBook");
+                return new ExpensesList();
+            }
+            return expensesListOptional.get();
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            return new ExpensesList();
+
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            return new ExpensesList();
+        }
+    }
+
+    private static ReadOnlyScheduleList readScheduleList(Storage storage) {
+        try {
+            Optional<ReadOnlyScheduleList> scheduleListOptional = storage.readScheduleList();
+            if (!scheduleListOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a schedule List");
+                return new ScheduleList();
+            }
+            return scheduleListOptional.get();
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty ScheduleList");
+            return new ScheduleList();
+
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty ScheduleList");
+            return new ScheduleList();
+        }
+    }
+
+    private static ReadOnlyRecruitmentList readRecruitmentList(Storage storage) {
+        try {
+            Optional<ReadOnlyRecruitmentList> recruitmentListOptional = storage.readRecruitmentList();
+            if (!recruitmentListOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a recruitment List");
+                return new RecruitmentList();
+            }
+            return recruitmentListOptional.get();
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty RecruitmentList");
+            return new RecruitmentList();
+
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty RecruitmentList");
+            return new RecruitmentList();
+        }
+    }
+}
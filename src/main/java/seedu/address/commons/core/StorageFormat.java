@@ -0,0 +1,19 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats a data file can be stored in.
+ */
+public enum StorageFormat {
+    /** Human-readable xml, written in full on every save. */
+    XML,
+    /** Xml as above, with the file compressed with gzip: several times smaller, but slower to write. */
+    COMPRESSED_XML,
+    /** Xml with a journal of the changes made since the file was last written in full, so a save only appends. */
+    JOURNAL,
+    /** A journal as above, with the xml file compressed with gzip. */
+    COMPRESSED_JOURNAL,
+    /** A compact binary snapshot, faster to load than xml. */
+    BINARY,
+    /** A table in an embedded database, changed a row at a time and indexed for lookups by other tools. */
+    DATABASE
+}
@@ -2,14 +2,20 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.BooleanSupplier;
+
 import javafx.scene.image.Image;
 import seedu.address.MainApp;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * A container for App specific utility functions
  */
 public class AppUtil {
 
+    // whether the values constructed on a thread are read back from a verified data file, see readSavedData
+    private static final ThreadLocal<Boolean> isReadingSavedData = ThreadLocal.withInitial(() -> false);
+
     public static Image getImage(String imagePath) {
         requireNonNull(imagePath);
         return new Image(MainApp.class.getResourceAsStream(imagePath));
@@ -36,4 +42,48 @@ public class AppUtil {
             throw new IllegalArgumentException(errorMessage);
         }
     }
+
+    /**
+     * Checks that {@code condition} is true, unless the argument is read back from a verified data file by
+     * {@link #readSavedData(SavedDataReader)}, in which case {@code condition} is not evaluated.
+     * Used for validating arguments to the constructors of values that are saved to data files.
+     *
+     * @throws IllegalArgumentException with {@code errorMessage} if {@code condition} is false.
+     */
+    public static void checkArgument(BooleanSupplier condition, String errorMessage) {
+        if (!isReadingSavedData()) {
+            checkArgument(condition.getAsBoolean(), errorMessage);
+        }
+    }
+
+    /**
+     * Returns true if the values constructed on this thread are read back from a verified data file by
+     * {@link #readSavedData(SavedDataReader)}, so they were valid, and formatted, when they were saved.
+     */
+    public static boolean isReadingSavedData() {
+        return isReadingSavedData.get();
+    }
+
+    /**
+     * Returns the record {@code reader} reads back from a data file whose checksum shows it is as the app saved it.
+     * The values it constructs on this thread are not validated again by
+     * {@link #checkArgument(BooleanSupplier, String)}.
+     */
+    public static <T> T readSavedData(SavedDataReader<T> reader) throws IllegalValueException {
+        boolean wasReadingSavedData = isReadingSavedData();
+        isReadingSavedData.set(true);
+        try {
+            return reader.read();
+        } finally {
+            isReadingSavedData.set(wasReadingSavedData);
+        }
+    }
+
+    /**
+     * Reads a record back from a data file.
+     */
+    @FunctionalInterface
+    public interface SavedDataReader<T> {
+        T read() throws IllegalValueException;
+    }
 }
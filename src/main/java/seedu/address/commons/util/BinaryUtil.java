@@ -0,0 +1,192 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Reads and writes lists of records, each a list of string fields, in a compact binary format.
+ *
+ * <p>A file holds a header of {@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}, a table of the distinct strings in
+ * its records, then the records. Each record is stored as its number of fields followed by the position of each field
+ * in the string table, so a string repeated across records, such as an employee id or a date, is stored and read
+ * into memory once. A missing field is stored as position -1.
+ */
+public class BinaryUtil {
+
+    public static final int MAGIC_NUMBER = 0x534E4150; // "SNAP"
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int NULL_FIELD = -1;
+
+    /**
+     * Returns true if {@code file} starts with the header of a file in this format.
+     *
+     * @throws IOException Thrown if there is an error reading the file.
+     */
+    public static boolean isBinaryFile(Path file) throws IOException {
+        requireNonNull(file);
+
+        byte[] header = new byte[Integer.BYTES];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read = 0;
+            int count;
+            while (read < header.length && (count = in.read(header, read, header.length - read)) != -1) {
+                read += count;
+            }
+            return read == header.length && ByteBuffer.wrap(header).getInt() == MAGIC_NUMBER;
+        }
+    }
+
+    /**
+     * Reads the records in the file one at a time, passing the fields of each to {@code handler} before reading the
+     * next. The file is mapped into memory rather than read through a stream.
+     *
+     * @throws FileNotFoundException   Thrown if the file is missing.
+     * @throws DataConversionException Thrown if the file does not have the correct format.
+     * @throws IOException             Thrown if there is an error reading the file.
+     * @throws E                       Thrown if {@code handler} throws it, after which no more records are read.
+     */
+    public static <E extends Exception> void readRecordsFromFile(Path file, RecordHandler<E> handler)
+            throws DataConversionException, IOException, E {
+        requireNonNull(file);
+        requireNonNull(handler);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                if (buffer.getInt() != MAGIC_NUMBER) {
+                    throw new DataConversionException(new IOException("Not a binary data file: " + file));
+                }
+                int version = buffer.getInt();
+                if (version != FORMAT_VERSION) {
+                    throw new DataConversionException(new IOException("Unsupported format version: " + version));
+                }
+
+                String[] strings = new String[readCount(buffer)];
+                for (int i = 0; i < strings.length; i++) {
+                    byte[] bytes = new byte[readCount(buffer)];
+                    buffer.get(bytes);
+                    strings[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+
+                int recordCount = readCount(buffer);
+                for (int i = 0; i < recordCount; i++) {
+                    String[] fields = new String[readCount(buffer)];
+                    for (int j = 0; j < fields.length; j++) {
+                        int index = buffer.getInt();
+                        if (index < NULL_FIELD || index >= strings.length) {
+                            throw new DataConversionException(new IOException("Invalid string index: " + index));
+                        }
+                        fields[j] = index == NULL_FIELD ? null : strings[index];
+                    }
+                    handler.handle(fields);
+                }
+            } catch (BufferUnderflowException e) {
+                throw new DataConversionException(new IOException("Unexpected end of file: " + file, e));
+            }
+        }
+    }
+
+    /**
+     * Saves {@code items} in the file, converting each to the fields of a record.
+     *
+     * @param file Points to a valid file.
+     *             Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if there is an error writing to the file.
+     */
+    public static <S> void saveRecordsToFile(Path file, Iterable<S> items, Function<? super S, String[]> converter)
+            throws IOException {
+        requireNonNull(file);
+        CollectionUtil.requireAllNonNull(items, converter);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        // the string table precedes the records, so the records are converted to string positions first
+        Map<String, Integer> stringIndex = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        List<int[]> records = new ArrayList<>();
+        for (S item : items) {
+            String[] fields = converter.apply(item);
+            int[] record = new int[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] == null) {
+                    record[i] = NULL_FIELD;
+                    continue;
+                }
+                Integer index = stringIndex.get(fields[i]);
+                if (index == null) {
+                    index = strings.size();
+                    stringIndex.put(fields[i], index);
+                    strings.add(fields[i]);
+                }
+                record[i] = index;
+            }
+            records.add(record);
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            out.writeInt(records.size());
+            for (int[] record : records) {
+                out.writeInt(record.length);
+                for (int index : record) {
+                    out.writeInt(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles the fields of a record read from a file.
+     */
+    @FunctionalInterface
+    public interface RecordHandler<E extends Exception> {
+        void handle(String[] fields) throws E;
+    }
+
+    /**
+     * Reads a count, which cannot be more than the bytes left in {@code buffer} as every item counted takes at least
+     * one byte.
+     */
+    private static int readCount(ByteBuffer buffer) throws DataConversionException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new DataConversionException(new IOException("Invalid count: " + count));
+        }
+        return count;
+    }
+}
@@ -4,9 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
+import javafx.collections.ObservableList;
+
 /**
  * Utility methods related to Collections
  */
@@ -32,4 +36,91 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns true if {@code list} is sorted according to {@code comparator}.
+     */
+    public static <T> boolean isSorted(List<? extends T> list, Comparator<? super T> comparator) {
+        for (int i = 1; i < list.size(); i++) {
+            if (comparator.compare(list.get(i - 1), list.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Inserts {@code item} into {@code sortedList} after every element that does not sort after it,
+     * so that the list stays sorted according to {@code comparator}.
+     * Uses a binary search, so that only the insertion itself touches the rest of the list.
+     */
+    public static <T> void addSorted(List<T> sortedList, T item, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = sortedList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(sortedList.get(middle), item) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        sortedList.add(low, item);
+    }
+
+    /**
+     * Replaces the element at {@code index} of {@code sortedList} with {@code item}, keeping the list sorted
+     * according to {@code comparator}.
+     * The element is replaced in place if {@code item} still sorts between its neighbours, and is otherwise moved
+     * to its sorted position.
+     */
+    public static <T> void setSorted(List<T> sortedList, int index, T item, Comparator<? super T> comparator) {
+        boolean isAfterPrevious = index == 0 || comparator.compare(sortedList.get(index - 1), item) <= 0;
+        boolean isBeforeNext = index == sortedList.size() - 1
+                || comparator.compare(item, sortedList.get(index + 1)) <= 0;
+        if (isAfterPrevious && isBeforeNext) {
+            sortedList.set(index, item);
+            return;
+        }
+        sortedList.remove(index);
+        addSorted(sortedList, item, comparator);
+    }
+
+    /**
+     * Replaces the contents of {@code list} with {@code replacement}, changing only the elements that differ.
+     * The elements both lists start and end with are kept, and the elements between them are replaced position by
+     * position, so listeners of {@code list} are told about the changed elements instead of a whole new list.
+     * Falls back to {@code setAll} if the lists share neither their first nor their last element.
+     * Elements are kept only if they are the same objects as those replacing them, as elements that are equal may
+     * still differ in fields that {@code equals} does not compare.
+     */
+    public static <T> void setAllChanged(ObservableList<T> list, List<? extends T> replacement) {
+        int common = Math.min(list.size(), replacement.size());
+        int prefix = 0;
+        while (prefix < common && list.get(prefix) == replacement.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < common - prefix
+                && list.get(list.size() - 1 - suffix) == replacement.get(replacement.size() - 1 - suffix)) {
+            suffix++;
+        }
+        if (prefix == 0 && suffix == 0) {
+            list.setAll(replacement);
+            return;
+        }
+
+        int oldEnd = list.size() - suffix;
+        int newEnd = replacement.size() - suffix;
+        for (int i = prefix; i < Math.min(oldEnd, newEnd); i++) {
+            if (list.get(i) != replacement.get(i)) {
+                list.set(i, replacement.get(i));
+            }
+        }
+        if (oldEnd > newEnd) {
+            list.remove(newEnd, oldEnd);
+        } else if (newEnd > oldEnd) {
+            list.addAll(oldEnd, replacement.subList(oldEnd, newEnd));
+        }
+    }
 }
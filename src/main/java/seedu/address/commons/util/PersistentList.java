@@ -0,0 +1,233 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares structure with the lists it is derived from.
+ * Elements are held in a height-balanced (AVL) tree ordered by position, so inserting, replacing and removing an
+ * element at any position returns a new list in O(log n) time while copying only O(log n) nodes; every other node
+ * is shared with the original list, which is left unchanged.
+ * Does not allow nulls.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list holding {@code elements} in the same order, built in O(n) time.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        CollectionUtil.requireAllNonNull(elements);
+        if (elements.isEmpty()) {
+            return empty();
+        }
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> with(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<T> plus(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<T> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmost(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                pushLeftmost(node.right);
+                return node.value;
+            }
+
+            private void pushLeftmost(Node<T> node) {
+                for (Node<T> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static <T> Node<T> build(List<? extends T> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return node(elements.get(middle), build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return node(node.value, set(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return node(node.value, node.left, set(node.right, index - leftSize - 1, element));
+        }
+        return node(element, node.left, node.right);
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (node == null) {
+            return node(element, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(first.value, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node holding {@code value} between {@code left} and {@code right}, rotated so that the heights of
+     * its subtrees differ by at most one. The heights of {@code left} and {@code right} may differ by at most two.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return node(left.value, left.left, node(value, left.right, right));
+            }
+            return node(left.right.value, node(left.value, left.left, left.right.left),
+                    node(value, left.right.right, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return node(right.value, node(value, left, right.left), right.right);
+            }
+            return node(right.left.value, node(value, left, right.left.left),
+                    node(right.value, right.left.right, right.right));
+        }
+        return node(value, left, right);
+    }
+
+    private static <T> Node<T> node(T value, Node<T> left, Node<T> right) {
+        return new Node<>(value, left, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node, holding one element and the size and height of its subtree.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps a {@code PersistentList} holding the same elements as an {@code ObservableList}.
+ * Every change to the observed list is applied to the persistent list as it happens, so {@link #current()} returns
+ * an immutable copy of the observed list in O(1) time, and successive copies share all unchanged elements.
+ */
+public class PersistentListMirror<T> {
+
+    private PersistentList<T> current;
+
+    public PersistentListMirror(ObservableList<T> source) {
+        requireNonNull(source);
+        current = PersistentList.of(source);
+        source.addListener(this::apply);
+    }
+
+    /**
+     * Returns an immutable copy of the observed list as it is now.
+     */
+    public PersistentList<T> current() {
+        return current;
+    }
+
+    private void apply(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                current = PersistentList.of(change.getList());
+                return;
+            }
+            if (change.getFrom() == 0 && change.getRemovedSize() == current.size()) {
+                // the whole list was replaced, as by setAll
+                current = PersistentList.of(change.getAddedSubList());
+                continue;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                current = current.minus(change.getFrom());
+            }
+            List<? extends T> added = change.getAddedSubList();
+            for (int i = 0; i < added.size(); i++) {
+                current = current.plus(change.getFrom() + i, added.get(i));
+            }
+        }
+    }
+}
@@ -2,20 +2,50 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * Helps with reading from and writing to XML files.
+ * Files compressed with gzip are recognised by their first bytes, and are read the same as uncompressed files.
  */
 public class XmlUtil {
 
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String INDENT = "    ";
+    private static final int GZIP_MAGIC_LENGTH = 2;
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    // creating a JAXBContext is expensive, and contexts are thread-safe, so one is created per class and reused
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,10 +67,13 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
-        return ((T) um.unmarshal(file.toFile()));
+        try (InputStream in = newInputStream(file)) {
+            return ((T) um.unmarshal(in));
+        } catch (IOException e) {
+            throw new JAXBException(e);
+        }
     }
 
     /**
@@ -61,11 +94,263 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Reads the elements named {@code elementName} directly inside the root element of the xml file one at a time,
+     * passing each to {@code handler} as an object of the specified type before reading the next.
+     * Unlike {@link #getDataFromFile(Path, Class)}, the data in the file is never held in memory all at once.
+     *
+     * @param file         Points to a valid xml file whose root element is named {@code rootName}.
+     *                     Cannot be null.
+     * @param elementClass The class corresponding to each element.
+     *                     Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if the file is empty or does not have the correct format.
+     * @throws E                     Thrown if {@code handler} throws it, after which no more elements are read.
+     */
+    public static <T, E extends Exception> void readElementsFromFile(Path file, String rootName, String elementName,
+            Class<T> elementClass, ElementHandler<T, E> handler) throws FileNotFoundException, JAXBException, E {
+
+        requireNonNull(file);
+        CollectionUtil.requireAllNonNull(rootName, elementName, elementClass, handler);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Unmarshaller um = getContext(elementClass).createUnmarshaller();
+        try (InputStream in = newInputStream(file)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                reader.nextTag();
+                if (!reader.getLocalName().equals(rootName)) {
+                    throw new JAXBException("Unexpected root element: " + reader.getLocalName());
+                }
+                reader.next();
+                while (reader.getEventType() != XMLStreamConstants.END_ELEMENT
+                        && reader.getEventType() != XMLStreamConstants.END_DOCUMENT) {
+                    if (reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+                        reader.next();
+                    } else if (reader.getLocalName().equals(elementName)) {
+                        // leaves the reader just after the end of the element
+                        handler.handle(um.unmarshal(reader, elementClass).getValue());
+                    } else {
+                        skipElement(reader);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IOException e) {
+            throw new JAXBException(e);
+        }
+    }
+
+    /**
+     * Saves {@code items} in the file in xml format, uncompressed.
+     * Equivalent to {@link #saveElementsToFile(Path, String, String, Class, Iterable, Function, boolean)} with
+     * {@code isCompressed} false.
+     */
+    public static <S, T> void saveElementsToFile(Path file, String rootName, String elementName,
+            Class<T> elementClass, Iterable<S> items, Function<? super S, T> converter)
+            throws IOException, JAXBException {
+        saveElementsToFile(file, rootName, elementName, elementClass, items, converter, false);
+    }
+
+    /**
+     * Saves {@code items} in the file in xml format, converting them to the specified type one at a time, as
+     * elements named {@code elementName} inside a root element named {@code rootName}.
+     * The file is laid out as {@link #saveDataToFile(Path, Object)} would lay out an object holding the converted
+     * items in a list, but the items are never all held in memory in their converted form.
+     *
+     * @param file         Points to a valid xml file.
+     *                     Cannot be null.
+     * @param isCompressed Whether the file is compressed with gzip, which makes it several times smaller but takes
+     *                     longer to write.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if there is an error writing to the file.
+     * @throws JAXBException         Thrown if there is an error during converting the data into xml.
+     */
+    public static <S, T> void saveElementsToFile(Path file, String rootName, String elementName,
+            Class<T> elementClass, Iterable<S> items, Function<? super S, T> converter, boolean isCompressed)
+            throws IOException, JAXBException {
+
+        requireNonNull(file);
+        CollectionUtil.requireAllNonNull(rootName, elementName, elementClass, items, converter);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Marshaller m = getContext(elementClass).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        QName elementQName = new QName(elementName);
+
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(newOutputStream(file, isCompressed),
+                StandardCharsets.UTF_8))) {
+            writer.write(XML_DECLARATION);
+            writer.write('\n');
+            boolean isEmpty = true;
+            for (S item : items) {
+                writer.write(isEmpty ? "<" + rootName + ">\n" : "\n");
+                isEmpty = false;
+                StringWriter element = new StringWriter();
+                m.marshal(new JAXBElement<>(elementQName, elementClass, converter.apply(item)), element);
+                writeIndented(writer, element.toString().trim());
+            }
+            writer.write(isEmpty ? "<" + rootName + "/>\n" : "\n</" + rootName + ">\n");
+        }
+    }
+
+    /**
+     * Returns {@code data} in xml format, as a single element named {@code elementName} without an xml declaration.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static <T> String toXmlElement(String elementName, Class<T> elementClass, T data) throws JAXBException {
+        CollectionUtil.requireAllNonNull(elementName, elementClass, data);
+
+        Marshaller m = getContext(elementClass).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        StringWriter element = new StringWriter();
+        m.marshal(new JAXBElement<>(new QName(elementName), elementClass, data), element);
+        return element.toString();
+    }
+
+    /**
+     * Returns the element in {@code xml}, as produced by {@link #toXmlElement(String, Class, Object)}, as an object
+     * of the specified type.
+     *
+     * @throws JAXBException Thrown if {@code xml} does not have the correct format.
+     */
+    public static <T> T fromXmlElement(String xml, Class<T> elementClass) throws JAXBException {
+        CollectionUtil.requireAllNonNull(xml, elementClass);
+
+        Unmarshaller um = getContext(elementClass).createUnmarshaller();
+        try {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(new StringReader(xml));
+            try {
+                reader.nextTag();
+                return um.unmarshal(reader, elementClass).getValue();
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new JAXBException(e);
+        }
+    }
+
+    /**
+     * Returns true if the file is compressed with gzip.
+     *
+     * @throws IOException Thrown if there is an error reading from the file.
+     */
+    public static boolean isCompressedFile(Path file) throws IOException {
+        requireNonNull(file);
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return isCompressed(in);
+        }
+    }
+
+    /**
+     * Handles an element read from an xml file.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T, E extends Exception> {
+        void handle(T element) throws E;
+    }
+
+    /**
+     * Opens the file for reading, uncompressing it if it is compressed with gzip.
+     */
+    private static InputStream newInputStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file));
+        try {
+            return isCompressed(in) ? new GZIPInputStream(in, GZIP_BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the file for writing, replacing its contents, and compresses what is written with gzip if
+     * {@code isCompressed}.
+     */
+    private static OutputStream newOutputStream(Path file, boolean isCompressed) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        try {
+            return isCompressed ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : out;
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if {@code in} starts with the gzip magic number, leaving it where it was.
+     * {@code in} must support {@link InputStream#mark(int)}.
+     */
+    private static boolean isCompressed(InputStream in) throws IOException {
+        in.mark(GZIP_MAGIC_LENGTH);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        return first != -1 && second != -1 && (first | (second << 8)) == GZIPInputStream.GZIP_MAGIC;
+    }
+
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            contexts.putIfAbsent(type, context);
+        }
+        return context;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Moves {@code reader} from the start of an element to just after its end.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        do {
+            if (reader.getEventType() == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (reader.getEventType() == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+            reader.next();
+        } while (depth > 0);
+    }
+
+    /**
+     * Writes the lines of a formatted element one level deeper than they are.
+     * Only lines starting with a tag are indented, as the other lines continue text that spans several lines.
+     */
+    private static void writeIndented(BufferedWriter writer, String element) throws IOException {
+        String[] lines = element.split("\n", -1);
+        for (int i = 0; i < lines.length; i++) {
+            if (i > 0) {
+                writer.write('\n');
+            }
+            if (lines[i].startsWith("<")) {
+                writer.write(INDENT);
+            }
+            writer.write(lines[i]);
+        }
+    }
 }
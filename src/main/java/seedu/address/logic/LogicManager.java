@@ -25,9 +25,19 @@ public class LogicManager extends ComponentManager implements Logic {
     private final Model model;
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
+    private final Runnable beforeCommand;
 
     public LogicManager(Model model) {
+        this(model, () -> { });
+    }
+
+    /**
+     * @param beforeCommand is run before each command is executed, such as to wait for data still being loaded into
+     *                      {@code model}.
+     */
+    public LogicManager(Model model, Runnable beforeCommand) {
         this.model = model;
+        this.beforeCommand = beforeCommand;
         history = new CommandHistory();
         addressBookParser = new AddressBookParser();
     }
@@ -36,6 +46,7 @@ public class LogicManager extends ComponentManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         try {
+            beforeCommand.run();
             Command command = addressBookParser.parseCommand(commandText);
             return command.execute(model, history);
         } finally {
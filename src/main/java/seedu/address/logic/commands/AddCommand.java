@@ -94,7 +94,7 @@ public class AddCommand extends Command {
         requireNonNull(model);
 
         // Checks for duplicated employee id
-        if (model.hasEmployeeId(toAdd)) {
+        if (model.hasEmployeeId(toAdd.getEmployeeId())) {
             EmployeeIdContainsKeywordsPredicate employeeIdPredicate =
                     new EmployeeIdContainsKeywordsPredicate(toAdd.getEmployeeId().value);
             model.updateFilteredPersonList(employeeIdPredicate);
@@ -10,8 +10,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 import seedu.address.logic.CommandHistory;
@@ -19,14 +17,12 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
-import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ExpensesAmount;
 import seedu.address.model.expenses.MedicalExpenses;
 import seedu.address.model.expenses.MiscellaneousExpenses;
 import seedu.address.model.expenses.TravelExpenses;
 import seedu.address.model.person.EmployeeId;
-import seedu.address.model.person.Person;
 
 /**
  * Adds an expense to the Expenses List.
@@ -58,7 +54,6 @@ public class AddExpensesCommand extends Command {
 
     private Boolean isNegativeLeftover;
     private Boolean isOverLimit;
-    private Person toCheckEmployeeId;
     private final Expenses toAddExpenses;
     private final EditExpensesDescriptor editExpensesDescriptor;
 
@@ -92,7 +87,6 @@ public class AddExpensesCommand extends Command {
         EmployeeId addEmployeeId = toAddFormatExpenses.getEmployeeId();
         toAddExpenses = new Expenses (addEmployeeId, formattedExpenses, formattedTravelExpenses,
                 formattedMedicalExpenses, formattedMiscellaneousExpenses);
-        toCheckEmployeeId = new Person(expenses.getEmployeeId());
         this.editExpensesDescriptor = new EditExpensesDescriptor(editExpensesDescriptor);
         isNegativeLeftover = false;
         isOverLimit = false;
@@ -101,7 +95,7 @@ public class AddExpensesCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         String messageToShow = "";
-        if (!model.hasEmployeeId(toCheckEmployeeId)) {
+        if (!model.hasEmployeeId(toAddExpenses.getEmployeeId())) {
             throw new CommandException(MESSAGE_EMPLOYEE_ID_NOT_FOUND);
         } else if (!model.hasExpenses(toAddExpenses)) {
             if (Double.parseDouble(toAddExpenses.getExpensesAmount().toString()) < 0
@@ -129,17 +123,7 @@ public class AddExpensesCommand extends Command {
                 messageToShow = MESSAGE_SUCCESS;
             }
         } else if (model.hasExpenses(toAddExpenses)) {
-            EmployeeIdExpensesContainsKeywordsPredicate predicatEmployeeId;
-            List<String> employeeIdList = new ArrayList<>();
-            List<Expenses> lastShownListExpenses;
-
-            employeeIdList.add(toCheckEmployeeId.getEmployeeId().value);
-            predicatEmployeeId = new EmployeeIdExpensesContainsKeywordsPredicate(employeeIdList);
-
-            model.updateFilteredExpensesList(predicatEmployeeId);
-            lastShownListExpenses = model.getFilteredExpensesList();
-
-            Expenses expensesToEdit = lastShownListExpenses.get(0);
+            Expenses expensesToEdit = model.findExpenses(toAddExpenses.getEmployeeId()).get();
             Expenses editedExpenses = createEditedExpenses(expensesToEdit, editExpensesDescriptor);
 
             if (getIsNegativeLeftover()) {
@@ -3,7 +3,9 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_DATE;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.Multimap;
@@ -89,7 +91,7 @@ public class AddLeavesCommand extends Command {
         Type work = new Type(Type.WORK);
         Multimap<EmployeeId, Date> employeeIdMapToWorks = TreeMultimap.create(
                 new EmployeeIdComparator(), new DateComparator());
-        boolean commit = false;
+        List<Schedule> schedulesToAdd = new ArrayList<>();
 
         //model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         if (model.getFilteredPersonList().size() == 0) {
@@ -106,18 +108,18 @@ public class AddLeavesCommand extends Command {
                     employeeIdMapToWorks.put(person.getEmployeeId(), date);
 
                 } else if (!model.hasSchedule(toLeaveSchedule)) {
-                    model.addSchedule(toLeaveSchedule);
-                    commit = true;
+                    schedulesToAdd.add(toLeaveSchedule);
                 }
             }
         }
+        boolean commit = !schedulesToAdd.isEmpty();
 
         String textFeedbackToUser = getUserInteractionFeedback(employeeIdMapToWorks, commit, setOfDates);
         if (!commit) {
             throw new CommandException(String.format(textFeedbackToUser));
         }
 
-        model.commitScheduleList();
+        model.inTransaction(() -> schedulesToAdd.forEach(model::addSchedule));
         return new CommandResult(String.format(textFeedbackToUser));
     }
 
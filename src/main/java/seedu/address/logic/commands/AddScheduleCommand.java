@@ -11,7 +11,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.Type;
 
@@ -43,7 +42,6 @@ public class AddScheduleCommand extends Command {
     public static final String MESSAGE_HAS_LEAVE = "This employee has leave scheduled on same date!";
     public static final String MESSAGE_EMPLOYEE_ID_NOT_FOUND = "Employee Id not found in address book";
 
-    private Person toCheckEmployeeId;
     private final Schedule toAddSchedule;
 
     /**
@@ -53,7 +51,6 @@ public class AddScheduleCommand extends Command {
     public AddScheduleCommand(Schedule schedule) {
         requireAllNonNull(schedule);
         this.toAddSchedule = schedule;
-        toCheckEmployeeId = new Person(schedule.getEmployeeId());
     }
 
     /**
@@ -74,7 +71,7 @@ public class AddScheduleCommand extends Command {
         Type work = new Type(Type.WORK);
         Type leave = new Type(Type.LEAVE);
 
-        if (!model.hasEmployeeId(toCheckEmployeeId)) {
+        if (!model.hasEmployeeId(toAddSchedule.getEmployeeId())) {
             throw new CommandException(MESSAGE_EMPLOYEE_ID_NOT_FOUND);
 
         } else if (model.hasSchedule(toAddSchedule)) {
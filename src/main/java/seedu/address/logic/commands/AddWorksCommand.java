@@ -3,7 +3,9 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_DATE;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.Multimap;
@@ -86,7 +88,7 @@ public class AddWorksCommand extends Command {
         Type leave = new Type(Type.LEAVE);
         Multimap<EmployeeId, Date> employeeIdMapToLeaves = TreeMultimap.create(
                 new EmployeeIdComparator(), new DateComparator());
-        boolean commit = false;
+        List<Schedule> schedulesToAdd = new ArrayList<>();
 
         //model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         if (model.getFilteredPersonList().size() == 0) {
@@ -101,16 +103,16 @@ public class AddWorksCommand extends Command {
                 if (model.hasSchedule(hasLeaveSchedule)) {
                     employeeIdMapToLeaves.put(person.getEmployeeId(), date);
                 } else if (!model.hasSchedule(toAddSchedule)) {
-                    commit = true;
-                    model.addSchedule(toAddSchedule);
+                    schedulesToAdd.add(toAddSchedule);
                 }
             }
         }
+        boolean commit = !schedulesToAdd.isEmpty();
         String textFeedbackToUser = getUserInteractionFeedback(employeeIdMapToLeaves, commit, setOfDates);
         if (!commit) {
             throw new CommandException(textFeedbackToUser);
         }
-        model.commitScheduleList();
+        model.inTransaction(() -> schedulesToAdd.forEach(model::addSchedule));
         return new CommandResult(textFeedbackToUser);
     }
 
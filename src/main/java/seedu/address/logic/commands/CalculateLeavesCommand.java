@@ -7,16 +7,10 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.EmployeeId;
-import seedu.address.model.person.Person;
-import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
-import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.Type;
 import seedu.address.model.schedule.Year;
 
@@ -47,9 +41,10 @@ public class CalculateLeavesCommand extends Command {
     public static final String MESSAGE_NO_SCHEDULE_FOUND = "No leaves found for the employee in that year!";
     public static final String MESSAGE_EMPLOYEE_ID_NOT_FOUND = "Employee Id not found in system!";
 
+    private static final Type LEAVE = new Type(Type.LEAVE);
+
     private final Year year;
     private final EmployeeId employeeId;
-    private Person toCheckEmployeeId;
 
     /**
      * CalculateLeavesCommand
@@ -61,14 +56,13 @@ public class CalculateLeavesCommand extends Command {
         requireAllNonNull(year);
         this.employeeId = id;
         this.year = year;
-        toCheckEmployeeId = new Person(id);
     }
 
     /**
      * CalculateLeavesCommand execution.
      * <p>
      *     Calculates total number of leaves scheduled for an employee
-     *     for the entire specified year in the schedule list.
+     *     for the entire specified year in the schedule list, from the running counts kept by the model.
      * </p>
      * @param model {@code Model} which the command will operate on the model.
      * @param history {@code CommandHistory} which the command history will be added.
@@ -77,29 +71,17 @@ public class CalculateLeavesCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
-        int numLeaves = 0;
-
-        if (!model.hasEmployeeId(toCheckEmployeeId)) {
+        if (!model.hasEmployeeId(employeeId)) {
             throw new CommandException(MESSAGE_EMPLOYEE_ID_NOT_FOUND);
         }
 
-        List<String> employeeIdList = new ArrayList<>();
-        employeeIdList.add(employeeId.value);
-        EmployeeIdScheduleContainsKeywordsPredicate employeeIdPredicate =
-                new EmployeeIdScheduleContainsKeywordsPredicate(employeeIdList);
-        model.updateFilteredScheduleList(employeeIdPredicate);
-
-        if (model.getFilteredScheduleList().size() == 0) {
+        // counting only needs the schedules of the year, and finding any schedule only reads the years that may hold
+        // the employee's schedules when none of those already read does
+        int numLeaves = model.countSchedules(employeeId, year, LEAVE);
+        if (numLeaves == 0 && !model.hasSchedules(employeeId)) {
             throw new CommandException(MESSAGE_NO_SCHEDULE_FOUND);
         }
 
-        for (Schedule schedule : model.getFilteredScheduleList()) {
-            if (schedule.getScheduleYear().equals(year.toString())
-                    && schedule.getType().toString().equals(Type.LEAVE)) {
-                numLeaves++;
-            }
-        }
-
         model.updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
@@ -4,22 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.ModelTypes;
-import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.person.Person;
-import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
-import seedu.address.model.schedule.Schedule;
 
 /**
  * The {@code DeleteCommand} class is used for deleting a person identified using it's
@@ -45,8 +39,8 @@ public class DeleteCommand extends Command {
      * <p>
      *     Checks if schedule storage has schedule/expenses data containing the same employee id
      *     as the person to delete, if so, clear it.
-     *     {@code Set<ModelTypes> set} takes note of the set of storage involved in clearing.
-     *     Important for undo and redo command to work properly.
+     *     The deletions are made in a single model transaction, so the storages involved are saved and
+     *     committed together, which is important for undo and redo command to work properly.
      * </p>
      * @param model {@code Model} which the command will operate on the model.
      * @param history {@code CommandHistory} which the command history will be added.
@@ -64,19 +58,11 @@ public class DeleteCommand extends Command {
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
 
-        Set<ModelTypes> set = new HashSet<>();
-        set.add(ModelTypes.ADDRESS_BOOK);
-        model.deletePerson(personToDelete);
-
-        if (deleteAllSchedulesFromPerson(model, personToDelete)) {
-            set.add(ModelTypes.SCHEDULES_LIST);
-        }
-
-        if (deleteAllExpensesFromPerson (model, personToDelete)) {
-            set.add(ModelTypes.EXPENSES_LIST);
-        }
-
-        model.commitMultipleLists(set);
+        model.inTransaction(() -> {
+            model.deletePerson(personToDelete);
+            deleteAllSchedulesFromPerson(model, personToDelete);
+            deleteAllExpensesFromPerson(model, personToDelete);
+        });
 
         model.updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
         model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
@@ -99,60 +85,30 @@ public class DeleteCommand extends Command {
     /**
      * Deletes all expenses related to person
      * <p>
-     *     Runs a O(n) loop on the expenses list to delete all expenses containing
-     *     the employee id of the person to delete.
+     *     Looks up the expenses of the person to delete by employee id, without scanning or
+     *     filtering the expenses list.
      * </p>
      * @param model which the command will operate on the model.
      * @param personToDelete Person to delete from the address book
      * @return True if at least 1 expenses is deleted
      */
     public boolean deleteAllExpensesFromPerson (Model model, Person personToDelete) {
-        EmployeeIdExpensesContainsKeywordsPredicate predicatEmployeeId;
-        List<String> employeeIdList = new ArrayList<>();
-        List<Expenses> lastShownListExpenses;
-
-        employeeIdList.add(personToDelete.getEmployeeId().value);
-        predicatEmployeeId = new EmployeeIdExpensesContainsKeywordsPredicate(employeeIdList);
-        model.updateFilteredExpensesList(predicatEmployeeId);
-        lastShownListExpenses = model.getFilteredExpensesList();
-        if (lastShownListExpenses.size() == 0) {
-            return false;
-        }
-
-        while (lastShownListExpenses.size() != 0) {
-            Expenses expenseToDelete = lastShownListExpenses.get(0);
-            model.deleteExpenses(expenseToDelete);
-        }
-        return true;
+        Optional<Expenses> expensesToDelete = model.findExpenses(personToDelete.getEmployeeId());
+        expensesToDelete.ifPresent(model::deleteExpenses);
+        return expensesToDelete.isPresent();
     }
 
     /**
      * Deletes all schedules related to person
      * <p>
-     *     Runs a O(n) loop on the schedule list to delete all schedules containing
-     *     the employee id of the person to delete
+     *     Removes the schedules of the person to delete by employee id in a single pass,
+     *     without filtering the schedule list.
      * </p>
      * @param model which the command will operate on the model.
      * @param personToDelete Person to delete from the address book
-     * @return True if at least 1 expenses is deleted
+     * @return True if at least 1 schedule is deleted
      */
     public boolean deleteAllSchedulesFromPerson (Model model, Person personToDelete) {
-        EmployeeIdScheduleContainsKeywordsPredicate predicatEmployeeId;
-        List<String> employeeIdList = new ArrayList<>();
-        List<Schedule> lastShownListSchedule;
-
-        employeeIdList.add(personToDelete.getEmployeeId().value);
-        predicatEmployeeId = new EmployeeIdScheduleContainsKeywordsPredicate(employeeIdList);
-        model.updateFilteredScheduleList(predicatEmployeeId);
-        lastShownListSchedule = model.getFilteredScheduleList();
-        if (lastShownListSchedule.size() == 0) {
-            return false;
-        }
-
-        while (lastShownListSchedule.size() != 0) {
-            Schedule scheduleToDelete = lastShownListSchedule.get(0);
-            model.deleteSchedule(scheduleToDelete);
-        }
-        return true;
+        return model.deleteSchedules(personToDelete.getEmployeeId());
     }
 }
@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_DATE;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.CommandHistory;
@@ -66,7 +68,7 @@ public class DeleteLeavesCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         Type leave = new Type(Type.LEAVE);
-        boolean commit = false;
+        List<Schedule> schedulesToDelete = new ArrayList<>();
 
         if (model.getFilteredPersonList().size() == 0) {
             throw new CommandException(MESSAGE_NO_PERSON_FOUND);
@@ -75,17 +77,16 @@ public class DeleteLeavesCommand extends Command {
             for (Person person : model.getFilteredPersonList()) {
                 Schedule toDeleteSchedule = new Schedule(person.getEmployeeId(), leave , date);
                 if (model.hasSchedule(toDeleteSchedule)) {
-                    model.deleteSchedule(toDeleteSchedule);
-                    commit = true;
+                    schedulesToDelete.add(toDeleteSchedule);
                 }
             }
         }
 
-        if (!commit) {
+        if (schedulesToDelete.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_PERSON_ALL_DELETED_LEAVE, setOfDates));
         }
 
-        model.commitScheduleList();
+        model.inTransaction(() -> schedulesToDelete.forEach(model::deleteSchedule));
         return new CommandResult(String.format(MESSAGE_SUCCESS, setOfDates));
     }
 
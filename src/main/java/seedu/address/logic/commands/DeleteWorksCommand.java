@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_DATE;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.CommandHistory;
@@ -67,7 +69,7 @@ public class DeleteWorksCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         Type work = new Type(Type.WORK);
-        boolean commit = false;
+        List<Schedule> schedulesToDelete = new ArrayList<>();
 
         if (model.getFilteredPersonList().size() == 0) {
             throw new CommandException(MESSAGE_NO_PERSON_FOUND);
@@ -77,17 +79,16 @@ public class DeleteWorksCommand extends Command {
             for (Person person : model.getFilteredPersonList()) {
                 Schedule toDeleteSchedule = new Schedule(person.getEmployeeId(), work , date);
                 if (model.hasSchedule(toDeleteSchedule)) {
-                    commit = true;
-                    model.deleteSchedule(toDeleteSchedule);
+                    schedulesToDelete.add(toDeleteSchedule);
                 }
             }
         }
 
-        if (!commit) {
+        if (schedulesToDelete.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_PERSON_ALL_DELETED_WORK, setOfDates));
         }
 
-        model.commitScheduleList();
+        model.inTransaction(() -> schedulesToDelete.forEach(model::deleteSchedule));
         return new CommandResult(String.format(MESSAGE_SUCCESS, setOfDates));
     }
 
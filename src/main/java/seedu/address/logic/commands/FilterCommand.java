@@ -8,6 +8,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
@@ -16,6 +17,7 @@ import seedu.address.model.Model;
 import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.person.DepartmentContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
 import seedu.address.model.person.PositionContainsKeywordsPredicate;
 import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
 
@@ -86,15 +88,24 @@ public class FilterCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        String allAvailableDepartments = listAvailableDepartments(model);
-        String allAvailablePositions = listAvailablePositions(model);
-
-        if (isDepartmentPrefixPresent && !isPositionPrefixPresent) {
-            model.updateFilteredPersonList(departmentPredicate, sortOrder);
-        } else if (isPositionPrefixPresent && !isDepartmentPrefixPresent) {
-            model.updateFilteredPersonList(positionPredicate, sortOrder);
-        } else if (isDepartmentPrefixPresent && isPositionPrefixPresent) {
-            model.updateFilteredPersonList(departmentPredicate.and(positionPredicate), sortOrder);
+        Set<Person> matchedPersons = null;
+
+        if (isDepartmentPrefixPresent) {
+            matchedPersons = model.findPersonsBy(PersonAttribute.DEPARTMENT, departmentPredicate::matches);
+        }
+        if (isPositionPrefixPresent) {
+            Set<Person> positionMatches = model.findPersonsBy(PersonAttribute.POSITION, positionPredicate::matches);
+            if (matchedPersons == null) {
+                matchedPersons = positionMatches;
+            } else {
+                matchedPersons.retainAll(positionMatches);
+            }
+        }
+
+        if (matchedPersons == null) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        } else {
+            model.updateFilteredPersonList(matchedPersons::contains, sortOrder);
         }
 
         EmployeeIdExpensesContainsKeywordsPredicate expensesPredicate = generateEmployeeIdExpensesPredicate(model);
@@ -102,7 +113,8 @@ public class FilterCommand extends Command {
         model.updateFilteredExpensesList(expensesPredicate);
         model.updateFilteredScheduleList(schedulePredicate);
 
-        return new CommandResult(feedbackToUser(model, allAvailableDepartments, allAvailablePositions));
+        return new CommandResult(feedbackToUser(model, listAvailableDepartments(model),
+                listAvailablePositions(model)));
     }
 
     @Override
@@ -121,16 +133,7 @@ public class FilterCommand extends Command {
      * @param model The actual model
      */
     public String listAvailableDepartments(Model model) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        List<Person> getFullList = model.getFilteredPersonList();
-        Set<String> allDepartments = new HashSet<>();
-
-        for (Person department : getFullList) {
-            allDepartments.add(department.getDepartment().toString().toUpperCase());
-        }
-
-        String availableDepartments = String.join(", ", allDepartments);
+        String availableDepartments = listCounts(model.countPersonsBy(PersonAttribute.DEPARTMENT));
 
         return "\nAvailable Departments: " + availableDepartments;
     }
@@ -141,20 +144,21 @@ public class FilterCommand extends Command {
      * @param model The actual model
      */
     public String listAvailablePositions(Model model) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        List<Person> getFullList = model.getFilteredPersonList();
-        Set<String> allPositions = new HashSet<>();
-
-        for (Person position : getFullList) {
-            allPositions.add(position.getPosition().toString().toUpperCase());
-        }
-
-        String availablePositions = String.join(", ", allPositions);
+        String availablePositions = listCounts(model.countPersonsBy(PersonAttribute.POSITION));
 
         return "\nAvailable Positions: " + availablePositions;
     }
 
+    /**
+     * Creates and returns a {@code String} that lists each value in {@code counts} with its number of employees.
+     * @param counts The number of employees having each value
+     */
+    private static String listCounts(Map<String, Integer> counts) {
+        List<String> valuesWithCounts = new ArrayList<>();
+        counts.forEach((value, count) -> valuesWithCounts.add(value + " (" + count + ")"));
+        return String.join(", ", valuesWithCounts);
+    }
+
     /**
      * Creates and returns a {@code EmployeeIdExpensesContainsKeywordsPredicate} that contains all the employee ID(s)
      * that matches the matched persons' employee ID.
@@ -162,7 +166,7 @@ public class FilterCommand extends Command {
      */
     public EmployeeIdExpensesContainsKeywordsPredicate generateEmployeeIdExpensesPredicate(Model model) {
         List<Person> getFilteredList = model.getFilteredPersonList();
-        List<String> matchedEmployeeIds = new ArrayList<>();
+        Set<String> matchedEmployeeIds = new HashSet<>();
 
         for (Person person : getFilteredList) {
             matchedEmployeeIds.add(person.getEmployeeId().value);
@@ -178,7 +182,7 @@ public class FilterCommand extends Command {
      */
     public EmployeeIdScheduleContainsKeywordsPredicate generateEmployeeIdSchedulePredicate(Model model) {
         List<Person> getFilteredList = model.getFilteredPersonList();
-        List<String> matchedEmployeeIds = new ArrayList<>();
+        Set<String> matchedEmployeeIds = new HashSet<>();
 
         for (Person person : getFilteredList) {
             matchedEmployeeIds.add(person.getEmployeeId().value);
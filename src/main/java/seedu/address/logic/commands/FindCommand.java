@@ -1,10 +1,10 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
@@ -13,7 +13,6 @@ import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.EmployeeIdContainsKeywordsPredicate;
 import seedu.address.model.person.Name;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
 
@@ -36,7 +35,6 @@ public class FindCommand extends Command {
 
     private final String keyword;
     private EmployeeIdContainsKeywordsPredicate employeeIdPredicate;
-    private NameContainsKeywordsPredicate namePredicate;
     private boolean isInputName;
     private boolean isInputEmployeeId;
 
@@ -69,8 +67,8 @@ public class FindCommand extends Command {
         requireNonNull(model);
 
         if (isInputName && !isInputEmployeeId) {
-            namePredicate = generateNamesPredicate(model, keyword);
-            model.updateFilteredPersonList(namePredicate);
+            Set<Person> matchedPersons = model.findPersonsByName(keyword);
+            model.updateFilteredPersonList(matchedPersons::contains);
         } else if (!isInputName && isInputEmployeeId) {
             employeeIdPredicate = new EmployeeIdContainsKeywordsPredicate(keyword);
             model.updateFilteredPersonList(employeeIdPredicate);
@@ -99,7 +97,7 @@ public class FindCommand extends Command {
      */
     public EmployeeIdExpensesContainsKeywordsPredicate generateEmployeeIdExpensesPredicate(Model model) {
         List<Person> getFilteredList = model.getFilteredPersonList();
-        List<String> matchedEmployeeIds = new ArrayList<>();
+        Set<String> matchedEmployeeIds = new HashSet<>();
 
         for (Person person : getFilteredList) {
             matchedEmployeeIds.add(person.getEmployeeId().value);
@@ -116,7 +114,7 @@ public class FindCommand extends Command {
      */
     public EmployeeIdScheduleContainsKeywordsPredicate generateEmployeeIdSchedulePredicate(Model model) {
         List<Person> getFilteredList = model.getFilteredPersonList();
-        List<String> matchedEmployeeIds = new ArrayList<>();
+        Set<String> matchedEmployeeIds = new HashSet<>();
 
         for (Person person : getFilteredList) {
             matchedEmployeeIds.add(person.getEmployeeId().value);
@@ -124,25 +122,4 @@ public class FindCommand extends Command {
 
         return new EmployeeIdScheduleContainsKeywordsPredicate(matchedEmployeeIds);
     }
-
-    /**
-     * Creates and returns a {@code NameContainsKeywordsPredicate} that holds all the name(s) that contains
-     * the input keyword.
-     * @param model The actual model
-     * @param keyword The user's input
-     */
-    public NameContainsKeywordsPredicate generateNamesPredicate (Model model, String keyword) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        List<Person> getFullList = model.getFilteredPersonList();
-        List<String> matchingNames = new ArrayList<>();
-
-        for (Person name : getFullList) {
-            if (name.getName().fullName.toLowerCase().contains(keyword.toLowerCase())) {
-                matchingNames.add(name.getName().fullName);
-            }
-        }
-
-        return new NameContainsKeywordsPredicate(matchingNames);
-    }
 }
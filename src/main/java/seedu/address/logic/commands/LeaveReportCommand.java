@@ -0,0 +1,95 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_YEAR;
+
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Type;
+import seedu.address.model.schedule.Year;
+
+/**
+ * The {@code LeaveReportCommand} class is used for listing the
+ * total number of leaves scheduled by every employee given a specified year.
+ *
+ * @see seedu.address.logic.parser.LeaveReportCommandParser class for the parser.
+ */
+public class LeaveReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "leaveReport";
+    public static final String COMMAND_ALIAS = "lr";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists total leaves scheduled for the year by every employee "
+            + "by specifying the year. "
+            + "\nParameters: "
+            + PREFIX_SCHEDULE_YEAR + "YYYY"
+            + "\nExample: "
+            + COMMAND_WORD + " "
+            + PREFIX_SCHEDULE_YEAR + "2019";
+
+    public static final String MESSAGE_SUCCESS = "Number of leaves scheduled for year %1$s:%2$s";
+    public static final String MESSAGE_EMPLOYEE_LEAVES = "\n%1$s %2$s: %3$s";
+    public static final String MESSAGE_NO_EMPLOYEE_FOUND = "No employees found in system!";
+
+    private static final Type LEAVE = new Type(Type.LEAVE);
+
+    private final Year year;
+
+    /**
+     * LeaveReportCommand
+     * @param year  Year to list leaves taken by every employee
+     */
+    public LeaveReportCommand(Year year) {
+        requireNonNull(year);
+        this.year = year;
+    }
+
+    /**
+     * LeaveReportCommand execution.
+     * <p>
+     *     Lists the number of leaves scheduled for every employee in the address book
+     *     for the entire specified year, from the running counts kept by the model.
+     * </p>
+     * @param model {@code Model} which the command will operate on the model.
+     * @param history {@code CommandHistory} which the command history will be added.
+     * @return CommandResult, String success feedback to the user.
+     * @throws CommandException  String failure feedback to the user if error in execution.
+     */
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<Person> persons = model.getAddressBook().getPersonList();
+
+        if (persons.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_EMPLOYEE_FOUND);
+        }
+
+        Map<EmployeeId, Integer> leaveCounts = model.countSchedules(year, LEAVE);
+        StringBuilder report = new StringBuilder();
+        for (Person person : persons) {
+            report.append(String.format(MESSAGE_EMPLOYEE_LEAVES, person.getEmployeeId(), person.getName(),
+                    leaveCounts.getOrDefault(person.getEmployeeId(), 0)));
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, year, report));
+    }
+
+    /**
+     * Compares if both objects are equal.
+     * @param other similar object type to be compared with.
+     * @return Boolean, True if both objects are equal based on the defined conditions.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LeaveReportCommand // instanceof handles nulls
+                && year.equals(((LeaveReportCommand) other).year));
+    }
+}
@@ -91,11 +91,11 @@ public class ModifyAllPayCommand extends Command {
             modifiedList.add(modifiedPerson);
         }
 
-        for (int i = 0; i < newList.size(); i++) {
-            model.updatePerson(newList.get(i), modifiedList.get(i));
-        }
-
-        model.commitAddressBook();
+        model.inTransaction(() -> {
+            for (int i = 0; i < newList.size(); i++) {
+                model.updatePerson(newList.get(i), modifiedList.get(i));
+            }
+        });
         return new CommandResult(String.format(MESSAGE_MODIFIED_PAY_OVERVIEW, lastShownList.size()));
     }
 
@@ -31,6 +31,7 @@ import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.LeaveReportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ModifyAllPayCommand;
 import seedu.address.logic.commands.ModifyPayCommand;
@@ -162,6 +163,10 @@ public class AddressBookParser {
         case CalculateLeavesCommand.COMMAND_WORD:
             return new CalculateLeavesCommandParser().parse(arguments);
 
+        case LeaveReportCommand.COMMAND_ALIAS:
+        case LeaveReportCommand.COMMAND_WORD:
+            return new LeaveReportCommandParser().parse(arguments);
+
         case SelectExpensesCommand.COMMAND_WORD:
         case SelectExpensesCommand.COMMAND_ALIAS:
             return new SelectExpensesCommandParser().parse(arguments);
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_OVERLOAD_PREFIX_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_YEAR;
+
+import java.util.StringTokenizer;
+
+import seedu.address.logic.commands.LeaveReportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.schedule.Year;
+
+/**
+ * Parses input arguments and creates a new {@code LeaveReportCommand} object
+ */
+public class LeaveReportCommandParser implements Parser<LeaveReportCommand> {
+
+    public static final int TOTAL_NUM_TOKEN_LEAVE_REPORT = 1;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LeaveReportCommand
+     * and returns an LeaveReportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LeaveReportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_SCHEDULE_YEAR);
+
+        StringTokenizer st = new StringTokenizer(args);
+        if (st.countTokens() > TOTAL_NUM_TOKEN_LEAVE_REPORT) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_OVERLOAD_PREFIX_FORMAT,
+                    LeaveReportCommand.MESSAGE_USAGE));
+        }
+
+        if (!argMultimap.getValue(PREFIX_SCHEDULE_YEAR).isPresent()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    LeaveReportCommand.MESSAGE_USAGE));
+        }
+
+        Year year = ParserUtil.parseYear(argMultimap.getValue(PREFIX_SCHEDULE_YEAR).get());
+
+        return new LeaveReportCommand(year);
+    }
+}
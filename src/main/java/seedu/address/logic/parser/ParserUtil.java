@@ -63,7 +63,7 @@ public class ParserUtil {
         if (!EmployeeId.isValidEmployeeId(trimmedEmployeeId)) {
             throw new ParseException(EmployeeId.MESSAGE_EMPLOYEEID_CONSTRAINTS);
         }
-        return new EmployeeId(trimmedEmployeeId);
+        return EmployeeId.of(trimmedEmployeeId);
     }
 
     /**
@@ -255,7 +255,7 @@ public class ParserUtil {
         if (!Department.isValidDepartment(trimmedDepartment)) {
             throw new ParseException(Department.MESSAGE_DEPARTMENT_CONSTRAINTS);
         }
-        return new Department(trimmedDepartment);
+        return Department.of(trimmedDepartment);
     }
 
     /**
@@ -270,7 +270,7 @@ public class ParserUtil {
         if (!Position.isValidPosition(trimmedPosition)) {
             throw new ParseException(Position.MESSAGE_POSITION_CONSTRAINTS);
         }
-        return new Position(trimmedPosition);
+        return Position.of(trimmedPosition);
     }
 
     /**
@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -8,11 +10,15 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Type;
+import seedu.address.model.schedule.Year;
 
 /**
  * The API of the Model component.
@@ -58,7 +64,50 @@ public interface Model {
     boolean hasPerson(Person person, Predicate<Person> predicate);
     boolean hasSchedule(Schedule schedule);
     boolean hasRecruitment(Recruitment recruitment);
-    boolean hasEmployeeId(Person person);
+
+    /**
+     * Returns true if a person with the given {@code employeeId} exists in the address book.
+     */
+    boolean hasEmployeeId(EmployeeId employeeId);
+
+    /**
+     * Returns the number of persons in the address book having each value of the given {@code attribute},
+     * ordered by value. Values are upper-cased.
+     */
+    Map<String, Integer> countPersonsBy(PersonAttribute attribute);
+
+    /**
+     * Returns the persons in the address book having a value of the given {@code attribute} accepted by
+     * {@code valueMatcher}. Values are upper-cased before being tested.
+     */
+    Set<Person> findPersonsBy(PersonAttribute attribute, Predicate<String> valueMatcher);
+
+    /**
+     * Returns the persons in the address book whose name contains {@code substring}, ignoring case.
+     */
+    Set<Person> findPersonsByName(String substring);
+
+    /**
+     * Returns the expenses of the employee with the given {@code employeeId}, if there is one.
+     */
+    Optional<Expenses> findExpenses(EmployeeId employeeId);
+
+    /**
+     * Returns true if at least one schedule of the employee with the given {@code employeeId} exists.
+     */
+    boolean hasSchedules(EmployeeId employeeId);
+
+    /**
+     * Returns the number of schedules of the given {@code type} in the given {@code year}
+     * for the employee with the given {@code employeeId}.
+     */
+    int countSchedules(EmployeeId employeeId, Year year, Type type);
+
+    /**
+     * Returns the number of schedules of the given {@code type} in the given {@code year} for every employee
+     * with at least one such schedule.
+     */
+    Map<EmployeeId, Integer> countSchedules(Year year, Type type);
 
     /**
      * Deletes the given person.
@@ -69,6 +118,12 @@ public interface Model {
     void deleteSchedule(Schedule target);
     void deleteRecruitmentPost(Recruitment target);
 
+    /**
+     * Deletes all schedules of the employee with the given {@code employeeId}.
+     * Returns true if at least one schedule was deleted.
+     */
+    boolean deleteSchedules(EmployeeId employeeId);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -148,4 +203,35 @@ public interface Model {
     void commitRecruitmentPostList();
     void commitMultipleLists(Set<ModelTypes> stack);
 
+    /**
+     * Starts a transaction. Until it ends, changes to the model are not sorted, refiltered or saved.
+     * Transactions cannot be nested.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the transaction, sorting and refiltering the lists changed in it, saving each of them once and committing
+     * them together for undo/redo.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the transaction, reverting the lists changed in it to their state when {@code beginTransaction()} was
+     * called. Changes made before the transaction began, but not yet committed, are kept.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Makes {@code changes} in a transaction, which is rolled back if {@code changes} throws.
+     */
+    default void inTransaction(Runnable changes) {
+        beginTransaction();
+        try {
+            changes.run();
+        } catch (RuntimeException | Error e) {
+            rollbackTransaction();
+            throw e;
+        }
+        commitTransaction();
+    }
 }
@@ -3,6 +3,14 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -23,15 +31,20 @@ import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ExpensesList;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
 import seedu.address.model.expenses.VersionedExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
 import seedu.address.model.recruitment.RecruitmentList;
 import seedu.address.model.recruitment.VersionedRecruitmentList;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleArchive;
 import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Type;
 import seedu.address.model.schedule.VersionedScheduleList;
+import seedu.address.model.schedule.Year;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -49,6 +62,17 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Expenses> filteredExpenses;
     private final FilteredList<Schedule> filteredSchedules;
     private final FilteredList<Recruitment> filteredRecruitment;
+    private final int undoHistoryLimit;
+    private final long undoHistoryByteLimit;
+
+    // The lists changed and the lists to show in full since the transaction in progress began, null outside one
+    private Set<ModelTypes> transactionChanges;
+    private Set<ModelTypes> transactionRefreshes;
+    // the number of uncommitted changes to each list when the transaction in progress began
+    private Map<ModelTypes, Integer> transactionMarks;
+
+    // where the schedules not read with the schedule list are read from when they are needed
+    private ScheduleArchive scheduleArchive = isNeeded -> Collections.emptyList();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -71,18 +95,96 @@ public class ModelManager extends ComponentManager implements Model {
         filteredSchedules = new FilteredList<>(versionedScheduleList.getScheduleList());
         filteredRecruitment = new FilteredList<>(versionedRecruitmentList.getRecruitmentList());
         versionedModelList = new VersionedModelList();
-
+        undoHistoryLimit = userPrefs.getUndoHistoryLimit();
+        undoHistoryByteLimit = userPrefs.getUndoHistoryByteLimit();
     }
 
     public ModelManager() {
         this(new AddressBook(), new ExpensesList(), new ScheduleList(), new RecruitmentList(), new UserPrefs());
     }
 
+    /**
+     * Replaces the expenses, schedule and recruitment lists with the data read from storage, when it finishes loading
+     * after this model was created. The data is not saved again, as it was just read, and cannot be undone.
+     * Must be called before any change is made to those lists.
+     */
+    public void loadInitialLists(ReadOnlyExpensesList expensesList, ReadOnlyScheduleList scheduleList,
+                                 ReadOnlyRecruitmentList recruitmentList) {
+        requireAllNonNull(expensesList, scheduleList, recruitmentList);
+        versionedExpensesList.loadInitialState(expensesList);
+        versionedScheduleList.loadInitialState(scheduleList);
+        versionedRecruitmentList.loadInitialState(recruitmentList);
+    }
+
+    /**
+     * Sets where the schedules not read with the schedule list, such as those of past years, are read from.
+     * They are added to the schedule list when a schedule of their year is looked up or changed.
+     */
+    public void setScheduleArchive(ScheduleArchive scheduleArchive) {
+        requireNonNull(scheduleArchive);
+        this.scheduleArchive = scheduleArchive;
+    }
+
+    /**
+     * Sets the directory the oldest changes to each list are moved to, once more than {@code undoHistoryLimit} changes
+     * to a list or more than {@code undoHistoryByteLimit} bytes of changes are kept in memory, and how the records of
+     * each list are written there. Until it is set, every change is kept in memory.
+     */
+    public void setUndoHistoryDirectory(Path directory, RecordCodec<Person> personCodec,
+                                        RecordCodec<Expenses> expensesCodec, RecordCodec<Schedule> scheduleCodec,
+                                        RecordCodec<Recruitment> recruitmentCodec) {
+        requireAllNonNull(directory, personCodec, expensesCodec, scheduleCodec, recruitmentCodec);
+        versionedAddressBook.getHistory().setSpillFile(directory, "addressbook", personCodec);
+        versionedExpensesList.getHistory().setSpillFile(directory, "expenses", expensesCodec);
+        versionedScheduleList.getHistory().setSpillFile(directory, "schedulelist", scheduleCodec);
+        versionedRecruitmentList.getHistory().setSpillFile(directory, "recruitmentlist", recruitmentCodec);
+        limitUndoHistory();
+    }
+
+    /**
+     * Adds the archived schedules of the years accepted by {@code isNeeded} to the schedule list. Adding them is not a
+     * change to the schedule list, so it is neither saved nor undone.
+     */
+    private void readArchivedSchedules(Predicate<Year> isNeeded) {
+        List<Schedule> archivedSchedules = scheduleArchive.read(isNeeded);
+        if (!archivedSchedules.isEmpty()) {
+            versionedScheduleList.loadArchivedSchedules(archivedSchedules);
+        }
+    }
+
+    /**
+     * Adds the archived schedules of the year of {@code schedule} to the schedule list.
+     */
+    private void readArchivedSchedules(Schedule schedule) {
+        Year year = new Year(schedule.getScheduleYear());
+        readArchivedSchedules(year::equals);
+    }
+
     public boolean canRedoModel() {
         return versionedModelList.canRedoStorage();
     }
+    /**
+     * The changes of the last command are read back into memory here if they were moved out of it, before any list
+     * is undone, so that a command is never partly undone, and a history that can no longer be read is not reported
+     * as undoable.
+     */
     public boolean canUndoModel() {
-        return versionedModelList.canUndoStorage();
+        if (!versionedModelList.canUndoStorage()) {
+            return false;
+        }
+        try {
+            for (ModelTypes myModel : versionedModelList.getLastCommitType()) {
+                getHistory(myModel).pageInLastCommit();
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warning("Undo history could not be read, earlier commands can no longer be undone: " + e);
+            for (ModelTypes myModel : ModelTypes.values()) {
+                getHistory(myModel).discardUndoableCommits();
+            }
+            versionedModelList.discardUndoable();
+            return false;
+        }
     }
     public Set<ModelTypes> getNextCommitType() {
         return versionedModelList.getNextCommitType();
@@ -95,24 +197,39 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void resetAddressBookData(ReadOnlyAddressBook newData) {
         versionedAddressBook.resetData(newData);
+        if (isDeferred(ModelTypes.ADDRESS_BOOK)) {
+            return;
+        }
         indicateAddressBookChanged();
     }
 
     @Override
     public void resetDataExpenses(ReadOnlyExpensesList newData) {
         versionedExpensesList.resetData(newData);
+        if (isDeferred(ModelTypes.EXPENSES_LIST)) {
+            return;
+        }
         indicateExpensesListChanged();
     }
 
     @Override
     public void resetScheduleListData(ReadOnlyScheduleList newData) {
+        // clearing the list touches every year, and the whole list is recorded, so it must hold every year for undo
+        // to restore them
+        readArchivedSchedules(year -> true);
         versionedScheduleList.resetData(newData);
+        if (isDeferred(ModelTypes.SCHEDULES_LIST)) {
+            return;
+        }
         indicateScheduleListChanged();
     }
 
     @Override
     public void resetRecruitmentListData(ReadOnlyRecruitmentList newData) {
         versionedRecruitmentList.resetData(newData);
+        if (isDeferred(ModelTypes.RECRUITMENT_LIST)) {
+            return;
+        }
         indicateRecruitmentListChanged();
     }
 
@@ -176,14 +293,63 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public boolean hasEmployeeId(Person person) {
-        requireNonNull(person);
-        return versionedAddressBook.hasEmployeeId(person);
+    public boolean hasEmployeeId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return versionedAddressBook.hasEmployeeId(employeeId);
+    }
+
+    @Override
+    public Map<String, Integer> countPersonsBy(PersonAttribute attribute) {
+        requireNonNull(attribute);
+        return versionedAddressBook.countPersonsBy(attribute);
+    }
+
+    @Override
+    public Set<Person> findPersonsBy(PersonAttribute attribute, Predicate<String> valueMatcher) {
+        requireAllNonNull(attribute, valueMatcher);
+        return versionedAddressBook.findPersonsBy(attribute, valueMatcher);
+    }
+
+    @Override
+    public Set<Person> findPersonsByName(String substring) {
+        requireNonNull(substring);
+        return versionedAddressBook.findPersonsByName(substring);
+    }
+
+    @Override
+    public Optional<Expenses> findExpenses(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return versionedExpensesList.findExpenses(employeeId);
+    }
+
+    @Override
+    public boolean hasSchedules(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        if (versionedScheduleList.hasSchedules(employeeId)) {
+            return true;
+        }
+        readArchivedSchedules(scheduleArchive.findYearsOf(employeeId));
+        return versionedScheduleList.hasSchedules(employeeId);
+    }
+
+    @Override
+    public int countSchedules(EmployeeId employeeId, Year year, Type type) {
+        requireAllNonNull(employeeId, year, type);
+        readArchivedSchedules(year::equals);
+        return versionedScheduleList.countSchedules(employeeId, year, type);
+    }
+
+    @Override
+    public Map<EmployeeId, Integer> countSchedules(Year year, Type type) {
+        requireAllNonNull(year, type);
+        readArchivedSchedules(year::equals);
+        return versionedScheduleList.countSchedules(year, type);
     }
 
     @Override
     public boolean hasSchedule(Schedule target) {
         requireNonNull(target);
+        readArchivedSchedules(target);
         return versionedScheduleList.hasSchedule(target);
     }
 
@@ -197,6 +363,9 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void deleteExpenses(Expenses target) {
         versionedExpensesList.removeExpenses(target);
+        if (isDeferred(ModelTypes.EXPENSES_LIST)) {
+            return;
+        }
         versionedExpensesList.sortExpensesBy();
         indicateExpensesListChanged();
     }
@@ -204,6 +373,9 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void deletePerson(Person target) {
         versionedAddressBook.removePerson(target);
+        if (isDeferred(ModelTypes.ADDRESS_BOOK)) {
+            return;
+        }
         versionedAddressBook.sortEmployeesBy(ASCENDING_ORDER);
         indicateAddressBookChanged();
     }
@@ -211,6 +383,9 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void deleteSchedule(Schedule target) {
         versionedScheduleList.removeSchedule(target);
+        if (isDeferred(ModelTypes.SCHEDULES_LIST)) {
+            return;
+        }
         versionedScheduleList.sortSchedulesBy();
         indicateScheduleListChanged();
     }
@@ -218,14 +393,34 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void deleteRecruitmentPost(Recruitment target) {
         versionedRecruitmentList.removeRecruitment(target);
+        if (isDeferred(ModelTypes.RECRUITMENT_LIST)) {
+            return;
+        }
         indicateRecruitmentListChanged();
     }
 
+    @Override
+    public boolean deleteSchedules(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        readArchivedSchedules(scheduleArchive.findYearsOf(employeeId));
+        if (!versionedScheduleList.removeSchedules(employeeId)) {
+            return false;
+        }
+        if (!isDeferred(ModelTypes.SCHEDULES_LIST)) {
+            indicateScheduleListChanged();
+        }
+        return true;
+    }
+
 
     //-----------------------------------------------------------------------------
     @Override
     public void addExpenses(Expenses expenses) {
         versionedExpensesList.addExpenses(expenses);
+        if (isDeferred(ModelTypes.EXPENSES_LIST)) {
+            transactionRefreshes.add(ModelTypes.EXPENSES_LIST);
+            return;
+        }
         updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
         versionedExpensesList.sortExpensesBy();
         indicateExpensesListChanged();
@@ -235,6 +430,10 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void addPerson(Person person) {
         versionedAddressBook.addPerson(person);
+        if (isDeferred(ModelTypes.ADDRESS_BOOK)) {
+            transactionRefreshes.addAll(EnumSet.allOf(ModelTypes.class));
+            return;
+        }
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
         updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
@@ -245,7 +444,12 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void addSchedule(Schedule schedule) {
+        readArchivedSchedules(schedule);
         versionedScheduleList.addSchedule(schedule);
+        if (isDeferred(ModelTypes.SCHEDULES_LIST)) {
+            transactionRefreshes.add(ModelTypes.SCHEDULES_LIST);
+            return;
+        }
         updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
         versionedScheduleList.sortSchedulesBy();
         indicateScheduleListChanged();
@@ -254,6 +458,10 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void addRecruitment(Recruitment recruitment) {
         versionedRecruitmentList.addRecruitment(recruitment);
+        if (isDeferred(ModelTypes.RECRUITMENT_LIST)) {
+            transactionRefreshes.add(ModelTypes.RECRUITMENT_LIST);
+            return;
+        }
         updateFilteredRecruitmentList(PREDICATE_SHOW_ALL_RECRUITMENT);
         indicateRecruitmentListChanged();
     }
@@ -263,6 +471,9 @@ public class ModelManager extends ComponentManager implements Model {
     public void updateExpenses(Expenses target, Expenses editedExpenses) {
         requireAllNonNull(target, editedExpenses);
         versionedExpensesList.updateExpenses(target, editedExpenses);
+        if (isDeferred(ModelTypes.EXPENSES_LIST)) {
+            return;
+        }
         versionedExpensesList.sortExpensesBy();
         indicateExpensesListChanged();
     }
@@ -271,6 +482,9 @@ public class ModelManager extends ComponentManager implements Model {
     public void updatePerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         versionedAddressBook.updatePerson(target, editedPerson);
+        if (isDeferred(ModelTypes.ADDRESS_BOOK)) {
+            return;
+        }
         versionedAddressBook.sortEmployeesBy(ASCENDING_ORDER);
         indicateAddressBookChanged();
     }
@@ -278,7 +492,11 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateSchedule(Schedule target, Schedule editedSchedule) {
         requireAllNonNull(target, editedSchedule);
+        readArchivedSchedules(editedSchedule);
         versionedScheduleList.updateSchedule(target, editedSchedule);
+        if (isDeferred(ModelTypes.SCHEDULES_LIST)) {
+            return;
+        }
         versionedScheduleList.sortSchedulesBy();
         indicateScheduleListChanged();
     }
@@ -288,6 +506,9 @@ public class ModelManager extends ComponentManager implements Model {
         requireAllNonNull(target, editedRecruitment);
 
         versionedRecruitmentList.updateRecruitment(target, editedRecruitment);
+        if (isDeferred(ModelTypes.RECRUITMENT_LIST)) {
+            return;
+        }
         indicateRecruitmentListChanged();
     }
 
@@ -471,6 +692,7 @@ public class ModelManager extends ComponentManager implements Model {
     public void commitAddressBook() {
         versionedAddressBook.commit();
         versionedModelList.add(ModelTypes.ADDRESS_BOOK);
+        limitUndoHistory();
     }
 
     /**
@@ -479,6 +701,7 @@ public class ModelManager extends ComponentManager implements Model {
     public void commitExpensesList() {
         versionedExpensesList.commit();
         versionedModelList.add(ModelTypes.EXPENSES_LIST);
+        limitUndoHistory();
     }
 
     /**
@@ -487,6 +710,7 @@ public class ModelManager extends ComponentManager implements Model {
     public void commitScheduleList() {
         versionedScheduleList.commit();
         versionedModelList.add(ModelTypes.SCHEDULES_LIST);
+        limitUndoHistory();
     }
 
     /**
@@ -495,6 +719,7 @@ public class ModelManager extends ComponentManager implements Model {
     public void commitRecruitmentPostList() {
         versionedRecruitmentList.commit();
         versionedModelList.add(ModelTypes.RECRUITMENT_LIST);
+        limitUndoHistory();
     }
 
     /**
@@ -521,6 +746,165 @@ public class ModelManager extends ComponentManager implements Model {
             }
         }
         versionedModelList.addMultiple(set);
+        limitUndoHistory();
+    }
+
+    /**
+     * Moves the oldest changes that can be undone out of memory, until no more than {@code undoHistoryLimit} changes
+     * to each list and no more than {@code undoHistoryByteLimit} bytes of changes are kept in memory. The changes of
+     * the list taking the most memory are moved first to meet the byte limit. Changes that cannot be moved, as no
+     * directory was set or writing them failed, are kept in memory, so no undo history is ever lost.
+     */
+    private void limitUndoHistory() {
+        try {
+            long bytes = 0;
+            for (ModelTypes myModel : ModelTypes.values()) {
+                OperationLog<?> history = getHistory(myModel);
+                while (history.canSpill() && history.getInMemoryUndoableCount() > undoHistoryLimit) {
+                    history.spillOldestCommit();
+                }
+                bytes += history.getInMemoryBytes();
+            }
+            while (bytes > undoHistoryByteLimit) {
+                OperationLog<?> largestHistory = null;
+                for (ModelTypes myModel : ModelTypes.values()) {
+                    OperationLog<?> history = getHistory(myModel);
+                    if (history.canSpill() && (largestHistory == null
+                            || history.getInMemoryBytes() > largestHistory.getInMemoryBytes())) {
+                        largestHistory = history;
+                    }
+                }
+                if (largestHistory == null) {
+                    return;
+                }
+                bytes -= largestHistory.getInMemoryBytes();
+                largestHistory.spillOldestCommit();
+                bytes += largestHistory.getInMemoryBytes();
+            }
+        } catch (IOException e) {
+            logger.warning("Undo history could not be moved out of memory, keeping it in memory: " + e);
+        }
+    }
+
+    /**
+     * Returns the history of the list of the given type.
+     */
+    private OperationLog<?> getHistory(ModelTypes myModel) {
+        switch(myModel) {
+        case SCHEDULES_LIST:
+            return versionedScheduleList.getHistory();
+        case EXPENSES_LIST:
+            return versionedExpensesList.getHistory();
+        case RECRUITMENT_LIST:
+            return versionedRecruitmentList.getHistory();
+        case ADDRESS_BOOK:
+            return versionedAddressBook.getHistory();
+        default:
+            throw new AssertionError("Unknown model type: " + myModel);
+        }
+    }
+
+    //=========== Transactions =========================================================================
+
+    @Override
+    public void beginTransaction() {
+        assert transactionChanges == null : "Transactions cannot be nested";
+        transactionChanges = EnumSet.noneOf(ModelTypes.class);
+        transactionRefreshes = EnumSet.noneOf(ModelTypes.class);
+        transactionMarks = new EnumMap<>(ModelTypes.class);
+        for (ModelTypes myModel : ModelTypes.values()) {
+            transactionMarks.put(myModel, getHistory(myModel).getUncommittedCount());
+        }
+    }
+
+    @Override
+    public void commitTransaction() {
+        assert transactionChanges != null : "No transaction in progress";
+        Set<ModelTypes> changes = transactionChanges;
+        Set<ModelTypes> refreshes = transactionRefreshes;
+        transactionChanges = null;
+        transactionRefreshes = null;
+        transactionMarks = null;
+
+        for (ModelTypes myModel : refreshes) {
+            showAll(myModel);
+        }
+        for (ModelTypes myModel : changes) {
+            sortAndIndicateChanged(myModel);
+        }
+        if (!changes.isEmpty()) {
+            commitMultipleLists(changes);
+        }
+    }
+
+    /**
+     * Only the changes made in the transaction are reverted. Changes made before it began are left to be committed.
+     */
+    @Override
+    public void rollbackTransaction() {
+        assert transactionChanges != null : "No transaction in progress";
+        Set<ModelTypes> changes = transactionChanges;
+        Map<ModelTypes, Integer> marks = transactionMarks;
+        transactionChanges = null;
+        transactionRefreshes = null;
+        transactionMarks = null;
+
+        for (ModelTypes myModel : changes) {
+            getHistory(myModel).rollback(marks.get(myModel));
+        }
+    }
+
+    /**
+     * Returns true if a transaction is in progress, noting that the list of the given type was changed in it.
+     * Sorting, refiltering and raising a change event for that list are then left to {@code commitTransaction()}.
+     */
+    private boolean isDeferred(ModelTypes myModel) {
+        if (transactionChanges == null) {
+            return false;
+        }
+        transactionChanges.add(myModel);
+        return true;
+    }
+
+    private void showAll(ModelTypes myModel) {
+        switch(myModel) {
+        case SCHEDULES_LIST:
+            updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
+            break;
+        case EXPENSES_LIST:
+            updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
+            break;
+        case RECRUITMENT_LIST:
+            updateFilteredRecruitmentList(PREDICATE_SHOW_ALL_RECRUITMENT);
+            break;
+        case ADDRESS_BOOK:
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void sortAndIndicateChanged(ModelTypes myModel) {
+        switch(myModel) {
+        case SCHEDULES_LIST:
+            versionedScheduleList.sortSchedulesBy();
+            indicateScheduleListChanged();
+            break;
+        case EXPENSES_LIST:
+            versionedExpensesList.sortExpensesBy();
+            indicateExpensesListChanged();
+            break;
+        case RECRUITMENT_LIST:
+            indicateRecruitmentListChanged();
+            break;
+        case ADDRESS_BOOK:
+            versionedAddressBook.sortEmployeesBy(ASCENDING_ORDER);
+            indicateAddressBookChanged();
+            break;
+        default:
+            break;
+        }
     }
 
     //-----------------------------------------------------------------------------
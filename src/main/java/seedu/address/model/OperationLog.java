@@ -0,0 +1,391 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code OperationLog} keeps track of the changes made to a list, grouped by commit.
+ * Each change is recorded as the records it touched, so undoing or redoing a commit only replays the changes made in
+ * that commit, taking time and memory proportional to the records it touched rather than to the size of the list.
+ *
+ * <p>Once a spill file is set, the oldest commits that can be undone can be moved out of memory into it, and are read
+ * back in when they are about to be undone, so the history kept in memory is bounded without losing undo depth.
+ */
+public class OperationLog<T> {
+
+    // estimated bytes taken in memory by a record besides the characters of its string form
+    private static final long RECORD_OVERHEAD_BYTES = 256;
+
+    private final ListEditor<T> editor;
+    // the commits kept in memory, the oldest of which follows the spilled commits
+    private final List<Commit<T>> commitList = new ArrayList<>();
+    private Commit<T> uncommittedOperations = new Commit<>();
+    // counts the spilled commits too
+    private int currentStatePointer;
+    private int spilledCount;
+    private long inMemoryBytes;
+    private UndoHistoryFile<T> spillFile;
+
+    /**
+     * @param editor changes the list without recording the change, to replay the recorded changes.
+     */
+    public OperationLog(ListEditor<T> editor) {
+        requireNonNull(editor);
+        this.editor = editor;
+    }
+
+    /**
+     * Sets the file in {@code directory} the oldest commits are moved to by {@code spillOldestCommit()}, with their
+     * records written by {@code codec}. The file is created when the first commit is moved to it, and is deleted
+     * when the application exits.
+     */
+    public void setSpillFile(Path directory, String name, RecordCodec<T> codec) {
+        requireAllNonNull(directory, name, codec);
+        assert spilledCount == 0 : "The spill file cannot be changed once commits are moved to it";
+        spillFile = new UndoHistoryFile<>(directory, name, codec);
+    }
+
+    /**
+     * Records that the records of the list were replaced, since the last commit.
+     */
+    public void recordReplacement(List<T> oldRecords, List<T> newRecords) {
+        requireAllNonNull(oldRecords, newRecords);
+        uncommittedOperations.add(new Operation<>(Operation.Kind.REPLACE, 0, oldRecords, newRecords));
+    }
+
+    /**
+     * Records that {@code record} was added to the list, since the last commit.
+     */
+    public void recordAddition(T record) {
+        requireNonNull(record);
+        uncommittedOperations.add(new Operation<>(Operation.Kind.ADD, 0, Collections.emptyList(),
+                Collections.singletonList(record)));
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedRecord}, since the last commit.
+     */
+    public void recordUpdate(T target, T editedRecord) {
+        requireAllNonNull(target, editedRecord);
+        uncommittedOperations.add(new Operation<>(Operation.Kind.UPDATE, 0, Collections.singletonList(target),
+                Collections.singletonList(editedRecord)));
+    }
+
+    /**
+     * Records that {@code record} was removed from position {@code index} of the list, since the last commit.
+     */
+    public void recordRemoval(int index, T record) {
+        requireNonNull(record);
+        uncommittedOperations.add(new Operation<>(Operation.Kind.REMOVE, index, Collections.singletonList(record),
+                Collections.emptyList()));
+    }
+
+    /**
+     * Groups the changes recorded since the last commit into a new commit.
+     * Undone commits are removed from the log.
+     */
+    public void commit() {
+        List<Commit<T>> undoneCommits = commitList.subList(currentStatePointer - spilledCount, commitList.size());
+        undoneCommits.forEach(commit -> inMemoryBytes -= commit.bytes);
+        undoneCommits.clear();
+        commitList.add(uncommittedOperations);
+        inMemoryBytes += uncommittedOperations.bytes;
+        uncommittedOperations = new Commit<>();
+        currentStatePointer++;
+    }
+
+    /**
+     * Reverts the changes recorded since the last commit, then the changes of the last commit, latest first.
+     * The last commit must be in memory, see {@code pageInLastCommit()}.
+     */
+    public void undo() {
+        assert canUndo();
+        assert currentStatePointer > spilledCount : "The last commit must be read back in before it is undone";
+        rollback();
+        currentStatePointer--;
+        List<Operation<T>> operations = commitList.get(currentStatePointer - spilledCount).operations;
+        for (int i = operations.size() - 1; i >= 0; i--) {
+            operations.get(i).undo(editor);
+        }
+    }
+
+    /**
+     * Reverts the changes recorded since the last commit, then makes the changes of the last undone commit again.
+     */
+    public void redo() {
+        assert canRedo();
+        rollback();
+        commitList.get(currentStatePointer - spilledCount).operations.forEach(operation -> operation.redo(editor));
+        currentStatePointer++;
+    }
+
+    /**
+     * Returns true if {@code spillOldestCommit()} has a commit to move out of memory.
+     * Only commits that can be undone are moved, so the commits that can be redone are always in memory.
+     */
+    public boolean canSpill() {
+        return spillFile != null && currentStatePointer > spilledCount;
+    }
+
+    /**
+     * Moves the oldest commit kept in memory to the spill file.
+     * The commit is kept in memory if it cannot be written.
+     *
+     * @throws IOException if there was an error writing to the spill file.
+     */
+    public void spillOldestCommit() throws IOException {
+        assert canSpill();
+        Commit<T> oldestCommit = commitList.get(0);
+        spillFile.push(oldestCommit.operations);
+        commitList.remove(0);
+        spilledCount++;
+        inMemoryBytes -= oldestCommit.bytes;
+    }
+
+    /**
+     * Reads the last commit back into memory if it was moved to the spill file, so that it can be undone.
+     * Does nothing if there is no commit to undo or the last commit is in memory.
+     *
+     * @throws IOException if there was an error reading the spill file, in which case the commit stays in it.
+     */
+    public void pageInLastCommit() throws IOException {
+        if (spilledCount == 0 || currentStatePointer > spilledCount) {
+            return;
+        }
+        Commit<T> lastCommit = new Commit<>();
+        spillFile.pop().forEach(lastCommit::add);
+        commitList.add(0, lastCommit);
+        spilledCount--;
+        inMemoryBytes += lastCommit.bytes;
+    }
+
+    /**
+     * Discards every commit that can be undone, along with the spill file.
+     * The commits that can be redone are kept.
+     */
+    public void discardUndoableCommits() {
+        List<Commit<T>> undoableCommits = commitList.subList(0, currentStatePointer - spilledCount);
+        undoableCommits.forEach(commit -> inMemoryBytes -= commit.bytes);
+        undoableCommits.clear();
+        currentStatePointer = 0;
+        spilledCount = 0;
+        if (spillFile != null) {
+            spillFile.delete();
+        }
+    }
+
+    /**
+     * Returns the number of commits kept in memory that can be undone.
+     */
+    public int getInMemoryUndoableCount() {
+        return currentStatePointer - spilledCount;
+    }
+
+    /**
+     * Returns the estimated number of bytes taken in memory by the records of the commits kept in memory.
+     */
+    public long getInMemoryBytes() {
+        return inMemoryBytes;
+    }
+
+    /**
+     * Returns true if {@code undo()} has commits to undo.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    /**
+     * Returns true if {@code redo()} has commits to redo.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < spilledCount + commitList.size();
+    }
+
+    /**
+     * Reverts the changes recorded since the last commit, latest first.
+     */
+    public void rollback() {
+        rollback(0);
+    }
+
+    /**
+     * Returns the number of changes recorded since the last commit, which marks the point {@code rollback(int)} can
+     * later revert to.
+     */
+    public int getUncommittedCount() {
+        return uncommittedOperations.operations.size();
+    }
+
+    /**
+     * Reverts the changes recorded since the last commit after the first {@code mark} of them, latest first.
+     * The first {@code mark} changes are kept, to be committed with the next commit.
+     */
+    public void rollback(int mark) {
+        List<Operation<T>> operations = uncommittedOperations.operations;
+        assert mark >= 0 && mark <= operations.size() : "The changes before the mark were already reverted";
+        for (int i = operations.size() - 1; i >= mark; i--) {
+            operations.get(i).undo(editor);
+        }
+        uncommittedOperations.removeFrom(mark);
+    }
+
+    /**
+     * Recorded changes are not compared, so logs holding the same number of commits and pointing at the same commit
+     * are considered equal.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof OperationLog)) {
+            return false;
+        }
+        OperationLog<?> otherLog = (OperationLog<?>) other;
+        return spilledCount + commitList.size() == otherLog.spilledCount + otherLog.commitList.size()
+                && currentStatePointer == otherLog.currentStatePointer;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (spilledCount + commitList.size()) + currentStatePointer;
+    }
+
+    /**
+     * Returns the estimated number of bytes taken in memory by {@code record}.
+     */
+    private static long estimateBytes(Object record) {
+        return RECORD_OVERHEAD_BYTES + 2L * record.toString().length();
+    }
+
+    /**
+     * Changes the list without recording the change, to replay a recorded change.
+     */
+    public interface ListEditor<T> {
+        void setAll(List<T> records);
+
+        void add(T record);
+
+        void add(int index, T record);
+
+        void update(T target, T editedRecord);
+
+        void remove(T record);
+    }
+
+    /**
+     * The changes grouped into a commit, and the estimated number of bytes taken in memory by their records.
+     */
+    private static class Commit<T> {
+        private final List<Operation<T>> operations = new ArrayList<>();
+        private long bytes;
+
+        private void add(Operation<T> operation) {
+            operations.add(operation);
+            bytes += estimateOperationBytes(operation);
+        }
+
+        /**
+         * Removes the operations from position {@code index} on.
+         */
+        private void removeFrom(int index) {
+            List<Operation<T>> removedOperations = operations.subList(index, operations.size());
+            removedOperations.forEach(operation -> bytes -= estimateOperationBytes(operation));
+            removedOperations.clear();
+        }
+
+        private static long estimateOperationBytes(Operation<?> operation) {
+            if (operation.kind == Operation.Kind.REPLACE) {
+                // the new records are mostly shared with the list, so a replacement is counted as the records it
+                // replaced, estimated from the first of them
+                List<?> oldRecords = operation.oldRecords;
+                return oldRecords.isEmpty() ? 0 : oldRecords.size() * estimateBytes(oldRecords.get(0));
+            }
+            long operationBytes = 0;
+            for (Object record : operation.oldRecords) {
+                operationBytes += estimateBytes(record);
+            }
+            for (Object record : operation.newRecords) {
+                operationBytes += estimateBytes(record);
+            }
+            return operationBytes;
+        }
+    }
+
+    /**
+     * A recorded change, made of the records it took out of the list and the records it put in.
+     */
+    static class Operation<T> {
+
+        /**
+         * The kinds of change recorded.
+         */
+        enum Kind {
+            REPLACE, ADD, UPDATE, REMOVE
+        }
+
+        final Kind kind;
+        // the position a removed record was at
+        final int index;
+        final List<T> oldRecords;
+        final List<T> newRecords;
+
+        Operation(Kind kind, int index, List<T> oldRecords, List<T> newRecords) {
+            this.kind = kind;
+            this.index = index;
+            this.oldRecords = oldRecords;
+            this.newRecords = newRecords;
+        }
+
+        /**
+         * Reverts the change.
+         */
+        void undo(ListEditor<T> editor) {
+            switch (kind) {
+            case REPLACE:
+                editor.setAll(oldRecords);
+                break;
+            case ADD:
+                editor.remove(newRecords.get(0));
+                break;
+            case UPDATE:
+                editor.update(newRecords.get(0), oldRecords.get(0));
+                break;
+            case REMOVE:
+                editor.add(index, oldRecords.get(0));
+                break;
+            default:
+                throw new AssertionError("Unknown operation: " + kind);
+            }
+        }
+
+        /**
+         * Makes the change again after it has been reverted.
+         */
+        void redo(ListEditor<T> editor) {
+            switch (kind) {
+            case REPLACE:
+                editor.setAll(newRecords);
+                break;
+            case ADD:
+                editor.add(newRecords.get(0));
+                break;
+            case UPDATE:
+                editor.update(oldRecords.get(0), newRecords.get(0));
+                break;
+            case REMOVE:
+                editor.remove(oldRecords.get(0));
+                break;
+            default:
+                throw new AssertionError("Unknown operation: " + kind);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.model;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts a record of a list to the string fields it is written as outside of memory, and back.
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Returns the fields {@code record} is written as.
+     */
+    String[] toFields(T record);
+
+    /**
+     * Returns the record written as {@code fields}.
+     *
+     * @throws IllegalValueException if the fields do not make up a valid record.
+     */
+    T fromFields(String[] fields) throws IllegalValueException;
+}
@@ -0,0 +1,208 @@
+package seedu.address.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.OperationLog.Operation;
+
+/**
+ * A file in the data directory holding the oldest commits of an {@code OperationLog}, moved out of memory.
+ *
+ * <p>Commits are read back in the reverse of the order they were written, so the file is used as a stack: each
+ * commit is appended followed by its length in bytes, and the last one is read from the end of the file, which is
+ * then truncated. A record is written as its fields, except that a record a replacement put back in the list is
+ * written as its position among the records the replacement took out, as most of them usually are.
+ */
+class UndoHistoryFile<T> {
+
+    // written instead of the position of a record among the replaced records when it is not one of them
+    private static final int NEW_RECORD = -1;
+    private static final int NULL_FIELD = -1;
+
+    private final Path directory;
+    private final String name;
+    private final RecordCodec<T> codec;
+    private Path file;
+
+    UndoHistoryFile(Path directory, String name, RecordCodec<T> codec) {
+        this.directory = directory;
+        this.name = name;
+        this.codec = codec;
+    }
+
+    /**
+     * Appends the operations of a commit to the file, creating the file if needed.
+     * Nothing is appended if there is an error writing the file.
+     */
+    void push(List<Operation<T>> operations) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(operations.size());
+        for (Operation<T> operation : operations) {
+            out.writeByte(operation.kind.ordinal());
+            out.writeInt(operation.index);
+            writeRecords(out, operation.oldRecords, Collections.emptyMap());
+            writeRecords(out, operation.newRecords, operation.kind == Operation.Kind.REPLACE
+                    ? positionsOf(operation.oldRecords) : Collections.emptyMap());
+        }
+        out.writeInt(bytes.size());
+
+        if (file == null) {
+            Files.createDirectories(directory);
+            file = Files.createTempFile(directory, name + "-undo-", ".tmp");
+            file.toFile().deleteOnExit();
+        }
+        try (RandomAccessFile spill = new RandomAccessFile(file.toFile(), "rw")) {
+            long end = spill.length();
+            try {
+                spill.seek(end);
+                spill.write(bytes.toByteArray());
+            } catch (IOException e) {
+                spill.setLength(end);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Removes the operations of the last commit appended from the file, and returns them.
+     * The commit stays in the file if there is an error reading it.
+     */
+    List<Operation<T>> pop() throws IOException {
+        if (file == null) {
+            throw new IOException("No commit was moved to the undo history file");
+        }
+        try (RandomAccessFile spill = new RandomAccessFile(file.toFile(), "rw")) {
+            long end = spill.length();
+            if (end < Integer.BYTES) {
+                throw new IOException("No commit left in the undo history file: " + file);
+            }
+            spill.seek(end - Integer.BYTES);
+            int length = spill.readInt();
+            long start = end - Integer.BYTES - length;
+            if (length < 0 || start < 0) {
+                throw new IOException("Invalid commit length in the undo history file: " + length);
+            }
+            byte[] bytes = new byte[length];
+            spill.seek(start);
+            spill.readFully(bytes);
+            List<Operation<T>> operations = readOperations(bytes);
+            spill.setLength(start);
+            return operations;
+        }
+    }
+
+    /**
+     * Deletes the file, along with every commit in it.
+     */
+    void delete() {
+        if (file != null) {
+            file.toFile().delete();
+            file = null;
+        }
+    }
+
+    private List<Operation<T>> readOperations(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        Operation.Kind[] kinds = Operation.Kind.values();
+        int count = in.readInt();
+        List<Operation<T>> operations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int kind = in.readByte();
+            if (kind < 0 || kind >= kinds.length) {
+                throw new IOException("Invalid operation in the undo history file: " + kind);
+            }
+            int index = in.readInt();
+            List<T> oldRecords = readRecords(in, Collections.emptyList());
+            List<T> newRecords = readRecords(in, oldRecords);
+            operations.add(new Operation<>(kinds[kind], index, oldRecords, newRecords));
+        }
+        return operations;
+    }
+
+    private void writeRecords(DataOutputStream out, List<T> records, Map<T, Integer> replacedPositions)
+            throws IOException {
+        out.writeInt(records.size());
+        for (T record : records) {
+            Integer position = replacedPositions.get(record);
+            if (position != null) {
+                out.writeInt(position);
+                continue;
+            }
+            out.writeInt(NEW_RECORD);
+            String[] fields = codec.toFields(record);
+            out.writeInt(fields.length);
+            for (String field : fields) {
+                if (field == null) {
+                    out.writeInt(NULL_FIELD);
+                    continue;
+                }
+                byte[] fieldBytes = field.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(fieldBytes.length);
+                out.write(fieldBytes);
+            }
+        }
+    }
+
+    private List<T> readRecords(DataInputStream in, List<T> replacedRecords) throws IOException {
+        int count = in.readInt();
+        List<T> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int position = in.readInt();
+            if (position != NEW_RECORD) {
+                if (position < 0 || position >= replacedRecords.size()) {
+                    throw new IOException("Invalid record position in the undo history file: " + position);
+                }
+                records.add(replacedRecords.get(position));
+                continue;
+            }
+            int fieldCount = in.readInt();
+            if (fieldCount < 0) {
+                throw new IOException("Invalid field count in the undo history file: " + fieldCount);
+            }
+            String[] fields = new String[fieldCount];
+            for (int j = 0; j < fields.length; j++) {
+                int length = in.readInt();
+                if (length == NULL_FIELD) {
+                    continue;
+                } else if (length < 0) {
+                    throw new IOException("Invalid field length in the undo history file: " + length);
+                }
+                byte[] fieldBytes = new byte[length];
+                in.readFully(fieldBytes);
+                fields[j] = new String(fieldBytes, StandardCharsets.UTF_8);
+            }
+            try {
+                records.add(codec.fromFields(fields));
+            } catch (IllegalValueException e) {
+                throw new IOException("Invalid record in the undo history file: " + e.getMessage(), e);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the position of each of {@code records}, compared by identity as they are the same objects a
+     * replacement put back in the list.
+     */
+    private Map<T, Integer> positionsOf(List<T> records) {
+        Map<T, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            positions.putIfAbsent(records.get(i), i);
+        }
+        return positions;
+    }
+}
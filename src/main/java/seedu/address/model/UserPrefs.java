@@ -5,19 +5,29 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 100;
+    public static final long DEFAULT_UNDO_HISTORY_BYTE_LIMIT = 64L * 1024 * 1024;
+
     private GuiSettings guiSettings;
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private long undoHistoryByteLimit = DEFAULT_UNDO_HISTORY_BYTE_LIMIT;
 
     //-----------------------------------------------
     private Path addressBookFilePath = Paths.get("data" , "addressbook.xml");
     private Path expensesListFilePath = Paths.get("data" , "expenses.xml");
     private Path scheduleListFilePath = Paths.get("data" , "schedulelist.xml");
     private Path recruitmentListFilePath = Paths.get("data" , "recruitmentlist.xml");
+    private StorageFormat addressBookFileFormat = StorageFormat.XML;
+    private StorageFormat expensesListFileFormat = StorageFormat.XML;
+    private StorageFormat scheduleListFileFormat = StorageFormat.XML;
+    private StorageFormat recruitmentListFileFormat = StorageFormat.XML;
 
     public UserPrefs() {
         setGuiSettings(1200, 500, 0, 0);
@@ -35,6 +45,30 @@ public class UserPrefs {
         guiSettings = new GuiSettings(width, height, x, y);
     }
 
+    /**
+     * Returns the number of most recent changes to each list kept in memory to be undone.
+     * Older changes are moved to a file in the data directory, from which they are read back when they are undone.
+     */
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    /**
+     * Returns the estimated number of bytes the changes kept in memory to be undone may take, across all lists.
+     * The oldest changes are moved to a file in the data directory while they take more.
+     */
+    public long getUndoHistoryByteLimit() {
+        return undoHistoryByteLimit;
+    }
+
+    public void setUndoHistoryByteLimit(long undoHistoryByteLimit) {
+        this.undoHistoryByteLimit = undoHistoryByteLimit;
+    }
+
     //-----------------------------------------------
     public Path getAddressBookFilePath() {
         return addressBookFilePath;
@@ -60,6 +94,36 @@ public class UserPrefs {
         this.recruitmentListFilePath = recruitmentListFilePath;
     }
 
+    /**
+     * Returns the format the address book file is stored in.
+     * A file found in the other format when it is read is converted to this format when it is next saved.
+     */
+    public StorageFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+    public StorageFormat getExpensesListFileFormat() {
+        return expensesListFileFormat;
+    }
+    public StorageFormat getScheduleListFileFormat() {
+        return scheduleListFileFormat;
+    }
+    public StorageFormat getRecruitmentListFileFormat() {
+        return recruitmentListFileFormat;
+    }
+
+    public void setAddressBookFileFormat(StorageFormat addressBookFileFormat) {
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+    public void setExpensesListFileFormat(StorageFormat expensesListFileFormat) {
+        this.expensesListFileFormat = expensesListFileFormat;
+    }
+    public void setScheduleListFileFormat(StorageFormat scheduleListFileFormat) {
+        this.scheduleListFileFormat = scheduleListFileFormat;
+    }
+    public void setRecruitmentListFileFormat(StorageFormat recruitmentListFileFormat) {
+        this.recruitmentListFileFormat = recruitmentListFileFormat;
+    }
+
     //-----------------------------------------------
     @Override
     public boolean equals(Object other) {
@@ -73,12 +137,19 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(addressBookFilePath, o.addressBookFilePath);
+                && Objects.equals(addressBookFilePath, o.addressBookFilePath)
+                && undoHistoryLimit == o.undoHistoryLimit
+                && undoHistoryByteLimit == o.undoHistoryByteLimit
+                && addressBookFileFormat == o.addressBookFileFormat
+                && expensesListFileFormat == o.expensesListFileFormat
+                && scheduleListFileFormat == o.scheduleListFileFormat
+                && recruitmentListFileFormat == o.recruitmentListFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryLimit, undoHistoryByteLimit,
+                addressBookFileFormat, expensesListFileFormat, scheduleListFileFormat, recruitmentListFileFormat);
     }
 
     @Override
@@ -86,6 +157,8 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nUndo history byte limit : " + undoHistoryByteLimit);
         return sb.toString();
     }
 
@@ -14,14 +14,12 @@ public class VersionedModelList {
             "Current state pointer at start of storage list in all Storages, unable to redo.";
     public static final String MESSAGE_NO_UNDOABLE_STATE_EXCEPTION =
             "Current state pointer at start of storage list in all Storages, unable to undo.";
-    private boolean hasUndo;
     private int currentStatePointer;
     private List<Set<ModelTypes>> modelTypesStateList;
 
     public VersionedModelList() {
         currentStatePointer = 0;
         modelTypesStateList = new ArrayList<>();
-        hasUndo = false;
     }
 
     //-----------------------------------------------------------------------------
@@ -33,7 +31,6 @@ public class VersionedModelList {
         if (!canUndoStorage()) {
             throw new NoUndoableStateException();
         }
-        hasUndo = true;
         currentStatePointer--;
     }
 
@@ -44,38 +41,39 @@ public class VersionedModelList {
         if (!canRedoStorage()) {
             throw new NoRedoableStateException();
         }
-        hasUndo = false;
         currentStatePointer++;
     }
 
     /**
      * Add to the list to keep track of which model is committed.
+     * Undone commits are removed from the list.
      * @param type of storage model committed
      */
     public void add (ModelTypes type) {
         Set<ModelTypes> set = new HashSet<>();
         set.add(type);
-        modelTypesStateList.add(set);
-        if (hasUndo) {
-            modelTypesStateList.remove(currentStatePointer);
-            hasUndo = false;
-        }
-        currentStatePointer = modelTypesStateList.size();
+        addMultiple(set);
     }
 
     /**
      * Add to the list to keep track of which model is committed.
+     * Undone commits are removed from the list.
      * @param set of the types of storage models committed
      */
     public void addMultiple (Set<ModelTypes> set) {
+        modelTypesStateList.subList(currentStatePointer, modelTypesStateList.size()).clear();
         modelTypesStateList.add(set);
-        if (hasUndo) {
-            modelTypesStateList.remove(currentStatePointer);
-            hasUndo = false;
-        }
         currentStatePointer = modelTypesStateList.size();
     }
 
+    /**
+     * Discards every commit that can be undone. The commits that can be redone are kept.
+     */
+    public void discardUndoable() {
+        modelTypesStateList.subList(0, currentStatePointer).clear();
+        currentStatePointer = 0;
+    }
+
     /**
      *  Used to check which model was last committed with a command.
      *  Important for undo and redo class.
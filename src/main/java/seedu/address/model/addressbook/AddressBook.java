@@ -2,19 +2,32 @@ package seedu.address.model.addressbook;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Persons are also indexed by name, department, position and tag, so searching names and filtering by and
+ * counting those values does not scan every person.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final PersonAttributeIndex attributeIndex = new PersonAttributeIndex();
+    private final NameIndex nameIndex = new NameIndex();
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +58,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        attributeIndex.clear();
+        nameIndex.clear();
+        persons.forEach(this::index);
     }
 
     /**
@@ -78,11 +94,34 @@ public class AddressBook implements ReadOnlyAddressBook {
 
 
     /**
-     * Returns true if a person with the same identity as {@code person} exists in the address book.
+     * Returns true if a person with the given {@code employeeId} exists in the address book.
      */
-    public boolean hasEmployeeId(Person person) {
-        requireNonNull(person);
-        return persons.containsEmployeeId(person);
+    public boolean hasEmployeeId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return persons.containsEmployeeId(employeeId);
+    }
+
+    /**
+     * Returns the number of persons having each value of the given {@code attribute}, ordered by value.
+     * Values are upper-cased.
+     */
+    public Map<String, Integer> countPersonsBy(PersonAttribute attribute) {
+        return attributeIndex.count(attribute);
+    }
+
+    /**
+     * Returns the persons having a value of the given {@code attribute} accepted by {@code valueMatcher}.
+     * Values are upper-cased before being tested.
+     */
+    public Set<Person> findPersonsBy(PersonAttribute attribute, Predicate<String> valueMatcher) {
+        return attributeIndex.find(attribute, valueMatcher);
+    }
+
+    /**
+     * Returns the persons whose name contains {@code substring}, ignoring case.
+     */
+    public Set<Person> findPersonsByName(String substring) {
+        return nameIndex.find(substring);
     }
 
     /**
@@ -91,6 +130,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        index(p);
+    }
+
+    /**
+     * Adds a person to the address book at {@code index} of the person list, or at its sorted position if the list is
+     * kept sorted. The person must not already exist in the address book.
+     */
+    void addPerson(int index, Person p) {
+        persons.add(index, p);
+        index(p);
     }
 
     /**
@@ -101,6 +150,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void updatePerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
         persons.setPerson(target, editedPerson);
+        unindex(target);
+        index(editedPerson);
     }
 
     /**
@@ -108,7 +159,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        removePersonAndGetIndex(key);
+    }
+
+    /**
+     * Removes {@code key} from this {@code AddressBook} like {@link #removePerson(Person)}, and returns the position
+     * it was at.
+     */
+    int removePersonAndGetIndex(Person key) {
+        int index = persons.remove(key);
+        unindex(key);
+        return index;
     }
 
     /**
@@ -119,6 +180,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.sortByName(sortOrder);
     }
 
+    private void index(Person person) {
+        attributeIndex.add(person);
+        nameIndex.add(person);
+    }
+
+    private void unindex(Person person) {
+        attributeIndex.remove(person);
+        nameIndex.remove(person);
+    }
+
     //// util methods
 
     @Override
@@ -127,6 +198,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         // TODO: refine later
     }
 
+    /**
+     * Returns an immutable copy of the persons as they are now, for saving a state of the address book.
+     */
+    PersistentList<Person> getPersonSnapshot() {
+        return persons.snapshot();
+    }
+
+    /**
+     * Returns a copy of this address book as it is now, which shares the current snapshot instead of copying it.
+     */
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        ObservableList<Person> snapshot = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(getPersonSnapshot()));
+        return () -> snapshot;
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -143,4 +231,34 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * Collects persons one at a time, such as while reading a data file, to create an {@code AddressBook} with all of
+     * them at once. Duplicates are found through the list's hash index when it is built, and the list is changed once
+     * instead of once per person.
+     */
+    public static class Builder {
+
+        private final List<Person> persons = new ArrayList<>();
+
+        /**
+         * Adds {@code person} after the persons already added.
+         */
+        public Builder addPerson(Person person) {
+            requireNonNull(person);
+            persons.add(person);
+            return this;
+        }
+
+        /**
+         * Returns an {@code AddressBook} with the persons added, in the order they were added.
+         *
+         * @throws DuplicatePersonException if two of the persons added are the same.
+         */
+        public AddressBook build() {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        }
+    }
 }
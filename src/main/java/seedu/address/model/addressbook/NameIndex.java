@@ -0,0 +1,115 @@
+package seedu.address.model.addressbook;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A trigram index over the names of the persons held by an {@code AddressBook}, answering case-insensitive
+ * substring queries on names.
+ * A query is only checked against the names sharing its rarest trigram, instead of against every name.
+ * Queries shorter than a trigram are checked against every distinct name.
+ */
+class NameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> personsByName = new HashMap<>();
+    private final Map<String, Set<String>> namesByGram = new HashMap<>();
+
+    /**
+     * Returns the indexed persons whose name contains {@code substring}, ignoring case.
+     */
+    Set<Person> find(String substring) {
+        requireNonNull(substring);
+        String query = substring.toLowerCase();
+        Set<Person> matches = new HashSet<>();
+        for (String name : candidateNames(query)) {
+            if (name.contains(query)) {
+                matches.addAll(personsByName.get(name));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Indexes {@code person}.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        String name = nameKey(person);
+        Set<Person> persons = personsByName.computeIfAbsent(name, unused -> new HashSet<>());
+        if (persons.isEmpty()) {
+            for (String gram : gramsOf(name)) {
+                namesByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(name);
+            }
+        }
+        persons.add(person);
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        String name = nameKey(person);
+        Set<Person> persons = personsByName.get(name);
+        if (persons == null || !persons.remove(person) || !persons.isEmpty()) {
+            return;
+        }
+        personsByName.remove(name);
+        for (String gram : gramsOf(name)) {
+            Set<String> names = namesByGram.get(gram);
+            if (names != null && names.remove(name) && names.isEmpty()) {
+                namesByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        personsByName.clear();
+        namesByGram.clear();
+    }
+
+    /**
+     * Returns the names that may contain {@code query}: those sharing its rarest trigram.
+     */
+    private Collection<String> candidateNames(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return personsByName.keySet();
+        }
+        Set<String> candidates = null;
+        for (String gram : gramsOf(query)) {
+            Set<String> names = namesByGram.get(gram);
+            if (names == null) {
+                return Collections.emptySet();
+            }
+            if (candidates == null || names.size() < candidates.size()) {
+                candidates = names;
+            }
+        }
+        return candidates;
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static String nameKey(Person person) {
+        return person.getName().fullName.toLowerCase();
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.addressbook;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
+
+/**
+ * Inverted indexes from the department, position and tag values of the persons held by an {@code AddressBook}
+ * to the persons having them. Values are upper-cased, so values differing only in case are grouped together.
+ */
+class PersonAttributeIndex {
+
+    private final Map<PersonAttribute, Map<String, Set<Person>>> personsByValue =
+            new EnumMap<>(PersonAttribute.class);
+
+    PersonAttributeIndex() {
+        for (PersonAttribute attribute : PersonAttribute.values()) {
+            personsByValue.put(attribute, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the number of indexed persons having each value of the given {@code attribute},
+     * ordered by value.
+     */
+    Map<String, Integer> count(PersonAttribute attribute) {
+        requireNonNull(attribute);
+        Map<String, Integer> counts = new TreeMap<>();
+        personsByValue.get(attribute).forEach((value, persons) -> counts.put(value, persons.size()));
+        return counts;
+    }
+
+    /**
+     * Returns the indexed persons having a value of the given {@code attribute} accepted by {@code valueMatcher}.
+     * Only the distinct values are tested, not every person.
+     */
+    Set<Person> find(PersonAttribute attribute, Predicate<String> valueMatcher) {
+        requireNonNull(attribute);
+        requireNonNull(valueMatcher);
+        Set<Person> matches = newPersonSet();
+        personsByValue.get(attribute).forEach((value, persons) -> {
+            if (valueMatcher.test(value)) {
+                matches.addAll(persons);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Indexes {@code person}.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        personsByValue.forEach((attribute, index) -> {
+            for (String value : attribute.valuesOf(person)) {
+                index.computeIfAbsent(normalise(value), unused -> newPersonSet()).add(person);
+            }
+        });
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        personsByValue.forEach((attribute, index) -> {
+            for (String value : attribute.valuesOf(person)) {
+                String key = normalise(value);
+                Set<Person> persons = index.get(key);
+                if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                    index.remove(key);
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        personsByValue.values().forEach(Map::clear);
+    }
+
+    private static Set<Person> newPersonSet() {
+        return new HashSet<>();
+    }
+
+    private static String normalise(String value) {
+        return value.toUpperCase();
+    }
+}
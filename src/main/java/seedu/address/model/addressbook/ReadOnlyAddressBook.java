@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a copy of this address book as it is now, which later changes to it do not affect.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        return new AddressBook(this);
+    }
 }
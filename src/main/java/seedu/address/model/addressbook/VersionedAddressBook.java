@@ -1,36 +1,83 @@
 package seedu.address.model.addressbook;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.OperationLog;
+import seedu.address.model.person.Person;
+
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * Changes are recorded as they are made, so undoing or redoing a commit only replays the persons changed in that
+ * commit instead of restoring a copy of the whole address book.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
-    private int currentStatePointer;
+    private final OperationLog<Person> history = new OperationLog<>(new OperationLog.ListEditor<Person>() {
+        @Override
+        public void setAll(List<Person> records) {
+            VersionedAddressBook.super.setPersons(records);
+        }
+
+        @Override
+        public void add(Person record) {
+            VersionedAddressBook.super.addPerson(record);
+        }
+
+        @Override
+        public void add(int index, Person record) {
+            VersionedAddressBook.super.addPerson(index, record);
+        }
+
+        @Override
+        public void update(Person target, Person editedRecord) {
+            VersionedAddressBook.super.updatePerson(target, editedRecord);
+        }
+
+        @Override
+        public void remove(Person record) {
+            VersionedAddressBook.super.removePerson(record);
+        }
+    });
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
-        super(initialState);
+        // the initial state is loaded without being recorded as a change
+        super.setPersons(initialState.getPersonList());
+    }
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void setPersons(List<Person> persons) {
+        PersistentList<Person> oldPersons = getPersonSnapshot();
+        super.setPersons(persons);
+        PersistentList<Person> newPersons = getPersonSnapshot();
+        history.recordReplacement(oldPersons, newPersons);
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        history.recordAddition(p);
+    }
+
+    @Override
+    public void updatePerson(Person target, Person editedPerson) {
+        super.updatePerson(target, editedPerson);
+        history.recordUpdate(target, editedPerson);
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        // the position is taken from the removal itself rather than found with another scan of the list
+        int index = super.removePersonAndGetIndex(key);
+        history.recordRemoval(index, key);
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
+     * Saves the current {@code AddressBook} state as a commit, grouping the changes made since the last commit.
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        history.commit();
     }
 
     /**
@@ -40,8 +87,7 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
@@ -51,22 +97,28 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        history.redo();
+    }
+
+    /**
+     * Returns the history of the address book, to move its oldest commits out of memory and back.
+     */
+    public OperationLog<Person> getHistory() {
+        return history;
     }
 
     /**
      * Returns true if {@code undo()} has address book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -85,8 +137,7 @@ public class VersionedAddressBook extends AddressBook {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-                && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
-                && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
+                && history.equals(otherVersionedAddressBook.history);
     }
 
     /**
@@ -1,26 +1,26 @@
 package seedu.address.model.expenses;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Expenses}'s {@code Employee_Id} matches any of the Id given.
+ * The Ids are held in a hash set, so each test is a single lookup however many Ids are given.
  */
 
 
 public class EmployeeIdExpensesContainsKeywordsPredicate implements Predicate<Expenses> {
-    private final List<String> keywords;
+    private final Set<String> keywords;
 
-    public EmployeeIdExpensesContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
+    public EmployeeIdExpensesContainsKeywordsPredicate(Collection<String> keywords) {
+        this.keywords = new HashSet<>(keywords);
     }
 
     @Override
     public boolean test(Expenses expenses) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(expenses.getEmployeeId().value, keyword));
+        return keywords.contains(expenses.getEmployeeId().value);
     }
 
     @Override
@@ -22,7 +22,7 @@ public class ExpensesAmount {
      */
     public ExpensesAmount(String expensesAmount) {
         requireNonNull(expensesAmount);
-        checkArgument(isValidExpensesAmount(expensesAmount), MESSAGE_EXPENSES_AMOUNT_CONSTRAINTS);
+        checkArgument(() -> isValidExpensesAmount(expensesAmount), MESSAGE_EXPENSES_AMOUNT_CONSTRAINTS);
         this.expensesAmount = expensesAmount;
     }
 
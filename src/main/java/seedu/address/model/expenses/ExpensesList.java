@@ -2,9 +2,15 @@ package seedu.address.model.expenses;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.expenses.exceptions.DuplicateExpensesException;
+import seedu.address.model.person.EmployeeId;
 
 /**
  * Wraps all data at the address-book level
@@ -64,6 +70,14 @@ public class ExpensesList implements ReadOnlyExpensesList {
         return multiExpenses.contains(expenses);
     }
 
+    /**
+     * Returns the expenses of the employee with the given {@code employeeId}, if there is one.
+     */
+    public Optional<Expenses> findExpenses(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return multiExpenses.find(employeeId);
+    }
+
     /**
      * Adds an expenses to the address book.
      * The employee expenses id must not already exist in the address book.
@@ -72,6 +86,14 @@ public class ExpensesList implements ReadOnlyExpensesList {
         multiExpenses.add(e);
     }
 
+    /**
+     * Adds an expenses to the expenses list at {@code index}, or at its sorted position if the list is kept sorted.
+     * The employee expenses id must not already exist in the expenses list.
+     */
+    void addExpenses(int index, Expenses e) {
+        multiExpenses.add(index, e);
+    }
+
     /**
      * Replaces the given expenses {@code target} in the list with {@code editedExpenses}.
      * {@code target} must exist in the expenses list.
@@ -89,7 +111,15 @@ public class ExpensesList implements ReadOnlyExpensesList {
      * {@code key} must exist in the expenses list.
      */
     public void removeExpenses(Expenses key) {
-        multiExpenses.remove(key);
+        removeExpensesAndGetIndex(key);
+    }
+
+    /**
+     * Removes {@code key} from this {@code ExpensesList} like {@link #removeExpenses(Expenses)}, and returns the
+     * position it was at.
+     */
+    int removeExpensesAndGetIndex(Expenses key) {
+        return multiExpenses.remove(key);
     }
 
     /**
@@ -108,6 +138,23 @@ public class ExpensesList implements ReadOnlyExpensesList {
         // TODO: refine later
     }
 
+    /**
+     * Returns an immutable copy of the expenses as they are now, for saving a state of the expenses list.
+     */
+    PersistentList<Expenses> getExpensesSnapshot() {
+        return multiExpenses.snapshot();
+    }
+
+    /**
+     * Returns a copy of this expenses list as it is now, which shares the current snapshot instead of copying it.
+     */
+    @Override
+    public ReadOnlyExpensesList snapshot() {
+        ObservableList<Expenses> snapshot = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(getExpensesSnapshot()));
+        return () -> snapshot;
+    }
+
     @Override
     public ObservableList<Expenses> getExpensesRequestList() {
         return multiExpenses.asUnmodifiableObservableList();
@@ -124,4 +171,34 @@ public class ExpensesList implements ReadOnlyExpensesList {
     public int hashCode() {
         return multiExpenses.hashCode();
     }
+
+    /**
+     * Collects expenses one at a time, such as while reading a data file, to create an {@code ExpensesList} with all of
+     * them at once. Duplicates are found through the list's hash index when it is built, and the list is changed once
+     * instead of once per expenses.
+     */
+    public static class Builder {
+
+        private final List<Expenses> multiExpenses = new ArrayList<>();
+
+        /**
+         * Adds {@code expenses} after the expenses already added.
+         */
+        public Builder addExpenses(Expenses expenses) {
+            requireNonNull(expenses);
+            multiExpenses.add(expenses);
+            return this;
+        }
+
+        /**
+         * Returns an {@code ExpensesList} with the expenses added, in the order they were added.
+         *
+         * @throws DuplicateExpensesException if two of the expenses added are the same.
+         */
+        public ExpensesList build() {
+            ExpensesList expensesList = new ExpensesList();
+            expensesList.setMultiExpenses(multiExpenses);
+            return expensesList;
+        }
+    }
 }
@@ -23,7 +23,7 @@ public class MedicalExpenses {
      */
     public MedicalExpenses(String medicalExpenses) {
         requireNonNull(medicalExpenses);
-        checkArgument(isValidMedicalExpenses(medicalExpenses), MESSAGE_MEDICAL_EXPENSES_CONSTRAINTS);
+        checkArgument(() -> isValidMedicalExpenses(medicalExpenses), MESSAGE_MEDICAL_EXPENSES_CONSTRAINTS);
         this.medicalExpenses = medicalExpenses;
     }
 
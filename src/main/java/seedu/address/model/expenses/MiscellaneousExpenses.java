@@ -23,7 +23,8 @@ public class MiscellaneousExpenses {
      */
     public MiscellaneousExpenses(String miscellaneousExpenses) {
         requireNonNull(miscellaneousExpenses);
-        checkArgument(isValidMiscellaneousExpenses(miscellaneousExpenses), MESSAGE_MISCELLANEOUS_EXPENSES_CONSTRAINTS);
+        checkArgument(() -> isValidMiscellaneousExpenses(miscellaneousExpenses),
+                MESSAGE_MISCELLANEOUS_EXPENSES_CONSTRAINTS);
         this.miscellaneousExpenses = miscellaneousExpenses;
     }
 
@@ -9,4 +9,11 @@ public interface ReadOnlyExpensesList {
      * This list will not contain any duplicate Expenses.
      */
     ObservableList<Expenses> getExpensesRequestList();
+
+    /**
+     * Returns a copy of this expenses list as it is now, which later changes to it do not affect.
+     */
+    default ReadOnlyExpensesList snapshot() {
+        return new ExpensesList(this);
+    }
 }
@@ -23,7 +23,7 @@ public class TravelExpenses {
      */
     public TravelExpenses(String travelExpenses) {
         requireNonNull(travelExpenses);
-        checkArgument(isValidTravelExpenses(travelExpenses), MESSAGE_TRAVEL_EXPENSES_CONSTRAINTS);
+        checkArgument(() -> isValidTravelExpenses(travelExpenses), MESSAGE_TRAVEL_EXPENSES_CONSTRAINTS);
         this.travelExpenses = travelExpenses;
     }
 
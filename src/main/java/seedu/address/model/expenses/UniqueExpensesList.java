@@ -1,17 +1,28 @@
 package seedu.address.model.expenses;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.addSorted;
+import static seedu.address.commons.util.CollectionUtil.isSorted;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.setAllChanged;
+import static seedu.address.commons.util.CollectionUtil.setSorted;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentListMirror;
 import seedu.address.model.expenses.exceptions.DuplicateExpensesException;
 import seedu.address.model.expenses.exceptions.ExpensesNotFoundException;
+import seedu.address.model.person.EmployeeId;
 
 /**
  * A list of expenses that enforces uniqueness between its elements and does not allow nulls.
@@ -20,20 +31,41 @@ import seedu.address.model.expenses.exceptions.ExpensesNotFoundException;
  * expenses being added or updated is unique in terms of identity in the UniqueExpensesList. However, the removal of a
  * expenses usesExpenses#equals(Object) so as to ensure that the expenses with exactly the same fields will be removed.
  *
+ * Each employee has at most one expenses record, which is also kept in a map keyed by employee id so that it can be
+ * checked for and looked up without scanning the list.
+ *
+ * Once sorted, the list stays sorted by employee id: added and edited expenses are inserted at their sorted position
+ * instead of the whole list being sorted again.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Expenses#isSameExpensesRequest(Expenses)
  */
 public class UniqueExpensesList implements Iterable<Expenses> {
 
+    private static final Comparator<Expenses> EMPLOYEE_ID_ASCENDING = (expensesA, expensesB) ->
+            expensesA.getEmployeeId().value.compareTo(expensesB.getEmployeeId().value);
+
     private final ObservableList<Expenses> internalExpensesList = FXCollections.observableArrayList();
+    private final PersistentListMirror<Expenses> snapshots = new PersistentListMirror<>(internalExpensesList);
+    private Map<EmployeeId, Expenses> expensesByEmployeeId = new HashMap<>();
+    // null until the list is first sorted, in which case expenses are kept in insertion order
+    private Comparator<Expenses> sortOrder;
 
     /**
      * Returns true if the list contains an equivalent expenses as the given argument.
      */
     public boolean contains(Expenses toCheck) {
         requireNonNull(toCheck);
-        return internalExpensesList.stream().anyMatch(toCheck::isSameExpensesRequest);
+        return expensesByEmployeeId.containsKey(toCheck.getEmployeeId());
+    }
+
+    /**
+     * Returns the expenses of the employee with the given {@code employeeId}, if there is one.
+     */
+    public Optional<Expenses> find(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return Optional.ofNullable(expensesByEmployeeId.get(employeeId));
     }
 
     /**
@@ -41,11 +73,24 @@ public class UniqueExpensesList implements Iterable<Expenses> {
      * The expenses must not already exist in the list.
      */
     public void add(Expenses toAdd) {
+        add(internalExpensesList.size(), toAdd);
+    }
+
+    /**
+     * Adds an expenses to the list at {@code index}, or at its sorted position if the list is kept sorted.
+     * The expenses must not already exist in the list.
+     */
+    public void add(int index, Expenses toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateExpensesException();
         }
-        internalExpensesList.add(toAdd);
+        expensesByEmployeeId.put(toAdd.getEmployeeId(), toAdd);
+        if (sortOrder == null) {
+            internalExpensesList.add(index, toAdd);
+        } else {
+            addSorted(internalExpensesList, toAdd, sortOrder);
+        }
     }
 
     /**
@@ -65,23 +110,33 @@ public class UniqueExpensesList implements Iterable<Expenses> {
             throw new DuplicateExpensesException();
         }
 
-        internalExpensesList.set(index, editedExpenses);
+        expensesByEmployeeId.remove(target.getEmployeeId());
+        expensesByEmployeeId.put(editedExpenses.getEmployeeId(), editedExpenses);
+        if (sortOrder == null) {
+            internalExpensesList.set(index, editedExpenses);
+        } else {
+            setSorted(internalExpensesList, index, editedExpenses, sortOrder);
+        }
     }
 
     /**
-     * Removes the equivalent expenses from the list.
+     * Removes the equivalent expenses from the list and returns the position they were at.
      * The expenses must exist in the list.
      */
-    public void remove(Expenses toRemove) {
+    public int remove(Expenses toRemove) {
         requireNonNull(toRemove);
-        if (!internalExpensesList.remove(toRemove)) {
+        int index = internalExpensesList.indexOf(toRemove);
+        if (index == -1) {
             throw new ExpensesNotFoundException();
         }
+        internalExpensesList.remove(index);
+        expensesByEmployeeId.remove(toRemove.getEmployeeId());
+        return index;
     }
 
     public void setMultiExpenses(UniqueExpensesList replacement) {
         requireNonNull(replacement);
-        internalExpensesList.setAll(replacement.internalExpensesList);
+        setMultiExpenses(replacement.internalExpensesList);
     }
 
     /**
@@ -90,11 +145,21 @@ public class UniqueExpensesList implements Iterable<Expenses> {
      */
     public void setMultiExpenses(List<Expenses> multiExpenses) {
         requireAllNonNull(multiExpenses);
-        if (!multiExpensesAreUnique(multiExpenses)) {
-            throw new DuplicateExpensesException();
+        Map<EmployeeId, Expenses> replacementIndex = new HashMap<>();
+        for (Expenses expenses : multiExpenses) {
+            if (replacementIndex.putIfAbsent(expenses.getEmployeeId(), expenses) != null) {
+                throw new DuplicateExpensesException();
+            }
         }
 
-        internalExpensesList.setAll(multiExpenses);
+        expensesByEmployeeId = replacementIndex;
+        if (sortOrder != null && !isSorted(multiExpenses, sortOrder)) {
+            List<Expenses> sortedExpenses = new ArrayList<>(multiExpenses);
+            sortedExpenses.sort(sortOrder);
+            setAllChanged(internalExpensesList, sortedExpenses);
+            return;
+        }
+        setAllChanged(internalExpensesList, multiExpenses);
     }
 
     //Reused from https://github.com/CS2103JAN2018-F14-B1/main/pull/57 with minor modifications
@@ -102,14 +167,20 @@ public class UniqueExpensesList implements Iterable<Expenses> {
      * Sorts ExpensesList by employeeId in ascending order
      */
     public void sortByEmployeeId() {
-        Comparator<Expenses> expensesComparator = new Comparator<Expenses>() {
-            @Override
-            public int compare(Expenses expensesA, Expenses expensesB) {
-                return expensesA.getEmployeeId().value.compareTo(expensesB.getEmployeeId().value);
-            }
-        };
+        if (sortOrder == EMPLOYEE_ID_ASCENDING) {
+            return;
+        }
+        sortOrder = EMPLOYEE_ID_ASCENDING;
+        if (!isSorted(internalExpensesList, sortOrder)) {
+            Collections.sort(internalExpensesList, sortOrder);
+        }
+    }
 
-        Collections.sort(internalExpensesList, expensesComparator);
+    /**
+     * Returns an immutable copy of the list as it is now, sharing unchanged expenses with earlier copies.
+     */
+    public PersistentList<Expenses> snapshot() {
+        return snapshots.current();
     }
 
     /**
@@ -135,19 +206,4 @@ public class UniqueExpensesList implements Iterable<Expenses> {
     public int hashCode() {
         return internalExpensesList.hashCode();
     }
-
-    /**
-     * Returns true if {@code multiExpenses} contains only unique expenses.
-     */
-    private boolean multiExpensesAreUnique(List<Expenses> multiExpenses) {
-        for (int i = 0; i < multiExpenses.size() - 1; i++) {
-            for (int j = i + 1; j < multiExpenses.size(); j++) {
-                if (multiExpenses.get(i).isSameExpensesRequest(multiExpenses.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
-
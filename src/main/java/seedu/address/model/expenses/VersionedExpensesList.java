@@ -1,71 +1,130 @@
 package seedu.address.model.expenses;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.OperationLog;
+
 /**
- * {@code AddressBook} that keeps track of its own history.
+ * {@code ExpensesList} that keeps track of its own history.
+ * Changes are recorded as they are made, so undoing or redoing a commit only replays the expenses changed in that
+ * commit instead of restoring a copy of the whole expenses list.
  */
 public class VersionedExpensesList extends ExpensesList {
-    private final List<ReadOnlyExpensesList> expensesStateList;
-    private int currentStatePointer;
+
+    private final OperationLog<Expenses> history = new OperationLog<>(new OperationLog.ListEditor<Expenses>() {
+        @Override
+        public void setAll(List<Expenses> records) {
+            VersionedExpensesList.super.setMultiExpenses(records);
+        }
+
+        @Override
+        public void add(Expenses record) {
+            VersionedExpensesList.super.addExpenses(record);
+        }
+
+        @Override
+        public void add(int index, Expenses record) {
+            VersionedExpensesList.super.addExpenses(index, record);
+        }
+
+        @Override
+        public void update(Expenses target, Expenses editedRecord) {
+            VersionedExpensesList.super.updateExpenses(target, editedRecord);
+        }
+
+        @Override
+        public void remove(Expenses record) {
+            VersionedExpensesList.super.removeExpenses(record);
+        }
+    });
 
     public VersionedExpensesList(ReadOnlyExpensesList initialState) {
-        super(initialState);
+        // the initial state is loaded without being recorded as a change
+        super.setMultiExpenses(initialState.getExpensesRequestList());
+    }
+
+    /**
+     * Replaces the expenses with {@code loadedState} without recording it as a change, like the initial state.
+     * Used when the initial state finishes loading after this list was created, before any change is made to it.
+     */
+    public void loadInitialState(ReadOnlyExpensesList loadedState) {
+        super.setMultiExpenses(loadedState.getExpensesRequestList());
+    }
 
-        expensesStateList = new ArrayList<>();
-        expensesStateList.add(new ExpensesList(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void setMultiExpenses(List<Expenses> multiExpenses) {
+        PersistentList<Expenses> oldMultiExpenses = getExpensesSnapshot();
+        super.setMultiExpenses(multiExpenses);
+        PersistentList<Expenses> newMultiExpenses = getExpensesSnapshot();
+        history.recordReplacement(oldMultiExpenses, newMultiExpenses);
+    }
+
+    @Override
+    public void addExpenses(Expenses e) {
+        super.addExpenses(e);
+        history.recordAddition(e);
+    }
+
+    @Override
+    public void updateExpenses(Expenses target, Expenses editedExpenses) {
+        super.updateExpenses(target, editedExpenses);
+        history.recordUpdate(target, editedExpenses);
+    }
+
+    @Override
+    public void removeExpenses(Expenses key) {
+        int index = super.removeExpensesAndGetIndex(key);
+        history.recordRemoval(index, key);
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
+     * Saves the current {@code ExpensesList} state as a commit, grouping the changes made since the last commit.
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        expensesStateList.add(new ExpensesList(this));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        expensesStateList.subList(currentStatePointer + 1, expensesStateList.size()).clear();
+        history.commit();
     }
 
     /**
-     * Restores the address book to its previous state.
+     * Restores the expenses list to its previous state.
      */
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(expensesStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
-     * Restores the address book to its previously undone state.
+     * Restores the expenses list to its previously undone state.
      */
     public void redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(expensesStateList.get(currentStatePointer));
+        history.redo();
+    }
+
+    /**
+     * Returns the history of the expenses list, to move its oldest commits out of memory and back.
+     */
+    public OperationLog<Expenses> getHistory() {
+        return history;
     }
 
     /**
-     * Returns true if {@code undo()} has address book states to undo.
+     * Returns true if {@code undo()} has expenses list states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
-     * Returns true if {@code redo()} has address book states to redo.
+     * Returns true if {@code redo()} has expenses list states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < expensesStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -84,8 +143,7 @@ public class VersionedExpensesList extends ExpensesList {
 
         // state check
         return super.equals(otherVersionedExpensesList)
-                && expensesStateList.equals(otherVersionedExpensesList.expensesStateList)
-                && currentStatePointer == otherVersionedExpensesList.currentStatePointer;
+                && history.equals(otherVersionedExpensesList.history);
     }
 
     /**
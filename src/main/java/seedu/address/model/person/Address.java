@@ -27,7 +27,7 @@ public class Address {
      */
     public Address(String address) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_ADDRESS_CONSTRAINTS);
+        checkArgument(() -> isValidAddress(address), MESSAGE_ADDRESS_CONSTRAINTS);
         value = address;
     }
 
@@ -23,7 +23,7 @@ public class Bonus {
 
     public Bonus(String bonus) {
         requireNonNull(bonus);
-        checkArgument(isValidBonus(bonus), MESSAGE_BONUS_CONSTRAINTS);
+        checkArgument(() -> isValidBonus(bonus), MESSAGE_BONUS_CONSTRAINTS);
         value = bonus;
     }
 
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.AppUtil.isReadingSavedData;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -49,8 +50,10 @@ public class DateOfBirth {
 
     public DateOfBirth(String dateOfBirth) {
         requireNonNull(dateOfBirth);
-        dateOfBirth = formatDateOfBirth(dateOfBirth);
-        checkArgument(isValidDateOfBirth(dateOfBirth), messageDateOfBirthConstraints);
+        if (!isReadingSavedData()) {
+            dateOfBirth = formatDateOfBirth(dateOfBirth);
+            checkArgument(isValidDateOfBirth(dateOfBirth), messageDateOfBirthConstraints);
+        }
         value = dateOfBirth;
     }
 
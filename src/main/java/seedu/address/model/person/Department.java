@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
+
 /**
  * Represents a Person's department in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDepartment(String)}
@@ -14,6 +18,9 @@ public class Department {
     public static final String MESSAGE_DEPARTMENT_KEYWORD_CONSTRAINTS =
             "Department only contains alphabets and spaces, please ensure input parameter(s) are relevant";
     public static final String DEPARTMENT_VALIDATION_REGEX = "[A-Za-z ]{2,30}";
+    // the shared instances by value, each dropped once nothing else refers to it
+    private static final ConcurrentMap<String, Department> INSTANCES = new MapMaker().weakValues().makeMap();
+
     public final String value;
 
     /**
@@ -24,10 +31,22 @@ public class Department {
 
     public Department (String department) {
         requireNonNull(department);
-        checkArgument(isValidDepartment(department), MESSAGE_DEPARTMENT_CONSTRAINTS);
+        checkArgument(() -> isValidDepartment(department), MESSAGE_DEPARTMENT_CONSTRAINTS);
         value = department;
     }
 
+    /**
+     * Returns the shared {@code Department} for the given valid department.
+     * Equal values read from storage or user input resolve to one instance, however many persons refer to it.
+     *
+     * @param department A valid department.
+     */
+    public static Department of(String department) {
+        requireNonNull(department);
+        // an existing instance is already known to be valid, so only a new value is validated
+        return INSTANCES.computeIfAbsent(department, Department::new);
+    }
+
     /**
      * Returns true if a given string is a valid department.
      */
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
+
 /**
  * Represents a Person's employeeId in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmployeeId(String)}
@@ -12,6 +16,9 @@ public class EmployeeId {
     public static final String MESSAGE_EMPLOYEEID_CONSTRAINTS =
             "Employee Ids should only contain a 6 digit number, and it should not be blank";
     public static final String EMPLOYEEID_VALIDATION_REGEX = "[0-9]{6}";
+    // the shared instances by value, each dropped once nothing else refers to it
+    private static final ConcurrentMap<String, EmployeeId> INSTANCES = new MapMaker().weakValues().makeMap();
+
     public final String value;
 
     /**
@@ -22,10 +29,23 @@ public class EmployeeId {
 
     public EmployeeId(String employeeId) {
         requireNonNull(employeeId);
-        checkArgument(isValidEmployeeId(employeeId), MESSAGE_EMPLOYEEID_CONSTRAINTS);
+        checkArgument(() -> isValidEmployeeId(employeeId), MESSAGE_EMPLOYEEID_CONSTRAINTS);
         value = employeeId;
     }
 
+    /**
+     * Returns the shared {@code EmployeeId} for the given valid employee id.
+     * Equal values read from storage or user input resolve to one instance, however many persons, schedules
+     * and expenses refer to it.
+     *
+     * @param employeeId A valid employee id.
+     */
+    public static EmployeeId of(String employeeId) {
+        requireNonNull(employeeId);
+        // an existing instance is already known to be valid, so only a new value is validated
+        return INSTANCES.computeIfAbsent(employeeId, EmployeeId::new);
+    }
+
     /**
      * Returns true if a given string is a valid employee id.
      */
@@ -24,7 +24,7 @@ public class Name {
      */
     public Name(String name) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_NAME_CONSTRAINTS);
+        checkArgument(() -> isValidName(name), MESSAGE_NAME_CONSTRAINTS);
         fullName = name;
     }
 
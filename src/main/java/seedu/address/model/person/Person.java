@@ -10,7 +10,6 @@ import java.util.Set;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.model.person.tag.Tag;
-import seedu.address.model.util.SampleDataUtil;
 
 /**
  * Represents a Person in the address book.
@@ -53,22 +52,6 @@ public class Person {
         this.tags.addAll(tags);
     }
 
-    public Person(EmployeeId employeeId) {
-        SampleDataUtil sample = new SampleDataUtil();
-        requireAllNonNull(employeeId);
-        this.employeeId = employeeId;
-        this.name = new Name(sample.SAMPLE_NAME.toString());
-        this.dateOfBirth = new DateOfBirth(sample.SAMPLE_DATEOFBIRTH.toString());
-        this.phone = new Phone(sample.SAMPLE_PHONE.toString());
-        this.email = new Email(sample.SAMPLE_EMAIL.toString());
-        this.department = new Department(sample.SAMPLE_DEPARTMENT.toString());
-        this.position = new Position(sample.SAMPLE_POSITION.toString());
-        this.address = new Address(sample.SAMPLE_ADDRESS.toString());
-        this.salary = new Salary(sample.SAMPLE_SALARY.toString());
-        this.bonus = new Bonus(sample.SAMPLE_BONUS.toString());
-        this.tags.addAll(new HashSet<>());
-    }
-
     public EmployeeId getEmployeeId() {
         return employeeId;
     }
@@ -0,0 +1,26 @@
+package seedu.address.model.person;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+/**
+ * The attributes of a {@code Person} that persons can be grouped and filtered by.
+ */
+public enum PersonAttribute {
+    DEPARTMENT, POSITION, TAG;
+
+    /**
+     * Returns the values of this attribute for the given {@code person}.
+     */
+    public Collection<String> valuesOf(Person person) {
+        switch (this) {
+        case DEPARTMENT:
+            return Collections.singletonList(person.getDepartment().value);
+        case POSITION:
+            return Collections.singletonList(person.getPosition().value);
+        default:
+            return person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Hash indexes over the identity fields of the persons held by a {@code UniquePersonList}.
+ * Each of email, phone and (name, date of birth) identifies at most one person in a unique list, mirroring
+ * {@code Person#isSamePerson(Person)}. Employee ids are not enforced to be unique by the list, so they are counted.
+ *
+ * Email and name keys are case-insensitive, in line with {@code Email#equals(Object)} and {@code Name#equals(Object)}.
+ */
+class PersonIdentityIndex {
+
+    private final Map<String, Person> emailIndex = new HashMap<>();
+    private final Map<String, Person> phoneIndex = new HashMap<>();
+    private final Map<String, Person> nameAndDateOfBirthIndex = new HashMap<>();
+    private final Map<EmployeeId, Integer> employeeIdCounts = new HashMap<>();
+
+    /**
+     * Returns the indexed person with the same identity as {@code toCheck}, or null if there is none.
+     * Email matches take precedence over phone matches, which take precedence over name and date of birth matches,
+     * the same order {@code Person#isSamePerson(Person)} uses to report the duplicated field.
+     */
+    Person findSamePerson(Person toCheck) {
+        requireNonNull(toCheck);
+        Person match = emailIndex.get(emailKey(toCheck));
+        if (match == null) {
+            match = phoneIndex.get(phoneKey(toCheck));
+        }
+        if (match == null) {
+            match = nameAndDateOfBirthIndex.get(nameAndDateOfBirthKey(toCheck));
+        }
+        return match;
+    }
+
+    /**
+     * Returns true if an indexed person other than {@code exclude} has the same identity as {@code toCheck}.
+     */
+    boolean hasOtherSamePerson(Person toCheck, Person exclude) {
+        requireNonNull(toCheck);
+        return isOther(emailIndex.get(emailKey(toCheck)), exclude)
+                || isOther(phoneIndex.get(phoneKey(toCheck)), exclude)
+                || isOther(nameAndDateOfBirthIndex.get(nameAndDateOfBirthKey(toCheck)), exclude);
+    }
+
+    /**
+     * Returns true if at least one indexed person has the given employee id.
+     */
+    boolean containsEmployeeId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return employeeIdCounts.containsKey(employeeId);
+    }
+
+    /**
+     * Indexes {@code person}.
+     * Returns false, leaving the index unchanged, if an indexed person already has the same identity.
+     */
+    boolean add(Person person) {
+        requireNonNull(person);
+        if (findSamePerson(person) != null) {
+            return false;
+        }
+        emailIndex.put(emailKey(person), person);
+        phoneIndex.put(phoneKey(person), person);
+        nameAndDateOfBirthIndex.put(nameAndDateOfBirthKey(person), person);
+        if (person.getEmployeeId() != null) {
+            employeeIdCounts.merge(person.getEmployeeId(), 1, Integer::sum);
+        }
+        return true;
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        emailIndex.remove(emailKey(person), person);
+        phoneIndex.remove(phoneKey(person), person);
+        nameAndDateOfBirthIndex.remove(nameAndDateOfBirthKey(person), person);
+        if (person.getEmployeeId() != null) {
+            employeeIdCounts.computeIfPresent(person.getEmployeeId(), (id, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    private static boolean isOther(Person indexed, Person exclude) {
+        return indexed != null && !indexed.equals(exclude);
+    }
+
+    private static String emailKey(Person person) {
+        return person.getEmail().value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String phoneKey(Person person) {
+        return person.getPhone().value;
+    }
+
+    private static String nameAndDateOfBirthKey(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT) + "|" + person.getDateOfBirth().value;
+    }
+}
@@ -22,7 +22,7 @@ public class Phone {
      */
     public Phone(String phone) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_PHONE_CONSTRAINTS);
+        checkArgument(() -> isValidPhone(phone), MESSAGE_PHONE_CONSTRAINTS);
         value = phone;
     }
 
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
+
 /**
  * Represents a Person's Position in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPosition(String)}
@@ -14,6 +18,9 @@ public class Position {
     public static final String MESSAGE_POSITION_KEYWORD_CONSTRAINTS =
             "Position only contains alphabets and spaces, please ensure input parameter(s) are relevant";
     public static final String POSITION_VALIDATION_REGEX = "[A-Za-z ]{2,30}";
+    // the shared instances by value, each dropped once nothing else refers to it
+    private static final ConcurrentMap<String, Position> INSTANCES = new MapMaker().weakValues().makeMap();
+
     public final String value;
 
     /**
@@ -24,10 +31,22 @@ public class Position {
 
     public Position(String position) {
         requireNonNull(position);
-        checkArgument(isValidPosition(position), MESSAGE_POSITION_CONSTRAINTS);
+        checkArgument(() -> isValidPosition(position), MESSAGE_POSITION_CONSTRAINTS);
         value = position;
     }
 
+    /**
+     * Returns the shared {@code Position} for the given valid position.
+     * Equal values read from storage or user input resolve to one instance, however many persons refer to it.
+     *
+     * @param position A valid position.
+     */
+    public static Position of(String position) {
+        requireNonNull(position);
+        // an existing instance is already known to be valid, so only a new value is validated
+        return INSTANCES.computeIfAbsent(position, Position::new);
+    }
+
     /**
      * Returns true if a given string is a valid position.
      */
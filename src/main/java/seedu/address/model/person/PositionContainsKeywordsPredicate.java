@@ -15,8 +15,15 @@ public class PositionContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getPosition().value.toLowerCase().contains(keyword.toLowerCase()));
+        return matches(person.getPosition().value);
+    }
+
+    /**
+     * Returns true if the given {@code position} contains any of the keywords, ignoring case.
+     */
+    public boolean matches(String position) {
+        String lowerCasePosition = position.toLowerCase();
+        return keywords.stream().anyMatch(keyword -> lowerCasePosition.contains(keyword.toLowerCase()));
     }
 
     @Override
@@ -22,7 +22,7 @@ public class Salary {
 
     public Salary(String salary) {
         requireNonNull(salary);
-        checkArgument(isValidSalary(salary), MESSAGE_SALARY_CONSTRAINTS);
+        checkArgument(() -> isValidSalary(salary), MESSAGE_SALARY_CONSTRAINTS);
         value = salary;
     }
 
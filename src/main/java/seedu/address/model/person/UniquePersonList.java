@@ -1,8 +1,13 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.addSorted;
+import static seedu.address.commons.util.CollectionUtil.isSorted;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.setAllChanged;
+import static seedu.address.commons.util.CollectionUtil.setSorted;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -10,6 +15,8 @@ import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentListMirror;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -21,20 +28,36 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered from hash indexes on email, phone, (name, date of birth) and employee id that are kept
+ * in sync with the backing list.
+ *
+ * Once sorted, the list stays sorted in that order: added and edited persons are inserted at their sorted position
+ * instead of the whole list being sorted again.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    private static final Comparator<Person> NAME_ASCENDING = (personA, personB) ->
+            personA.getName().fullName.compareToIgnoreCase(personB.getName().fullName);
+    private static final Comparator<Person> NAME_DESCENDING = Collections.reverseOrder(NAME_ASCENDING);
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersistentListMirror<Person> snapshots = new PersistentListMirror<>(internalList);
+    private PersonIdentityIndex identityIndex = new PersonIdentityIndex();
+    // null until the list is first sorted, in which case persons are kept in insertion order
+    private Comparator<Person> sortOrder;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        Person samePerson = identityIndex.findSamePerson(toCheck);
+        // isSamePerson also records which identity field is duplicated for the add and edit commands
+        return samePerson != null && toCheck.isSamePerson(samePerson);
     }
 
     /**
@@ -48,24 +71,36 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if the list contains an equivalent employeeId as the given person's employeeId.
+     * Returns true if the list contains a person with the given {@code employeeId}.
      */
-    public boolean containsEmployeeId(Person toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEmployeeId);
+    public boolean containsEmployeeId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return identityIndex.containsEmployeeId(employeeId);
     }
 
-
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a person to the list at {@code index}, or at its sorted position if the list is kept sorted.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        identityIndex.add(toAdd);
+        if (sortOrder == null) {
+            internalList.add(index, toAdd);
+        } else {
+            addSorted(internalList, toAdd, sortOrder);
+        }
     }
 
     /**
@@ -81,27 +116,37 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        if (identityIndex.hasOtherSamePerson(editedPerson, target)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        identityIndex.remove(target);
+        identityIndex.add(editedPerson);
+        if (sortOrder == null) {
+            internalList.set(index, editedPerson);
+        } else {
+            setSorted(internalList, index, editedPerson, sortOrder);
+        }
     }
 
     /**
-     * Removes the equivalent person from the list.
+     * Removes the equivalent person from the list and returns the position it was at.
      * The person must exist in the list.
      */
-    public void remove(Person toRemove) {
+    public int remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        identityIndex.remove(toRemove);
+        return index;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.internalList);
     }
 
     /**
@@ -110,11 +155,19 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        PersonIdentityIndex replacementIndex = indexOf(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        identityIndex = replacementIndex;
+        if (sortOrder != null && !isSorted(persons, sortOrder)) {
+            List<Person> sortedPersons = new ArrayList<>(persons);
+            sortedPersons.sort(sortOrder);
+            setAllChanged(internalList, sortedPersons);
+            return;
+        }
+        setAllChanged(internalList, persons);
     }
 
     //Reused from https://github.com/CS2103JAN2018-F14-B1/main/pull/57 with minor modifications
@@ -123,25 +176,39 @@ public class UniquePersonList implements Iterable<Person> {
      * @param order The sort order input by the user (either ascending or descending)
      */
     public void sortByName(String order) {
-        Comparator <Person> nameComparator = new Comparator<Person>() {
-            @Override
-            public int compare(Person personA, Person personB) {
-                return personA.getName().fullName.compareToIgnoreCase(personB.getName().fullName);
-            }
-        };
-
         switch (order) {
         case FilterCommand.ASCENDING:
-            Collections.sort(internalList, nameComparator);
+            sortBy(NAME_ASCENDING);
             break;
         case FilterCommand.DESCENDING:
-            Collections.sort(internalList, Collections.reverseOrder(nameComparator));
+            sortBy(NAME_DESCENDING);
             break;
         default:
             throw new AssertionError("Invalid parameter for order entered");
         }
     }
 
+    /**
+     * Sorts the list by {@code comparator} and keeps it sorted by {@code comparator} from now on.
+     * Does nothing if the list is already kept in that order.
+     */
+    private void sortBy(Comparator<Person> comparator) {
+        if (comparator == sortOrder) {
+            return;
+        }
+        sortOrder = comparator;
+        if (!isSorted(internalList, comparator)) {
+            Collections.sort(internalList, comparator);
+        }
+    }
+
+    /**
+     * Returns an immutable copy of the list as it is now, sharing unchanged persons with earlier copies.
+     */
+    public PersistentList<Person> snapshot() {
+        return snapshots.current();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -167,16 +234,15 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns an index of {@code persons}, or null if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static PersonIdentityIndex indexOf(List<Person> persons) {
+        PersonIdentityIndex personsIndex = new PersonIdentityIndex();
+        for (Person person : persons) {
+            if (!personsIndex.add(person)) {
+                return null;
             }
         }
-        return true;
+        return personsIndex;
     }
 }
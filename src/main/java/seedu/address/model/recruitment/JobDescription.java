@@ -24,7 +24,7 @@ public class JobDescription {
     public final String value;
     public JobDescription(String jobDescription) {
         requireNonNull(jobDescription);
-        checkArgument(isValidJobDescription(jobDescription), MESSAGE_JOB_DESCRIPTION_CONSTRAINTS);
+        checkArgument(() -> isValidJobDescription(jobDescription), MESSAGE_JOB_DESCRIPTION_CONSTRAINTS);
         value = jobDescription;
     }
     @Override
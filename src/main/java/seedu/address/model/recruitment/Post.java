@@ -23,7 +23,7 @@ public class Post {
     public final String value;
     public Post(String post) {
         requireNonNull(post);
-        checkArgument(isValidPost(post), MESSAGE_POST_CONSTRAINTS);
+        checkArgument(() -> isValidPost(post), MESSAGE_POST_CONSTRAINTS);
         value = post;
     }
     @Override
@@ -13,4 +13,10 @@ public interface ReadOnlyRecruitmentList {
      */
     ObservableList<Recruitment> getRecruitmentList();
 
+    /**
+     * Returns a copy of this recruitment list as it is now, which later changes to it do not affect.
+     */
+    default ReadOnlyRecruitmentList snapshot() {
+        return new RecruitmentList(this);
+    }
 }
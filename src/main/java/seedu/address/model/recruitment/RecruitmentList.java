@@ -2,9 +2,13 @@ package seedu.address.model.recruitment;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.recruitment.exceptions.DuplicateRecruitmentException;
 
 /**
  * Wraps all data at the address-book level
@@ -72,6 +76,14 @@ public class RecruitmentList implements ReadOnlyRecruitmentList {
         recruitments.add(recruitment);
     }
 
+    /**
+     * Adds a recruitment to the recruitment list at {@code index}.
+     * The recruitmentPost must not already exist in the recruitment list.
+     */
+    void addRecruitment(int index, Recruitment recruitment) {
+        recruitments.add(index, recruitment);
+    }
+
     /**
      * Replaces the given recruitmentPost {@code target} in the recruitmentList with {@code editedRecruitment}.
      * {@code target} must exist in the address book.
@@ -89,7 +101,15 @@ public class RecruitmentList implements ReadOnlyRecruitmentList {
      * {@code key} must exist in the address book.
      */
     public void removeRecruitment(Recruitment key) {
-        recruitments.remove(key);
+        removeRecruitmentAndGetIndex(key);
+    }
+
+    /**
+     * Removes {@code key} from this {@code RecruitmentList} like {@link #removeRecruitment(Recruitment)}, and returns
+     * the position it was at.
+     */
+    int removeRecruitmentAndGetIndex(Recruitment key) {
+        return recruitments.remove(key);
     }
 
     //// util methods
@@ -100,6 +120,23 @@ public class RecruitmentList implements ReadOnlyRecruitmentList {
         // TODO: refine later
     }
 
+    /**
+     * Returns an immutable copy of the recruitments as they are now, for saving a state of the recruitment list.
+     */
+    PersistentList<Recruitment> getRecruitmentSnapshot() {
+        return recruitments.snapshot();
+    }
+
+    /**
+     * Returns a copy of this recruitment list as it is now, which shares the current snapshot instead of copying it.
+     */
+    @Override
+    public ReadOnlyRecruitmentList snapshot() {
+        ObservableList<Recruitment> snapshot = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(getRecruitmentSnapshot()));
+        return () -> snapshot;
+    }
+
     @Override
     public ObservableList<Recruitment> getRecruitmentList() {
         return recruitments.asUnmodifiableObservableList();
@@ -116,4 +153,34 @@ public class RecruitmentList implements ReadOnlyRecruitmentList {
     public int hashCode() {
         return recruitments.hashCode();
     }
+
+    /**
+     * Collects recruitments one at a time, such as while reading a data file, to create a {@code RecruitmentList}
+     * with all of them at once. Duplicates are found by hashing when it is built, and the list is changed once
+     * instead of once per recruitment.
+     */
+    public static class Builder {
+
+        private final List<Recruitment> recruitments = new ArrayList<>();
+
+        /**
+         * Adds {@code recruitment} after the recruitments already added.
+         */
+        public Builder addRecruitment(Recruitment recruitment) {
+            requireNonNull(recruitment);
+            recruitments.add(recruitment);
+            return this;
+        }
+
+        /**
+         * Returns a {@code RecruitmentList} with the recruitments added, in the order they were added.
+         *
+         * @throws DuplicateRecruitmentException if two of the recruitments added are the same.
+         */
+        public RecruitmentList build() {
+            RecruitmentList recruitmentList = new RecruitmentList();
+            recruitmentList.setRecruitments(recruitments);
+            return recruitmentList;
+        }
+    }
 }
@@ -2,12 +2,16 @@ package seedu.address.model.recruitment;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.setAllChanged;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentListMirror;
 import seedu.address.model.recruitment.exceptions.DuplicateRecruitmentException;
 import seedu.address.model.recruitment.exceptions.RecruitmentNotFoundException;
 
@@ -29,6 +33,7 @@ import seedu.address.model.recruitment.exceptions.RecruitmentNotFoundException;
 public class UniqueRecruitmentList implements Iterable<Recruitment> {
 
     private final ObservableList<Recruitment> internalList = FXCollections.observableArrayList();
+    private final PersistentListMirror<Recruitment> snapshots = new PersistentListMirror<>(internalList);
 
     /**
      * Returns true if the list contains an equivalent recruitment as the given argument.
@@ -43,11 +48,19 @@ public class UniqueRecruitmentList implements Iterable<Recruitment> {
      * The recruitmentPost must not already exist in the list.
      */
     public void add(Recruitment toAddRecruitment) {
+        add(internalList.size(), toAddRecruitment);
+    }
+
+    /**
+     * Adds a recruitmentPost to the list at {@code index}.
+     * The recruitmentPost must not already exist in the list.
+     */
+    public void add(int index, Recruitment toAddRecruitment) {
         requireNonNull(toAddRecruitment);
         if (contains(toAddRecruitment)) {
             throw new DuplicateRecruitmentException();
         }
-        internalList.add(toAddRecruitment);
+        internalList.add(index, toAddRecruitment);
     }
 
     /**
@@ -72,19 +85,22 @@ public class UniqueRecruitmentList implements Iterable<Recruitment> {
     }
 
     /**
-     * Removes the equivalent recruitmentPost from the list.
+     * Removes the equivalent recruitmentPost from the list and returns the position it was at.
      * The recruitmentPost must exist in the list.
      */
-    public void remove(Recruitment toRemove) {
+    public int remove(Recruitment toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new RecruitmentNotFoundException();
         }
+        internalList.remove(index);
+        return index;
     }
 
     public void setRecruitments(UniqueRecruitmentList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setAllChanged(internalList, replacement.internalList);
     }
 
     /**
@@ -93,11 +109,18 @@ public class UniqueRecruitmentList implements Iterable<Recruitment> {
      */
     public void setRecruitments(List<Recruitment> recruitments) {
         requireAllNonNull(recruitments);
-        if (!personsAreUnique(recruitments)) {
+        if (!recruitmentsAreUnique(recruitments)) {
             throw new DuplicateRecruitmentException();
         }
 
-        internalList.setAll(recruitments);
+        setAllChanged(internalList, recruitments);
+    }
+
+    /**
+     * Returns an immutable copy of the list as it is now, sharing unchanged recruitments with earlier copies.
+     */
+    public PersistentList<Recruitment> snapshot() {
+        return snapshots.current();
     }
 
     /**
@@ -126,15 +149,9 @@ public class UniqueRecruitmentList implements Iterable<Recruitment> {
 
     /**
      * Returns true if {@code recruitments} contains only unique recruitmentPosts.
+     * Recruitments are the same exactly when they are equal, so they are compared by hashing.
      */
-    private boolean personsAreUnique(List<Recruitment> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSameRecruitment(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private boolean recruitmentsAreUnique(List<Recruitment> recruitments) {
+        return new HashSet<>(recruitments).size() == recruitments.size();
     }
 }
@@ -1,72 +1,130 @@
 package seedu.address.model.recruitment;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.OperationLog;
+
 /**
- * {@code AddressBook} that keeps track of its own history.
+ * {@code RecruitmentList} that keeps track of its own history.
+ * Changes are recorded as they are made, so undoing or redoing a commit only replays the recruitments changed in that
+ * commit instead of restoring a copy of the whole recruitment list.
  */
 public class VersionedRecruitmentList extends RecruitmentList {
 
-    private final List<ReadOnlyRecruitmentList> recruitmentListStateList;
-    private int currentStatePointer;
+    private final OperationLog<Recruitment> history = new OperationLog<>(new OperationLog.ListEditor<Recruitment>() {
+        @Override
+        public void setAll(List<Recruitment> records) {
+            VersionedRecruitmentList.super.setRecruitments(records);
+        }
+
+        @Override
+        public void add(Recruitment record) {
+            VersionedRecruitmentList.super.addRecruitment(record);
+        }
+
+        @Override
+        public void add(int index, Recruitment record) {
+            VersionedRecruitmentList.super.addRecruitment(index, record);
+        }
+
+        @Override
+        public void update(Recruitment target, Recruitment editedRecord) {
+            VersionedRecruitmentList.super.updateRecruitment(target, editedRecord);
+        }
+
+        @Override
+        public void remove(Recruitment record) {
+            VersionedRecruitmentList.super.removeRecruitment(record);
+        }
+    });
 
     public VersionedRecruitmentList(ReadOnlyRecruitmentList initialState) {
-        super(initialState);
+        // the initial state is loaded without being recorded as a change
+        super.setRecruitments(initialState.getRecruitmentList());
+    }
+
+    /**
+     * Replaces the recruitment posts with {@code loadedState} without recording it as a change, like the initial state.
+     * Used when the initial state finishes loading after this list was created, before any change is made to it.
+     */
+    public void loadInitialState(ReadOnlyRecruitmentList loadedState) {
+        super.setRecruitments(loadedState.getRecruitmentList());
+    }
 
-        recruitmentListStateList = new ArrayList<>();
-        recruitmentListStateList.add(new RecruitmentList(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void setRecruitments(List<Recruitment> recruitments) {
+        PersistentList<Recruitment> oldRecruitments = getRecruitmentSnapshot();
+        super.setRecruitments(recruitments);
+        PersistentList<Recruitment> newRecruitments = getRecruitmentSnapshot();
+        history.recordReplacement(oldRecruitments, newRecruitments);
+    }
+
+    @Override
+    public void addRecruitment(Recruitment recruitment) {
+        super.addRecruitment(recruitment);
+        history.recordAddition(recruitment);
+    }
+
+    @Override
+    public void updateRecruitment(Recruitment target, Recruitment editedRecruitment) {
+        super.updateRecruitment(target, editedRecruitment);
+        history.recordUpdate(target, editedRecruitment);
+    }
+
+    @Override
+    public void removeRecruitment(Recruitment key) {
+        int index = super.removeRecruitmentAndGetIndex(key);
+        history.recordRemoval(index, key);
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
+     * Saves the current {@code RecruitmentList} state as a commit, grouping the changes made since the last commit.
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        recruitmentListStateList.add(new RecruitmentList(this));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        recruitmentListStateList.subList(currentStatePointer + 1, recruitmentListStateList.size()).clear();
+        history.commit();
     }
 
     /**
-     * Restores the address book to its previous state.
+     * Restores the recruitment list to its previous state.
      */
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(recruitmentListStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
-     * Restores the address book to its previously undone state.
+     * Restores the recruitment list to its previously undone state.
      */
     public void redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(recruitmentListStateList.get(currentStatePointer));
+        history.redo();
+    }
+
+    /**
+     * Returns the history of the recruitment list, to move its oldest commits out of memory and back.
+     */
+    public OperationLog<Recruitment> getHistory() {
+        return history;
     }
 
     /**
-     * Returns true if {@code undo()} has address book states to undo.
+     * Returns true if {@code undo()} has recruitment list states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
-     * Returns true if {@code redo()} has address book states to redo.
+     * Returns true if {@code redo()} has recruitment list states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < recruitmentListStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -85,8 +143,7 @@ public class VersionedRecruitmentList extends RecruitmentList {
 
         // state check
         return super.equals(otherVersionedRecruitmentList)
-                && recruitmentListStateList.equals(otherVersionedRecruitmentList.recruitmentListStateList)
-                && currentStatePointer == otherVersionedRecruitmentList.currentStatePointer;
+                && history.equals(otherVersionedRecruitmentList.history);
     }
 
     /**
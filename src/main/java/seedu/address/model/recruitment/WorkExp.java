@@ -23,7 +23,7 @@ public class WorkExp {
      */
     public WorkExp(String workExp) {
         requireNonNull(workExp);
-        checkArgument(isValidWorkExp(workExp), MESSAGE_WORK_EXP_CONSTRAINTS);
+        checkArgument(() -> isValidWorkExp(workExp), MESSAGE_WORK_EXP_CONSTRAINTS);
         this.workExp = workExp;
     }
 
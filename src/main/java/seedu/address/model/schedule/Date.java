@@ -2,6 +2,7 @@ package seedu.address.model.schedule;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.AppUtil.isReadingSavedData;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -42,8 +43,10 @@ public class Date {
 
     public Date(String date) {
         requireNonNull(date);
-        checkArgument(isValidScheduleDate(date), dateConstraintsError);
-        date = formatDate(date);
+        if (!isReadingSavedData()) {
+            checkArgument(isValidScheduleDate(date), dateConstraintsError);
+            date = formatDate(date);
+        }
         value = date;
     }
 
@@ -1,24 +1,24 @@
 package seedu.address.model.schedule;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
- * Tests that a {@code Schedule}'s {@code Name} matches any of the Id given.
+ * Tests that a {@code Schedule}'s {@code EmployeeId} matches any of the Id given.
+ * The Ids are held in a hash set, so each test is a single lookup however many Ids are given.
  */
 public class EmployeeIdScheduleContainsKeywordsPredicate implements Predicate <Schedule> {
-    private final List<String> keywords;
+    private final Set<String> keywords;
 
-    public EmployeeIdScheduleContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
+    public EmployeeIdScheduleContainsKeywordsPredicate(Collection<String> keywords) {
+        this.keywords = new HashSet<>(keywords);
     }
 
     @Override
     public boolean test(Schedule schedule) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(schedule.getEmployeeId().value, keyword));
+        return keywords.contains(schedule.getEmployeeId().value);
     }
 
     @Override
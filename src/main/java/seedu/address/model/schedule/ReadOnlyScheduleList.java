@@ -13,4 +13,10 @@ public interface ReadOnlyScheduleList {
      */
     ObservableList<Schedule> getScheduleList();
 
+    /**
+     * Returns a copy of this schedule list as it is now, which later changes to it do not affect.
+     */
+    default ReadOnlyScheduleList snapshot() {
+        return new ScheduleList(this);
+    }
 }
@@ -0,0 +1,28 @@
+package seedu.address.model.schedule;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * Schedules kept in storage that are not read with the schedule list, such as those of past years, and are read
+ * only when they are needed.
+ */
+@FunctionalInterface
+public interface ScheduleArchive {
+
+    /**
+     * Returns the schedules not read yet of the years accepted by {@code isNeeded}.
+     * The schedules of a year are returned at most once.
+     */
+    List<Schedule> read(Predicate<Year> isNeeded);
+
+    /**
+     * Returns a predicate accepting the years that may hold archived schedules of the employee with
+     * {@code employeeId}, which accepts every year unless the archive keeps track of the employees of each year.
+     */
+    default Predicate<Year> findYearsOf(EmployeeId employeeId) {
+        return year -> true;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * Running counts of the schedules held by a {@code UniqueScheduleList}, keyed by employee id, year and type.
+ * Counts are updated as schedules are added and removed, so reading a count does not scan the schedules.
+ */
+class ScheduleCounter {
+
+    private final Map<EmployeeId, Map<String, Integer>> countsByEmployeeId = new HashMap<>();
+
+    /**
+     * Returns the number of counted schedules of the given {@code type} in the given {@code year}
+     * for the employee with the given {@code employeeId}.
+     */
+    int count(EmployeeId employeeId, Year year, Type type) {
+        requireNonNull(employeeId);
+        Map<String, Integer> employeeCounts = countsByEmployeeId.get(employeeId);
+        if (employeeCounts == null) {
+            return 0;
+        }
+        return employeeCounts.getOrDefault(key(year.value, type), 0);
+    }
+
+    /**
+     * Returns the number of counted schedules of the given {@code type} in the given {@code year} for every
+     * employee with at least one such schedule.
+     */
+    Map<EmployeeId, Integer> count(Year year, Type type) {
+        String key = key(year.value, type);
+        Map<EmployeeId, Integer> counts = new HashMap<>();
+        countsByEmployeeId.forEach((employeeId, employeeCounts) -> {
+            Integer count = employeeCounts.get(key);
+            if (count != null) {
+                counts.put(employeeId, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Counts {@code schedule}.
+     */
+    void add(Schedule schedule) {
+        requireNonNull(schedule);
+        countsByEmployeeId.computeIfAbsent(schedule.getEmployeeId(), unused -> new HashMap<>())
+                .merge(key(schedule), 1, Integer::sum);
+    }
+
+    /**
+     * Stops counting {@code schedule}.
+     */
+    void remove(Schedule schedule) {
+        requireNonNull(schedule);
+        Map<String, Integer> employeeCounts = countsByEmployeeId.get(schedule.getEmployeeId());
+        if (employeeCounts == null) {
+            return;
+        }
+        employeeCounts.computeIfPresent(key(schedule), (key, count) -> count == 1 ? null : count - 1);
+        if (employeeCounts.isEmpty()) {
+            countsByEmployeeId.remove(schedule.getEmployeeId());
+        }
+    }
+
+    /**
+     * Stops counting every schedule of the employee with the given {@code employeeId}.
+     */
+    void removeAll(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        countsByEmployeeId.remove(employeeId);
+    }
+
+    private static String key(Schedule schedule) {
+        return key(schedule.getScheduleYear(), schedule.getType());
+    }
+
+    private static String key(String year, Type type) {
+        return year + "|" + type.value;
+    }
+}
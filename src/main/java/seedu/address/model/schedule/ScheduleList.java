@@ -2,9 +2,15 @@ package seedu.address.model.schedule;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 
 /**
  * Wraps all data at the schedule-list level
@@ -63,6 +69,31 @@ public class ScheduleList implements ReadOnlyScheduleList {
         return schedules.contains(schedule);
     }
 
+    /**
+     * Returns true if the schedule list contains at least one schedule of the employee with the given
+     * {@code employeeId}.
+     */
+    public boolean hasSchedules(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return schedules.containsEmployeeId(employeeId);
+    }
+
+    /**
+     * Returns the number of schedules of the given {@code type} in the given {@code year}
+     * for the employee with the given {@code employeeId}.
+     */
+    public int countSchedules(EmployeeId employeeId, Year year, Type type) {
+        return schedules.count(employeeId, year, type);
+    }
+
+    /**
+     * Returns the number of schedules of the given {@code type} in the given {@code year} for every employee
+     * with at least one such schedule.
+     */
+    public Map<EmployeeId, Integer> countSchedules(Year year, Type type) {
+        return schedules.count(year, type);
+    }
+
     /**
      * Adds a schedule to the schedule list.
      * The schedule must not already exist in the schedule list.
@@ -71,6 +102,14 @@ public class ScheduleList implements ReadOnlyScheduleList {
         schedules.add(schedule);
     }
 
+    /**
+     * Adds a schedule to the schedule list at {@code index}, or at its sorted position if the list is kept sorted.
+     * The schedule must not already exist in the schedule list.
+     */
+    void addSchedule(int index, Schedule schedule) {
+        schedules.add(index, schedule);
+    }
+
     /**
      * Replaces the given schedule {@code schedule} in the list with {@code editedSchedule}.
      * {@code schedule} must exist in the schedule list.
@@ -85,7 +124,24 @@ public class ScheduleList implements ReadOnlyScheduleList {
      * {@code key} must exist in the schedule list.
      */
     public void removeSchedule(Schedule key) {
-        schedules.remove(key);
+        removeScheduleAndGetIndex(key);
+    }
+
+    /**
+     * Removes {@code key} from this {@code ScheduleList} like {@link #removeSchedule(Schedule)}, and returns the
+     * position it was at.
+     */
+    int removeScheduleAndGetIndex(Schedule key) {
+        return schedules.remove(key);
+    }
+
+    /**
+     * Removes all schedules of the employee with the given {@code employeeId} from this {@code ScheduleList}.
+     * Returns true if at least one schedule was removed.
+     */
+    public boolean removeSchedules(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return schedules.removeAll(employeeId);
     }
 
     /**
@@ -103,6 +159,23 @@ public class ScheduleList implements ReadOnlyScheduleList {
         // TODO: refine later
     }
 
+    /**
+     * Returns an immutable copy of the schedules as they are now, for saving a state of the schedule list.
+     */
+    PersistentList<Schedule> getScheduleSnapshot() {
+        return schedules.snapshot();
+    }
+
+    /**
+     * Returns a copy of this schedule list as it is now, which shares the current snapshot instead of copying it.
+     */
+    @Override
+    public ReadOnlyScheduleList snapshot() {
+        ObservableList<Schedule> snapshot = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(getScheduleSnapshot()));
+        return () -> snapshot;
+    }
+
     @Override
     public ObservableList<Schedule> getScheduleList() {
         return schedules.asUnmodifiableObservableList();
@@ -119,4 +192,34 @@ public class ScheduleList implements ReadOnlyScheduleList {
     public int hashCode() {
         return schedules.hashCode();
     }
+
+    /**
+     * Collects schedules one at a time, such as while reading a data file, to create a {@code ScheduleList} with all of
+     * them at once. Duplicates are found through the list's hash index when it is built, and the list is changed once
+     * instead of once per schedule.
+     */
+    public static class Builder {
+
+        private final List<Schedule> schedules = new ArrayList<>();
+
+        /**
+         * Adds {@code schedule} after the schedules already added.
+         */
+        public Builder addSchedule(Schedule schedule) {
+            requireNonNull(schedule);
+            schedules.add(schedule);
+            return this;
+        }
+
+        /**
+         * Returns a {@code ScheduleList} with the schedules added, in the order they were added.
+         *
+         * @throws DuplicateScheduleException if two of the schedules added are the same.
+         */
+        public ScheduleList build() {
+            ScheduleList scheduleList = new ScheduleList();
+            scheduleList.setSchedules(schedules);
+            return scheduleList;
+        }
+    }
 }
@@ -22,7 +22,7 @@ public class Type {
     public final String value;
     public Type(String type) {
         requireNonNull(type);
-        checkArgument(isValidType(type.toUpperCase()), MESSAGE_TYPE_CONSTRAINTS);
+        checkArgument(() -> isValidType(type.toUpperCase()), MESSAGE_TYPE_CONSTRAINTS);
         value = type.toUpperCase();
     }
     @Override
@@ -1,15 +1,27 @@
 package seedu.address.model.schedule;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.addSorted;
+import static seedu.address.commons.util.CollectionUtil.isSorted;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.setAllChanged;
+import static seedu.address.commons.util.CollectionUtil.setSorted;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentListMirror;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
 
@@ -21,20 +33,36 @@ import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
  * However, the removal of a schedule uses Schedule#equals(Object) so
  * as to ensure that the schedule with exactly the same fields will be removed.
  *
+ * Identity checks are answered from a composite (employee id, date, type) hash index that is kept in sync with the
+ * backing list, so checking whether a schedule or a conflicting leave exists does not scan the list.
+ * Running counts by employee id, year and type are kept alongside the index for leave calculations.
+ *
+ * Once sorted, the list stays sorted by employee id: added and edited schedules are inserted at their sorted position
+ * instead of the whole list being sorted again.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Schedule#isSameSchedule(Schedule)
  */
 public class UniqueScheduleList implements Iterable<Schedule> {
 
+    private static final Comparator<Schedule> EMPLOYEE_ID_ASCENDING = (scheduleA, scheduleB) ->
+            scheduleA.getEmployeeId().value.compareTo(scheduleB.getEmployeeId().value);
+
     private final ObservableList<Schedule> internalList = FXCollections.observableArrayList();
+    private final PersistentListMirror<Schedule> snapshots = new PersistentListMirror<>(internalList);
+    private Map<EmployeeId, Set<Schedule>> schedulesByEmployeeId = new HashMap<>();
+    private ScheduleCounter counter = new ScheduleCounter();
+    // null until the list is first sorted, in which case schedules are kept in insertion order
+    private Comparator<Schedule> sortOrder;
 
     /**
      * Returns true if the list contains an equivalent schedule as the given argument.
      */
     public boolean contains(Schedule toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameSchedule);
+        Set<Schedule> employeeSchedules = schedulesByEmployeeId.get(toCheck.getEmployeeId());
+        return employeeSchedules != null && employeeSchedules.contains(toCheck);
     }
 
     /**
@@ -42,11 +70,25 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      * The schedule must not already exist in the list.
      */
     public void add(Schedule toAddSchedule) {
+        add(internalList.size(), toAddSchedule);
+    }
+
+    /**
+     * Adds a schedule to the list at {@code index}, or at its sorted position if the list is kept sorted.
+     * The schedule must not already exist in the list.
+     */
+    public void add(int index, Schedule toAddSchedule) {
         requireNonNull(toAddSchedule);
         if (contains(toAddSchedule)) {
             throw new DuplicateScheduleException();
         }
-        internalList.add(toAddSchedule);
+        addToIndex(schedulesByEmployeeId, toAddSchedule);
+        counter.add(toAddSchedule);
+        if (sortOrder == null) {
+            internalList.add(index, toAddSchedule);
+        } else {
+            addSorted(internalList, toAddSchedule, sortOrder);
+        }
     }
 
     /**
@@ -66,23 +108,93 @@ public class UniqueScheduleList implements Iterable<Schedule> {
             throw new DuplicateScheduleException();
         }
 
-        internalList.set(index, editedSchedule);
+        removeFromIndex(target);
+        addToIndex(schedulesByEmployeeId, editedSchedule);
+        counter.remove(target);
+        counter.add(editedSchedule);
+        if (sortOrder == null) {
+            internalList.set(index, editedSchedule);
+        } else {
+            setSorted(internalList, index, editedSchedule, sortOrder);
+        }
     }
 
     /**
-     * Removes the equivalent schedule from the list.
+     * Removes the equivalent schedule from the list and returns the position it was at.
      * The schedule must exist in the list.
      */
-    public void remove(Schedule toRemove) {
+    public int remove(Schedule toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ScheduleNotFoundException();
         }
+        internalList.remove(index);
+        removeFromIndex(toRemove);
+        counter.remove(toRemove);
+        return index;
+    }
+
+    /**
+     * Returns the schedules of the employee with the given {@code employeeId}.
+     */
+    public List<Schedule> find(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        Set<Schedule> employeeSchedules = schedulesByEmployeeId.get(employeeId);
+        return employeeSchedules == null ? Collections.emptyList() : new ArrayList<>(employeeSchedules);
+    }
+
+    /**
+     * Removes all schedules of the employee with the given {@code employeeId} from the list.
+     * Returns true if at least one schedule was removed.
+     */
+    public boolean removeAll(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        Set<Schedule> employeeSchedules = schedulesByEmployeeId.remove(employeeId);
+        if (employeeSchedules == null) {
+            return false;
+        }
+        // the remaining schedules are kept in one pass, rather than each removed schedule shifting the ones after it
+        List<Schedule> remainingSchedules = new ArrayList<>(internalList.size() - employeeSchedules.size());
+        for (Schedule schedule : internalList) {
+            if (!schedule.getEmployeeId().equals(employeeId)) {
+                remainingSchedules.add(schedule);
+            }
+        }
+        setAllChanged(internalList, remainingSchedules);
+        counter.removeAll(employeeId);
+        return true;
+    }
+
+    /**
+     * Returns true if the list contains at least one schedule of the employee with the given {@code employeeId}.
+     */
+    public boolean containsEmployeeId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return schedulesByEmployeeId.containsKey(employeeId);
+    }
+
+    /**
+     * Returns the number of schedules of the given {@code type} in the given {@code year}
+     * for the employee with the given {@code employeeId}.
+     */
+    public int count(EmployeeId employeeId, Year year, Type type) {
+        requireAllNonNull(employeeId, year, type);
+        return counter.count(employeeId, year, type);
+    }
+
+    /**
+     * Returns the number of schedules of the given {@code type} in the given {@code year} for every employee
+     * with at least one such schedule.
+     */
+    public Map<EmployeeId, Integer> count(Year year, Type type) {
+        requireAllNonNull(year, type);
+        return counter.count(year, type);
     }
 
     public void setSchedules(UniqueScheduleList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setSchedules(replacement.internalList);
     }
 
     /**
@@ -91,11 +203,24 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public void setSchedules(List<Schedule> schedules) {
         requireAllNonNull(schedules);
-        if (!schedulesAreUnique(schedules)) {
-            throw new DuplicateScheduleException();
+        Map<EmployeeId, Set<Schedule>> replacementIndex = new HashMap<>();
+        ScheduleCounter replacementCounter = new ScheduleCounter();
+        for (Schedule schedule : schedules) {
+            if (!addToIndex(replacementIndex, schedule)) {
+                throw new DuplicateScheduleException();
+            }
+            replacementCounter.add(schedule);
         }
 
-        internalList.setAll(schedules);
+        schedulesByEmployeeId = replacementIndex;
+        counter = replacementCounter;
+        if (sortOrder != null && !isSorted(schedules, sortOrder)) {
+            List<Schedule> sortedSchedules = new ArrayList<>(schedules);
+            sortedSchedules.sort(sortOrder);
+            setAllChanged(internalList, sortedSchedules);
+            return;
+        }
+        setAllChanged(internalList, schedules);
     }
 
     //Reused from https://github.com/CS2103JAN2018-F14-B1/main/pull/57 with minor modifications
@@ -103,14 +228,20 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      * Sorts ScheduleList by employeeId in ascending order
      */
     public void sortByEmployeeId() {
-        Comparator<Schedule> scheduleComparator = new Comparator<Schedule>() {
-            @Override
-            public int compare(Schedule scheduleA, Schedule scheduleB) {
-                return scheduleA.getEmployeeId().value.compareTo(scheduleB.getEmployeeId().value);
-            }
-        };
+        if (sortOrder == EMPLOYEE_ID_ASCENDING) {
+            return;
+        }
+        sortOrder = EMPLOYEE_ID_ASCENDING;
+        if (!isSorted(internalList, sortOrder)) {
+            Collections.sort(internalList, sortOrder);
+        }
+    }
 
-        Collections.sort(internalList, scheduleComparator);
+    /**
+     * Returns an immutable copy of the list as it is now, sharing unchanged schedules with earlier copies.
+     */
+    public PersistentList<Schedule> snapshot() {
+        return snapshots.current();
     }
 
     /**
@@ -138,16 +269,24 @@ public class UniqueScheduleList implements Iterable<Schedule> {
     }
 
     /**
-     * Returns true if {@code schedules} contains only unique schedules.
+     * Adds {@code schedule} to {@code index}.
+     * Returns false if {@code index} already contains an equivalent schedule.
      */
-    private boolean schedulesAreUnique(List<Schedule> schedules) {
-        for (int i = 0; i < schedules.size() - 1; i++) {
-            for (int j = i + 1; j < schedules.size(); j++) {
-                if (schedules.get(i).isSameSchedule(schedules.get(j))) {
-                    return false;
-                }
-            }
+    private static boolean addToIndex(Map<EmployeeId, Set<Schedule>> index, Schedule schedule) {
+        return index.computeIfAbsent(schedule.getEmployeeId(), unused -> new HashSet<>()).add(schedule);
+    }
+
+    /**
+     * Removes {@code schedule} from the index of this list.
+     */
+    private void removeFromIndex(Schedule schedule) {
+        Set<Schedule> employeeSchedules = schedulesByEmployeeId.get(schedule.getEmployeeId());
+        if (employeeSchedules == null) {
+            return;
+        }
+        employeeSchedules.remove(schedule);
+        if (employeeSchedules.isEmpty()) {
+            schedulesByEmployeeId.remove(schedule.getEmployeeId());
         }
-        return true;
     }
 }
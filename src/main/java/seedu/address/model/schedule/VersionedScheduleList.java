@@ -3,34 +3,119 @@ package seedu.address.model.schedule;
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.OperationLog;
+import seedu.address.model.person.EmployeeId;
+
 /**
  * {@code ScheduleList} that keeps track of its own history.
+ * Changes are recorded as they are made, so undoing or redoing a commit only replays the schedules changed in that
+ * commit instead of restoring a copy of the whole schedule list.
  */
 public class VersionedScheduleList extends ScheduleList {
 
-    private final List<ReadOnlyScheduleList> scheduleListStateList;
-    private int currentStatePointer;
+    private final OperationLog<Schedule> history = new OperationLog<>(new OperationLog.ListEditor<Schedule>() {
+        @Override
+        public void setAll(List<Schedule> records) {
+            VersionedScheduleList.super.setSchedules(records);
+        }
+
+        @Override
+        public void add(Schedule record) {
+            VersionedScheduleList.super.addSchedule(record);
+        }
+
+        @Override
+        public void add(int index, Schedule record) {
+            VersionedScheduleList.super.addSchedule(index, record);
+        }
+
+        @Override
+        public void update(Schedule target, Schedule editedRecord) {
+            VersionedScheduleList.super.updateSchedule(target, editedRecord);
+        }
+
+        @Override
+        public void remove(Schedule record) {
+            VersionedScheduleList.super.removeSchedule(record);
+        }
+    });
 
     public VersionedScheduleList(ReadOnlyScheduleList initialState) {
-        super(initialState);
+        // the initial state is loaded without being recorded as a change
+        super.setSchedules(initialState.getScheduleList());
+    }
 
-        scheduleListStateList = new ArrayList<>();
-        scheduleListStateList.add(new ScheduleList(initialState));
-        currentStatePointer = 0;
+    /**
+     * Replaces the schedules with {@code loadedState} without recording it as a change, like the initial state.
+     * Used when the initial state finishes loading after this list was created, before any change is made to it.
+     */
+    public void loadInitialState(ReadOnlyScheduleList loadedState) {
+        super.setSchedules(loadedState.getScheduleList());
     }
 
     /**
-     * Saves a copy of the current {@code ScheduleList} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Adds {@code archivedSchedules}, read from storage after this list was created, without recording it as a change.
+     * None of them may already be in the list.
      */
-    public void commit() {
-        removeStatesAfterCurrentPointer();
-        scheduleListStateList.add(new ScheduleList(this));
-        currentStatePointer++;
+    public void loadArchivedSchedules(List<Schedule> archivedSchedules) {
+        List<Schedule> schedules = new ArrayList<>(getScheduleList());
+        schedules.addAll(archivedSchedules);
+        super.setSchedules(schedules);
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        scheduleListStateList.subList(currentStatePointer + 1, scheduleListStateList.size()).clear();
+    @Override
+    public void setSchedules(List<Schedule> schedules) {
+        PersistentList<Schedule> oldSchedules = getScheduleSnapshot();
+        super.setSchedules(schedules);
+        PersistentList<Schedule> newSchedules = getScheduleSnapshot();
+        history.recordReplacement(oldSchedules, newSchedules);
+    }
+
+    @Override
+    public void addSchedule(Schedule schedule) {
+        super.addSchedule(schedule);
+        history.recordAddition(schedule);
+    }
+
+    @Override
+    public void updateSchedule(Schedule target, Schedule editedSchedule) {
+        super.updateSchedule(target, editedSchedule);
+        history.recordUpdate(target, editedSchedule);
+    }
+
+    @Override
+    public void removeSchedule(Schedule key) {
+        int index = super.removeScheduleAndGetIndex(key);
+        history.recordRemoval(index, key);
+    }
+
+    /**
+     * Records each schedule removed rather than the whole list, so undoing it keeps the archived schedules loaded
+     * after it was made.
+     */
+    @Override
+    public boolean removeSchedules(EmployeeId employeeId) {
+        PersistentList<Schedule> oldSchedules = getScheduleSnapshot();
+        if (!super.removeSchedules(employeeId)) {
+            return false;
+        }
+        // recorded from the last position, so that each position still holds when the removals are undone
+        for (int i = oldSchedules.size() - 1; i >= 0; i--) {
+            Schedule schedule = oldSchedules.get(i);
+            if (schedule.getEmployeeId().equals(employeeId)) {
+                history.recordRemoval(i, schedule);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Saves the current {@code ScheduleList} state as a commit, grouping the changes made since the last commit.
+     * Undone states are removed from the state list.
+     */
+    public void commit() {
+        history.commit();
     }
 
     /**
@@ -40,8 +125,7 @@ public class VersionedScheduleList extends ScheduleList {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(scheduleListStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
@@ -51,22 +135,28 @@ public class VersionedScheduleList extends ScheduleList {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(scheduleListStateList.get(currentStatePointer));
+        history.redo();
+    }
+
+    /**
+     * Returns the history of the schedule list, to move its oldest commits out of memory and back.
+     */
+    public OperationLog<Schedule> getHistory() {
+        return history;
     }
 
     /**
      * Returns true if {@code undo()} has schedule list states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has schedule list states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < scheduleListStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -85,8 +175,7 @@ public class VersionedScheduleList extends ScheduleList {
 
         // state check
         return super.equals(otherVersionedScheduleList)
-                && scheduleListStateList.equals(otherVersionedScheduleList.scheduleListStateList)
-                && currentStatePointer == otherVersionedScheduleList.currentStatePointer;
+                && history.equals(otherVersionedScheduleList.history);
     }
 
     /**
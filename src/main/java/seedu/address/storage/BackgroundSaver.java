@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Saves data to a file on a background thread, so that the thread that changed the data does not wait for it to
+ * be written.
+ * Data submitted while an earlier submission is still waiting to be saved replaces it, so a burst of changes is
+ * written once, with the latest data. Data is saved at most {@code delayMillis} after it is first submitted,
+ * plus the time taken to write any earlier data.
+ */
+public class BackgroundSaver<T> {
+
+    private final Saver<T> saver;
+    private final Consumer<IOException> failureHandler;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<T> pending = new AtomicReference<>();
+
+    /**
+     * @param name names the thread that saves the data.
+     * @param saver saves the data to the file.
+     * @param failureHandler is given the exception if the data cannot be saved.
+     * @param delayMillis how long to wait for more changes before saving.
+     */
+    public BackgroundSaver(String name, Saver<T> saver, Consumer<IOException> failureHandler, long delayMillis) {
+        requireAllNonNull(name, saver, failureHandler);
+        this.saver = saver;
+        this.failureHandler = failureHandler;
+        this.delayMillis = delayMillis;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Saves {@code data} on the background thread, unless newer data is submitted before it is saved.
+     * {@code data} must not be changed afterwards.
+     */
+    public void submit(T data) {
+        requireNonNull(data);
+        if (pending.getAndSet(data) == null) {
+            executor.schedule(this::savePending, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the data waiting to be saved, and waits until it and any data being saved have been written.
+     *
+     * @throws IOException if the data waiting to be saved could not be saved. It is not given to the failure handler.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(() -> {
+                T data = pending.getAndSet(null);
+                if (data != null) {
+                    saver.save(data);
+                }
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    /**
+     * Saves the data waiting to be saved, then stops the background thread, even if the data could not be saved.
+     * No more data can be submitted afterwards.
+     *
+     * @throws IOException if the data waiting to be saved could not be saved.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            // a save scheduled for data already flushed has nothing left to save, so it is not waited for
+            executor.shutdownNow();
+        }
+    }
+
+    private void savePending() {
+        T data = pending.getAndSet(null);
+        if (data == null) {
+            return;
+        }
+        try {
+            saver.save(data);
+        } catch (IOException e) {
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Saves data to a file.
+     */
+    @FunctionalInterface
+    public interface Saver<T> {
+        void save(T data) throws IOException;
+    }
+}
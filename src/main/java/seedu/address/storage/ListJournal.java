@@ -0,0 +1,376 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+
+/**
+ * Stores a list of records as an xml snapshot file, laid out as the {@code Xml*FileStorage} classes lay it out,
+ * together with a journal file holding the changes made since the snapshot was written.
+ * Saving a list appends only the records that changed since it was last saved to the journal, and once the journal
+ * holds {@code compactionThreshold} changes, the whole list is written to a new snapshot and the journal is emptied.
+ * Reading a list reads the snapshot, then replays the changes in the journal onto it.
+ *
+ * <p>Each change is written with a checksum, so a change left half written by a crash is detected and dropped.
+ * The journal starts with the checksum of the snapshot it applies to, so a journal left behind by a crash while
+ * compacting, whose changes the new snapshot already holds, is ignored.
+ *
+ * <p>The checksums also show which records are exactly as the app saved them. Those records were valid when they
+ * were saved, so they are converted back without validating their fields again. A snapshot that does not match the
+ * checksum in its journal, such as one edited by hand, has every record validated.
+ *
+ * @param <T> the type of the records.
+ * @param <A> the JAXB-friendly type the records are converted to in the files.
+ */
+public class ListJournal<T, A> {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(ListJournal.class);
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int MAGIC_NUMBER = 0x4A524E4C; // "JRNL"
+
+    private final String rootName;
+    private final String elementName;
+    private final Class<A> adaptedClass;
+    private final Function<? super T, A> adapter;
+    private final RecordConverter<A, T> converter;
+    private final RecordConverter<A, T> savedConverter;
+    private final int compactionThreshold;
+    private final boolean isCompressed;
+
+    // the snapshot file whose journal changes are appended to, and the records it and its journal hold
+    private Path file;
+    private List<T> lastSaved;
+    private int journalLength;
+
+    /**
+     * @param rootName names the root element of the snapshot file.
+     * @param elementName names the element each record is stored in.
+     * @param adapter converts a record to the type stored in the files.
+     * @param converter converts the type stored in the files back to a record, validating it.
+     * @param savedConverter converts the type stored in the files back to a record known to be as the app saved it,
+     *     without validating it again.
+     * @param compactionThreshold how many changes the journal may hold before it is compacted.
+     * @param isCompressed whether snapshots are written compressed with gzip. Snapshots are read whether they are
+     *     compressed or not.
+     */
+    public ListJournal(String rootName, String elementName, Class<A> adaptedClass, Function<? super T, A> adapter,
+            RecordConverter<A, T> converter, RecordConverter<A, T> savedConverter, int compactionThreshold,
+            boolean isCompressed) {
+        requireAllNonNull(rootName, elementName, adaptedClass, adapter, converter, savedConverter);
+        this.rootName = rootName;
+        this.elementName = elementName;
+        this.adaptedClass = adaptedClass;
+        this.adapter = adapter;
+        this.converter = converter;
+        this.savedConverter = savedConverter;
+        this.compactionThreshold = compactionThreshold;
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * Returns the journal file holding the changes made to the snapshot file {@code file}.
+     */
+    public static Path getJournalFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the records in the snapshot file {@code file} with the changes in its journal applied, or
+     * {@code Optional.empty()} if the snapshot file is not found.
+     * Later saves to {@code file} are appended to its journal.
+     *
+     * @throws DataConversionException if either file is not in the expected format.
+     * @throws IOException if there was any problem when reading from the files.
+     */
+    public synchronized Optional<List<T>> read(Path file) throws DataConversionException, IOException {
+        requireNonNull(file);
+
+        this.file = null;
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        boolean isSaved = isSavedSnapshot(file);
+        if (!isSaved) {
+            logger.info("Validating every record in " + file + " as it does not match the checksum in its journal");
+        }
+        RecordConverter<A, T> snapshotConverter = isSaved ? savedConverter : converter;
+        List<T> records = new ArrayList<>();
+        try {
+            XmlUtil.readElementsFromFile(file, rootName, elementName, adaptedClass,
+                    record -> records.add(snapshotConverter.convert(record)));
+        } catch (JAXBException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+
+        journalLength = isSaved ? replayJournal(file, records) : -1;
+        if (XmlUtil.isCompressedFile(file) != isCompressed) {
+            // the next save rewrites the snapshot, so that it is compressed only if it should be
+            journalLength = -1;
+        }
+        this.file = file;
+        lastSaved = new ArrayList<>(records);
+        return Optional.of(records);
+    }
+
+    /**
+     * Makes the next save write a new snapshot, as the snapshot file no longer holds the records last read or saved.
+     */
+    public synchronized void invalidate() {
+        file = null;
+    }
+
+    /**
+     * Saves {@code records} to the snapshot file {@code file}, by appending the records changed since they were last
+     * read from or saved to {@code file} to its journal, or by compacting the journal into a new snapshot.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public synchronized void save(Path file, List<? extends T> records) throws IOException {
+        requireAllNonNull(file, records);
+
+        if (!file.equals(this.file) || journalLength < 0 || journalLength >= compactionThreshold) {
+            compact(file, records);
+            return;
+        }
+
+        int start = 0;
+        int oldEnd = lastSaved.size();
+        int newEnd = records.size();
+        // records are compared by identity, as records that are equal may still differ in fields that are saved,
+        // while the records left unchanged are the same objects as those last saved
+        while (start < oldEnd && start < newEnd && lastSaved.get(start) == records.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && lastSaved.get(oldEnd - 1) == records.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+        if (start == oldEnd && start == newEnd) {
+            return;
+        }
+
+        try {
+            appendChange(file, start, oldEnd - start, records.subList(start, newEnd));
+        } catch (IOException e) {
+            // the journal may end with part of the change, so the next save starts a new one
+            journalLength = -1;
+            throw e;
+        }
+        lastSaved.subList(start, oldEnd).clear();
+        lastSaved.addAll(start, records.subList(start, newEnd));
+        journalLength++;
+    }
+
+    /**
+     * Writes {@code records} to a new snapshot that replaces {@code file} in one step, then empties its journal.
+     */
+    private void compact(Path file, List<? extends T> records) throws IOException {
+        // if compacting fails, the next save tries again
+        journalLength = -1;
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        FileUtil.createIfMissing(tempFile);
+        try {
+            XmlUtil.saveElementsToFile(tempFile, rootName, elementName, adaptedClass, records, adapter,
+                    isCompressed);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        long snapshotChecksum = SavedFileChecksum.checksum(tempFile);
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        // a crash before the new journal is written leaves the old one, which no longer matches the snapshot
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + Long.BYTES);
+        header.putInt(MAGIC_NUMBER).putLong(snapshotChecksum).flip();
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(file), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(header);
+            channel.force(true);
+        }
+
+        this.file = file;
+        lastSaved = new ArrayList<>(records);
+        journalLength = 0;
+    }
+
+    /**
+     * Appends a change replacing {@code removedCount} records at {@code index} by {@code addedRecords} to the
+     * journal of {@code file}, and waits until it is written to the disk.
+     */
+    private void appendChange(Path file, int index, int removedCount, List<? extends T> addedRecords)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream change = new DataOutputStream(bytes);
+        change.writeInt(index);
+        change.writeInt(removedCount);
+        change.writeInt(addedRecords.size());
+        for (T record : addedRecords) {
+            byte[] xml;
+            try {
+                xml = XmlUtil.toXmlElement(elementName, adaptedClass, adapter.apply(record))
+                        .getBytes(StandardCharsets.UTF_8);
+            } catch (JAXBException e) {
+                throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+            }
+            change.writeInt(xml.length);
+            change.write(xml);
+        }
+
+        byte[] payload = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer entry = ByteBuffer.allocate(Integer.BYTES + payload.length + Long.BYTES);
+        entry.putInt(payload.length).put(payload).putLong(crc.getValue()).flip();
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(file), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (entry.hasRemaining()) {
+                channel.write(entry);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns true if the journal of {@code file} starts with the checksum of {@code file}, so {@code file} is the
+     * snapshot the app last wrote and the journal applies to it.
+     */
+    private boolean isSavedSnapshot(Path file) throws IOException {
+        Path journalFile = getJournalFilePath(file);
+        if (!Files.exists(journalFile)) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(journalFile))) {
+            if (in.readInt() == MAGIC_NUMBER && in.readLong() == SavedFileChecksum.checksum(file)) {
+                return true;
+            }
+            logger.info("Ignoring journal " + journalFile + " as it does not match " + file);
+        } catch (EOFException e) {
+            logger.info("Ignoring incomplete journal " + journalFile);
+        }
+        return false;
+    }
+
+    /**
+     * Applies the changes in the journal of {@code file}, which must apply to {@code file}, to {@code records}, and
+     * returns the number of changes in it.
+     * A change left half written at the end of the journal is dropped from the journal.
+     */
+    private int replayJournal(Path file, List<T> records) throws DataConversionException, IOException {
+        Path journalFile = getJournalFilePath(file);
+        long validLength = Integer.BYTES + Long.BYTES;
+        int changeCount = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalFile)))) {
+            in.readFully(new byte[(int) validLength]);
+
+            byte[] payload;
+            while ((payload = readChange(in)) != null) {
+                applyChange(payload, records);
+                validLength += Integer.BYTES + payload.length + Long.BYTES;
+                changeCount++;
+            }
+        }
+
+        if (Files.size(journalFile) > validLength) {
+            logger.warning("Dropping incomplete change at the end of journal " + journalFile);
+            try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+                channel.force(true);
+            }
+        }
+        return changeCount;
+    }
+
+    /**
+     * Returns the next change in the journal, or null if there are no more complete changes in it.
+     */
+    private static byte[] readChange(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            if (length < 0) {
+                return null;
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            return in.readLong() == crc.getValue() ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private void applyChange(byte[] payload, List<T> records) throws DataConversionException, IOException {
+        DataInputStream change = new DataInputStream(new ByteArrayInputStream(payload));
+        int index = change.readInt();
+        int removedCount = change.readInt();
+        int addedCount = change.readInt();
+        if (index < 0 || removedCount < 0 || addedCount < 0 || index + removedCount > records.size()) {
+            throw new DataConversionException(new IOException("Journal change does not fit the records"));
+        }
+
+        List<T> addedRecords = new ArrayList<>();
+        for (int i = 0; i < addedCount; i++) {
+            byte[] xml = new byte[change.readInt()];
+            change.readFully(xml);
+            try {
+                // the checksum of each change shows its records are as the app saved them
+                addedRecords.add(savedConverter.convert(
+                        XmlUtil.fromXmlElement(new String(xml, StandardCharsets.UTF_8), adaptedClass)));
+            } catch (JAXBException | IllegalValueException e) {
+                throw new DataConversionException(e);
+            }
+        }
+        records.subList(index, index + removedCount).clear();
+        records.addAll(index, addedRecords);
+    }
+
+    /**
+     * Converts a record read from a file back to its model type.
+     */
+    @FunctionalInterface
+    public interface RecordConverter<A, T> {
+        T convert(A adapted) throws IllegalValueException;
+    }
+}
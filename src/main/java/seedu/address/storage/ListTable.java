@@ -0,0 +1,356 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.storage.ListJournal.RecordConverter;
+
+/**
+ * Stores a list of records as the rows of a table in an embedded H2 database file, one column per field and a
+ * {@code list_index} column keeping the order of the list.
+ * Saving a list changes only the rows of the records that changed since it was last read or saved, in one
+ * transaction: records edited in place are updated, and records added or removed are inserted or deleted.
+ * The keys in {@code list_index} are spaced apart, so records inserted between two rows take keys in the gap between
+ * them without changing the keys of the other rows. Every row is written again with evenly spaced keys once a gap is
+ * used up.
+ *
+ * @param <T> the type of the records.
+ */
+public class ListTable<T> {
+
+    public static final String DATABASE_FILE_SUFFIX = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(ListTable.class);
+
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:file:";
+    private static final String INDEX_COLUMN = "list_index";
+    // the space between the keys of rows written together, which can be halved 16 times by inserting rows at the
+    // same place before every row is written again
+    private static final long KEY_GAP = 1L << 16;
+
+    private final String tableName;
+    private final List<String> columns;
+    private final List<String> indexedColumns;
+    private final Function<? super T, String[]> toRow;
+    private final RecordConverter<String[], T> converter;
+
+    // the data file whose database is open, and the records its table holds along with the keys of their rows
+    private Path file;
+    private Connection connection;
+    private List<T> lastSaved;
+    private List<Long> lastSavedKeys;
+
+    /**
+     * @param tableName names the table the records are stored in.
+     * @param columns names the column of each field of a record.
+     * @param indexedColumns names the columns indexed for lookups by other tools, which must be in {@code columns}.
+     * @param toRow converts a record to its fields, in the order of {@code columns}.
+     * @param converter converts the fields of a row back to a record, validating them.
+     */
+    public ListTable(String tableName, List<String> columns, List<String> indexedColumns,
+                     Function<? super T, String[]> toRow, RecordConverter<String[], T> converter) {
+        requireAllNonNull(tableName, columns, indexedColumns, toRow, converter);
+        assert columns.containsAll(indexedColumns);
+        this.tableName = tableName;
+        this.columns = new ArrayList<>(columns);
+        this.indexedColumns = new ArrayList<>(indexedColumns);
+        this.toRow = toRow;
+        this.converter = converter;
+    }
+
+    /**
+     * Returns the database file holding the records of the data file {@code file}, next to it.
+     */
+    public static Path getDatabaseFilePath(Path file) {
+        return file.resolveSibling(getDatabaseName(file) + DATABASE_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the records in the database of {@code file}, or {@code Optional.empty()} if it has no database file.
+     * Later saves to {@code file} change only the rows of the records that changed.
+     *
+     * @throws DataConversionException if a row is not in the expected format.
+     * @throws IOException if there was any problem when reading from the database.
+     */
+    public synchronized Optional<List<T>> read(Path file) throws DataConversionException, IOException {
+        requireNonNull(file);
+
+        lastSaved = null;
+        lastSavedKeys = null;
+        if (!Files.exists(getDatabaseFilePath(file))) {
+            return Optional.empty();
+        }
+
+        List<T> records = new ArrayList<>();
+        List<Long> keys = new ArrayList<>();
+        try (Statement statement = connect(file).createStatement();
+             ResultSet rows = statement.executeQuery("SELECT " + String.join(", ", columns) + ", " + INDEX_COLUMN
+                     + " FROM " + tableName + " ORDER BY " + INDEX_COLUMN)) {
+            while (rows.next()) {
+                String[] fields = new String[columns.size()];
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = rows.getString(i + 1);
+                }
+                records.add(converter.convert(fields));
+                keys.add(rows.getLong(columns.size() + 1));
+            }
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        } catch (SQLException e) {
+            throw new IOException("Problem while reading table " + tableName + " of " + file, e);
+        }
+
+        lastSaved = new ArrayList<>(records);
+        lastSavedKeys = keys;
+        return Optional.of(records);
+    }
+
+    /**
+     * Saves {@code records} to the database of {@code file}, by changing the rows of the records that changed since
+     * they were last read from or saved to it, or by replacing every row if they were not.
+     *
+     * @throws IOException if there was any problem writing to the database.
+     */
+    public synchronized void save(Path file, List<? extends T> records) throws IOException {
+        requireAllNonNull(file, records);
+
+        List<Long> keys;
+        try {
+            Connection connection = connect(file);
+            try {
+                keys = lastSaved == null ? replaceRows(connection, records) : changeRows(connection, records);
+                connection.commit();
+            } catch (SQLException e) {
+                // the rows may no longer match the records last saved, so the next save replaces them all
+                lastSaved = null;
+                lastSavedKeys = null;
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Problem while saving table " + tableName + " of " + file, e);
+        }
+        lastSaved = new ArrayList<>(records);
+        lastSavedKeys = keys;
+    }
+
+    /**
+     * Closes the connection to the database, if it is open. The next read or save opens it again, and replaces
+     * every row when saving.
+     *
+     * @throws IOException if there was any problem closing the database.
+     */
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Problem while closing the database of " + file, e);
+        } finally {
+            connection = null;
+            file = null;
+            lastSaved = null;
+            lastSavedKeys = null;
+        }
+    }
+
+    /**
+     * Replaces every row with {@code records}, with evenly spaced keys, and returns the keys.
+     */
+    private List<Long> replaceRows(Connection connection, List<? extends T> records) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM " + tableName);
+        }
+        List<Long> keys = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            keys.add(i * KEY_GAP);
+        }
+        insertRows(connection, records, keys);
+        logger.fine("Wrote " + records.size() + " rows to table " + tableName);
+        return keys;
+    }
+
+    /**
+     * Changes the rows of the records in {@code records} that are not as they were last saved, and returns the keys
+     * of the rows of {@code records}.
+     */
+    private List<Long> changeRows(Connection connection, List<? extends T> records) throws SQLException {
+        int start = 0;
+        int oldEnd = lastSaved.size();
+        int newEnd = records.size();
+        // compared by identity like the records of a journal, as records that are equal may differ in saved fields
+        while (start < oldEnd && start < newEnd && lastSaved.get(start) == records.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && lastSaved.get(oldEnd - 1) == records.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+        if (start == oldEnd && start == newEnd) {
+            return lastSavedKeys;
+        }
+
+        if (oldEnd == newEnd) {
+            updateRows(connection, start, records.subList(start, newEnd));
+            return lastSavedKeys;
+        }
+
+        List<Long> insertedKeys = getKeysBetween(start, oldEnd, newEnd - start);
+        if (insertedKeys == null) {
+            logger.fine("No keys left between rows of table " + tableName + ", writing every row again");
+            return replaceRows(connection, records);
+        }
+        if (oldEnd > start) {
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM " + tableName + " WHERE "
+                    + INDEX_COLUMN + " BETWEEN ? AND ?")) {
+                delete.setLong(1, lastSavedKeys.get(start));
+                delete.setLong(2, lastSavedKeys.get(oldEnd - 1));
+                delete.executeUpdate();
+            }
+        }
+        insertRows(connection, records.subList(start, newEnd), insertedKeys);
+        logger.fine("Replaced " + (oldEnd - start) + " rows of table " + tableName + " by " + (newEnd - start));
+
+        List<Long> keys = new ArrayList<>(lastSavedKeys.subList(0, start));
+        keys.addAll(insertedKeys);
+        keys.addAll(lastSavedKeys.subList(oldEnd, lastSavedKeys.size()));
+        return keys;
+    }
+
+    /**
+     * Returns {@code count} keys spread evenly between the key of the row before {@code start} and the key of the row
+     * at {@code end}, or null if there are not enough keys between them.
+     * The first or last rows of the list take keys {@code KEY_GAP} apart from their neighbour.
+     */
+    private List<Long> getKeysBetween(int start, int end, int count) {
+        long span = (count + 1) * KEY_GAP;
+        long lower;
+        long upper;
+        if (start > 0) {
+            lower = lastSavedKeys.get(start - 1);
+            upper = end < lastSavedKeys.size() ? lastSavedKeys.get(end) : lower + span;
+        } else {
+            upper = end < lastSavedKeys.size() ? lastSavedKeys.get(end) : span - KEY_GAP;
+            lower = upper - span;
+        }
+
+        long step = (upper - lower) / (count + 1);
+        if (step == 0) {
+            return null;
+        }
+        List<Long> keys = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            keys.add(lower + i * step);
+        }
+        return keys;
+    }
+
+    /**
+     * Updates the rows from {@code start} that no longer hold {@code records}.
+     */
+    private void updateRows(Connection connection, int start, List<? extends T> records) throws SQLException {
+        List<String> assignments = new ArrayList<>();
+        columns.forEach(column -> assignments.add(column + " = ?"));
+        try (PreparedStatement update = connection.prepareStatement("UPDATE " + tableName + " SET "
+                + String.join(", ", assignments) + " WHERE " + INDEX_COLUMN + " = ?")) {
+            for (int i = 0; i < records.size(); i++) {
+                if (lastSaved.get(start + i) == records.get(i)) {
+                    continue;
+                }
+                setFields(update, records.get(i));
+                update.setLong(columns.size() + 1, lastSavedKeys.get(start + i));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    /**
+     * Inserts {@code records} as rows with the keys {@code keys}.
+     */
+    private void insertRows(Connection connection, List<? extends T> records, List<Long> keys) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(columns.size() + 1, "?"));
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + tableName + " ("
+                + String.join(", ", columns) + ", " + INDEX_COLUMN + ") VALUES (" + placeholders + ")")) {
+            for (int i = 0; i < records.size(); i++) {
+                setFields(insert, records.get(i));
+                insert.setLong(columns.size() + 1, keys.get(i));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void setFields(PreparedStatement statement, T record) throws SQLException {
+        String[] fields = toRow.apply(record);
+        assert fields.length == columns.size() : Arrays.toString(fields);
+        for (int i = 0; i < fields.length; i++) {
+            statement.setString(i + 1, fields[i]);
+        }
+    }
+
+    /**
+     * Returns the connection to the database of {@code file}, opening it and creating the table if needed.
+     */
+    private Connection connect(Path file) throws SQLException {
+        if (file.equals(this.file) && connection != null && !connection.isClosed()) {
+            return connection;
+        }
+        if (connection != null) {
+            connection.close();
+        }
+        this.file = null;
+        lastSaved = null;
+        lastSavedKeys = null;
+
+        Path databasePath = file.toAbsolutePath().resolveSibling(getDatabaseName(file));
+        connection = DriverManager.getConnection(JDBC_URL_PREFIX + databasePath);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            List<String> columnDefinitions = new ArrayList<>();
+            columns.forEach(column -> columnDefinitions.add(column + " VARCHAR NOT NULL"));
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS " + tableName + " ("
+                    + String.join(", ", columnDefinitions) + ", " + INDEX_COLUMN + " BIGINT NOT NULL)");
+            statement.executeUpdate("CREATE UNIQUE INDEX IF NOT EXISTS " + tableName + "_" + INDEX_COLUMN + " ON "
+                    + tableName + " (" + INDEX_COLUMN + ")");
+            for (String column : indexedColumns) {
+                statement.executeUpdate("CREATE INDEX IF NOT EXISTS " + tableName + "_" + column + " ON "
+                        + tableName + " (" + column + ")");
+            }
+        }
+        connection.commit();
+        this.file = file;
+        return connection;
+    }
+
+    /**
+     * Returns the name of the data file {@code file} without its extension, which names its database.
+     */
+    private static String getDatabaseName(Path file) {
+        String fileName = file.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+/**
+ * The checksum of a data file, kept in a file next to it when the app writes the data file.
+ * A data file that matches its checksum is exactly as the app saved it, so its records were valid when they were
+ * saved and can be converted back without validating their fields again. A data file edited by hand, or left half
+ * written by a crash, does not match and has every record validated.
+ */
+public class SavedFileChecksum {
+
+    public static final String CHECKSUM_FILE_SUFFIX = ".crc";
+
+    private SavedFileChecksum() {}
+
+    /**
+     * Returns the file holding the checksum of the data file {@code file}.
+     */
+    public static Path getChecksumFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + CHECKSUM_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes the checksum of the data file {@code file}, which the app has just saved, next to it.
+     */
+    public static void write(Path file) throws IOException {
+        Files.write(getChecksumFilePath(file), Long.toString(checksum(file)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns true if the data file {@code file} matches the checksum written next to it, so it is as the app saved
+     * it.
+     */
+    public static boolean isSavedFile(Path file) throws IOException {
+        Path checksumFile = getChecksumFilePath(file);
+        if (!Files.exists(checksumFile)) {
+            return false;
+        }
+
+        String savedChecksum = new String(Files.readAllBytes(checksumFile), StandardCharsets.UTF_8).trim();
+        try {
+            return Long.parseLong(savedChecksum) == checksum(file);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the bytes of {@code file}.
+     */
+    public static long checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+}
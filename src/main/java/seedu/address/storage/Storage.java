@@ -70,7 +70,8 @@ public interface Storage extends AddressBookStorage, ExpensesListStorage, Recrui
     void saveRecruitmentList(ReadOnlyRecruitmentList scheduleList) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Saves the current version of the Address Book to the hard disk in the background, together with any changes
+     * made shortly after it.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
@@ -87,4 +88,20 @@ public interface Storage extends AddressBookStorage, ExpensesListStorage, Recrui
     void handleScheduleListChangedEvent(ScheduleListChangedEvent abce);
 
     void handleRecruitmentListChangedEvent(RecruitmentListChangedEvent abce);
+
+    /**
+     * Writes the changes not yet saved to the hard disk, and waits until they have been written.
+     *
+     * @throws IOException if any of the changes could not be written. The other changes are still written.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Writes the changes not yet saved to the hard disk, then stops saving changes in the background and closes the
+     * storage of each list. No more changes can be saved afterwards.
+     *
+     * @throws IOException if any of the changes could not be written, or a storage could not be closed.
+     */
+    @Override
+    void close() throws IOException;
 }
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -32,12 +34,17 @@ import seedu.address.storage.userpref.UserPrefsStorage;
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final long SAVE_DELAY_MILLIS = 200;
+
     private AddressBookStorage addressBookStorage;
     private ExpensesListStorage expensesListStorage;
     private ScheduleListStorage scheduleListStorage;
     private RecruitmentListStorage recruitmentListStorage;
     private UserPrefsStorage userPrefsStorage;
-
+    private final BackgroundSaver<ReadOnlyAddressBook> addressBookSaver;
+    private final BackgroundSaver<ReadOnlyExpensesList> expensesListSaver;
+    private final BackgroundSaver<ReadOnlyScheduleList> scheduleListSaver;
+    private final BackgroundSaver<ReadOnlyRecruitmentList> recruitmentListSaver;
 
     public StorageManager(AddressBookStorage addressBookStorage, ExpensesListStorage expensesListStorage,
                           ScheduleListStorage scheduleListStorage,
@@ -49,6 +56,14 @@ public class StorageManager extends ComponentManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
         this.scheduleListStorage = scheduleListStorage;
         this.recruitmentListStorage = recruitmentListStorage;
+        addressBookSaver = new BackgroundSaver<>("address-book-saver", this::saveAddressBook,
+                this::handleSavingFailure, SAVE_DELAY_MILLIS);
+        expensesListSaver = new BackgroundSaver<>("expenses-list-saver", this::saveExpensesList,
+                this::handleSavingFailure, SAVE_DELAY_MILLIS);
+        scheduleListSaver = new BackgroundSaver<>("schedule-list-saver", this::saveScheduleList,
+                this::handleSavingFailure, SAVE_DELAY_MILLIS);
+        recruitmentListSaver = new BackgroundSaver<>("recruitment-list-saver", this::saveRecruitmentList,
+                this::handleSavingFailure, SAVE_DELAY_MILLIS);
     }
 
     // ================ UserPrefs methods ==============================
@@ -103,11 +118,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        addressBookSaver.submit(event.data.snapshot());
     }
 
     // ================ ExpensesList methods ==============================
@@ -137,11 +148,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleExpensesListChangedEvent(ExpensesListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveExpensesList(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        expensesListSaver.submit(event.data.snapshot());
     }
 
 
@@ -175,11 +182,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleRecruitmentListChangedEvent(RecruitmentListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveRecruitmentList(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        recruitmentListSaver.submit(event.data.snapshot());
     }
 
     // ================ ScheduleList methods ==============================
@@ -216,12 +219,70 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleScheduleListChangedEvent(ScheduleListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        scheduleListSaver.submit(event.data.snapshot());
+    }
+
+    // ================ Background saving ==============================
 
+    @Override
+    public void flush() throws IOException {
+        forEachSaver(BackgroundSaver::flush);
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException firstException = null;
         try {
-            saveScheduleList(event.data);
+            forEachSaver(BackgroundSaver::close);
         } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+            firstException = e;
+        }
+        // the storages are closed even if some changes could not be written, as nothing more is saved to them
+        for (Closeable storage : Arrays.<Closeable>asList(addressBookStorage::close, expensesListStorage::close,
+                scheduleListStorage::close, recruitmentListStorage::close)) {
+            try {
+                storage.close();
+            } catch (IOException e) {
+                if (firstException == null) {
+                    firstException = e;
+                }
+            }
+        }
+        if (firstException != null) {
+            throw firstException;
         }
     }
 
+    /**
+     * Applies {@code action} to every background saver, even if it fails for some of them, then throws the first
+     * exception thrown.
+     */
+    private void forEachSaver(SaverAction action) throws IOException {
+        IOException firstException = null;
+        for (BackgroundSaver<?> saver : Arrays.asList(addressBookSaver, expensesListSaver, scheduleListSaver,
+                recruitmentListSaver)) {
+            try {
+                action.apply(saver);
+            } catch (IOException e) {
+                if (firstException == null) {
+                    firstException = e;
+                }
+            }
+        }
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
+    private void handleSavingFailure(IOException e) {
+        raise(new DataSavingExceptionEvent(e));
+    }
+
+    /**
+     * Flushes or closes a background saver.
+     */
+    @FunctionalInterface
+    private interface SaverAction {
+        void apply(BackgroundSaver<?> saver) throws IOException;
+    }
 }
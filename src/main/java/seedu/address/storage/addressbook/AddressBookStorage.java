@@ -43,4 +43,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Releases what the storage holds open to read and save the AddressBook, such as a database connection.
+     * Nothing is held open by default.
+     * @throws IOException if there was any problem closing the storage.
+     */
+    default void close() throws IOException {}
+
 }
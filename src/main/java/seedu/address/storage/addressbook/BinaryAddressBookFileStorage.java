@@ -0,0 +1,86 @@
+package seedu.address.storage.addressbook;
+
+import static seedu.address.storage.addressbook.XmlSerializableAddressBook.addToAddressBook;
+import static seedu.address.storage.addressbook.XmlSerializableAddressBook.buildAddressBook;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.model.RecordCodec;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Stores addressbook data in a binary file
+ */
+public class BinaryAddressBookFileStorage {
+
+    // the fields of a person before its tags
+    private static final int FIXED_FIELD_COUNT = 10;
+
+    /**
+     * Saves the given address book data to the specified file.
+     */
+    public static void saveDataToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        BinaryUtil.saveRecordsToFile(file, addressBook.getPersonList(), BinaryAddressBookFileStorage::toFields);
+    }
+
+    /**
+     * Returns the address book in the file, converting one person at a time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static AddressBook loadDataFromSaveFile(Path file)
+            throws DataConversionException, FileNotFoundException, IOException, IllegalValueException {
+        AddressBook.Builder builder = new AddressBook.Builder();
+        BinaryUtil.readRecordsFromFile(file, fields -> addToAddressBook(builder, toAdaptedPerson(fields)));
+        return buildAddressBook(builder);
+    }
+
+    /**
+     * Returns the conversion of a person to and from the fields of its record in this format.
+     */
+    public static RecordCodec<Person> getRecordCodec() {
+        return new RecordCodec<Person>() {
+            @Override
+            public String[] toFields(Person record) {
+                return BinaryAddressBookFileStorage.toFields(record);
+            }
+
+            @Override
+            public Person fromFields(String[] fields) throws IllegalValueException {
+                return toAdaptedPerson(fields).toSavedModelType();
+            }
+        };
+    }
+
+    static String[] toFields(Person person) {
+        List<String> fields = new ArrayList<>(Arrays.asList(person.getEmployeeId().value, person.getName().fullName,
+                person.getDateOfBirth().value, person.getPhone().value, person.getEmail().value,
+                person.getDepartment().value, person.getPosition().value, person.getAddress().value,
+                person.getSalary().value, person.getBonus().value));
+        person.getTags().forEach(tag -> fields.add(tag.tagName));
+        return fields.toArray(new String[0]);
+    }
+
+    static XmlAdaptedPerson toAdaptedPerson(String[] fields) throws IllegalValueException {
+        if (fields.length < FIXED_FIELD_COUNT) {
+            throw new IllegalValueException("Person record has " + fields.length + " fields, expected at least "
+                    + FIXED_FIELD_COUNT);
+        }
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        for (int i = FIXED_FIELD_COUNT; i < fields.length; i++) {
+            tagged.add(new XmlAdaptedTag(fields[i]));
+        }
+        return new XmlAdaptedPerson(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6],
+                fields[7], fields[8], fields[9], tagged);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.storage.addressbook;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk.
+ * An xml file found in its place is imported, and saved in binary from then on.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        if (!BinaryUtil.isBinaryFile(filePath)) {
+            logger.info("Importing AddressBook from xml file " + filePath);
+            return new JournalAddressBookStorage(filePath).readAddressBook();
+        }
+
+        try {
+            return Optional.of(BinaryAddressBookFileStorage.loadDataFromSaveFile(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        BinaryAddressBookFileStorage.saveDataToFile(filePath, addressBook);
+    }
+
+}
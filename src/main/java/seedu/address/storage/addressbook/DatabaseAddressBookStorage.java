@@ -0,0 +1,138 @@
+package seedu.address.storage.addressbook;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.addressbook.XmlSerializableAddressBook.buildAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ListTable;
+
+/**
+ * A class to access AddressBook data stored in a table of an embedded database file on the hard disk.
+ * Saving changes only the rows of the persons that changed.
+ * The xml or binary file is imported into the database the first time it is read, and is left as it was.
+ */
+public class DatabaseAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseAddressBookStorage.class);
+
+    private static final String TABLE_NAME = "persons";
+    private static final List<String> COLUMNS = Arrays.asList("employee_id", "name", "date_of_birth", "phone",
+            "email", "department", "job_position", "address", "salary", "bonus", "tags");
+    private static final int TAGS_COLUMN = 10;
+    private static final String TAG_SEPARATOR = " ";
+    private static final List<String> INDEXED_COLUMNS = Arrays.asList("employee_id");
+
+    private final ListTable<Person> table;
+    private Path filePath;
+
+    public DatabaseAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+        table = new ListTable<>(TABLE_NAME, COLUMNS, INDEXED_COLUMNS, DatabaseAddressBookStorage::toRow,
+                row -> BinaryAddressBookFileStorage.toAdaptedPerson(fromRow(row)).toModelType());
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the database or the file imported is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        Optional<List<Person>> persons = table.read(filePath);
+        if (!persons.isPresent()) {
+            return importAddressBook(filePath);
+        }
+
+        AddressBook.Builder builder = new AddressBook.Builder();
+        persons.get().forEach(builder::addPerson);
+        try {
+            return Optional.of(buildAddressBook(builder));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + ListTable.getDatabaseFilePath(filePath) + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        table.save(filePath, addressBook.getPersonList());
+    }
+
+    /**
+     * Closes the connection to the database, which is opened again if the AddressBook is read or saved afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        table.close();
+    }
+
+    /**
+     * Returns the AddressBook in the xml or binary file at {@code filePath}, which is written to the database so
+     * that it is only imported once.
+     */
+    private Optional<ReadOnlyAddressBook> importAddressBook(Path filePath) throws DataConversionException,
+            IOException {
+        Optional<ReadOnlyAddressBook> addressBook = new JournalAddressBookStorage(filePath).readAddressBook();
+        if (!addressBook.isPresent()) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+        logger.info("Importing AddressBook from " + filePath + " into " + ListTable.getDatabaseFilePath(filePath));
+        table.save(filePath, addressBook.get().getPersonList());
+        return addressBook;
+    }
+
+    /**
+     * Returns the fields of {@code person}, with its tags in one column separated by spaces.
+     */
+    private static String[] toRow(Person person) {
+        String[] fields = BinaryAddressBookFileStorage.toFields(person);
+        String[] row = Arrays.copyOf(fields, COLUMNS.size());
+        row[TAGS_COLUMN] = String.join(TAG_SEPARATOR, Arrays.asList(fields).subList(TAGS_COLUMN, fields.length));
+        return row;
+    }
+
+    private static String[] fromRow(String[] row) {
+        if (row[TAGS_COLUMN].isEmpty()) {
+            return Arrays.copyOf(row, TAGS_COLUMN);
+        }
+        String[] tags = row[TAGS_COLUMN].split(TAG_SEPARATOR);
+        String[] fields = Arrays.copyOf(row, TAGS_COLUMN + tags.length);
+        System.arraycopy(tags, 0, fields, TAGS_COLUMN, tags.length);
+        return fields;
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.storage.addressbook;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.addressbook.XmlSerializableAddressBook.PERSON_ELEMENT;
+import static seedu.address.storage.addressbook.XmlSerializableAddressBook.ROOT_ELEMENT;
+import static seedu.address.storage.addressbook.XmlSerializableAddressBook.buildAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ListJournal;
+
+/**
+ * A class to access AddressBook data stored as an xml file on the hard disk, together with a journal of the persons
+ * changed since the xml file was written.
+ * A binary file found in its place is imported, and saved as xml from then on.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final ListJournal<Person, XmlAdaptedPerson> journal;
+    private Path filePath;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, ListJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param compactionThreshold how many changes the journal may hold before it is compacted into the xml file.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * @param compactionThreshold how many changes the journal may hold before it is compacted into the xml file.
+     * @param isCompressed whether the xml file is written compressed with gzip.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold, boolean isCompressed) {
+        this.filePath = filePath;
+        journal = new ListJournal<>(ROOT_ELEMENT, PERSON_ELEMENT, XmlAdaptedPerson.class, XmlAdaptedPerson::new,
+                XmlAdaptedPerson::toModelType, XmlAdaptedPerson::toSavedModelType, compactionThreshold,
+                isCompressed);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (Files.exists(filePath) && BinaryUtil.isBinaryFile(filePath)) {
+            logger.info("Importing AddressBook from binary file " + filePath);
+            journal.invalidate();
+            try {
+                return Optional.of(BinaryAddressBookFileStorage.loadDataFromSaveFile(filePath));
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+
+        Optional<List<Person>> persons = journal.read(filePath);
+        if (!persons.isPresent()) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        AddressBook.Builder builder = new AddressBook.Builder();
+        persons.get().forEach(builder::addPerson);
+        try {
+            return Optional.of(buildAddressBook(builder));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        journal.save(filePath, addressBook.getPersonList());
+    }
+
+}
@@ -1,5 +1,7 @@
 package seedu.address.storage.addressbook;
 
+import static seedu.address.commons.util.AppUtil.readSavedData;
+
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -120,7 +122,7 @@ public class XmlAdaptedPerson {
         if (!EmployeeId.isValidEmployeeId(employeeId)) {
             throw new IllegalValueException(EmployeeId.MESSAGE_EMPLOYEEID_CONSTRAINTS);
         }
-        final EmployeeId modelEmployeeId = new EmployeeId(employeeId);
+        final EmployeeId modelEmployeeId = EmployeeId.of(employeeId);
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -162,7 +164,7 @@ public class XmlAdaptedPerson {
         if (!Department.isValidDepartment(department)) {
             throw new IllegalValueException(Department.MESSAGE_DEPARTMENT_CONSTRAINTS);
         }
-        final Department modelDepartment = new Department(department);
+        final Department modelDepartment = Department.of(department);
 
         if (position == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -171,7 +173,7 @@ public class XmlAdaptedPerson {
         if (!Position.isValidPosition(position)) {
             throw new IllegalValueException(Position.MESSAGE_POSITION_CONSTRAINTS);
         }
-        final Position modelPosition = new Position(position);
+        final Position modelPosition = Position.of(position);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -195,6 +197,27 @@ public class XmlAdaptedPerson {
                 modelPosition, modelAddress, modelSalary, modelBonus, modelTags);
     }
 
+    /**
+     * Converts this adapted person, read back from a data file whose checksum shows it is as the app saved it, into
+     * the model's Person object without validating its fields again.
+     *
+     * @throws IllegalValueException if a field is missing in the adapted person
+     */
+    public Person toSavedModelType() throws IllegalValueException {
+        if (employeeId == null || name == null || dateOfBirth == null || phone == null || email == null
+                || department == null || position == null || address == null || salary == null || bonus == null) {
+            return toModelType();
+        }
+
+        final Set<Tag> modelTags = new HashSet<>();
+        for (XmlAdaptedTag tag : tagged) {
+            modelTags.add(tag.toSavedModelType());
+        }
+        return readSavedData(() -> new Person(EmployeeId.of(employeeId), new Name(name), new DateOfBirth(dateOfBirth),
+                new Phone(phone), new Email(email), Department.of(department), Position.of(position),
+                new Address(address), new Salary(salary), new Bonus(bonus), modelTags));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
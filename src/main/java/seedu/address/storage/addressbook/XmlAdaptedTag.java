@@ -1,5 +1,7 @@
 package seedu.address.storage.addressbook;
 
+import static seedu.address.commons.util.AppUtil.readSavedData;
+
 import javax.xml.bind.annotation.XmlValue;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -47,6 +49,19 @@ public class XmlAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Converts this adapted tag, read back from a data file whose checksum shows it is as the app saved it, into the
+     * model's Tag object without validating it again.
+     *
+     * @throws IllegalValueException if the tag name is missing
+     */
+    public Tag toSavedModelType() throws IllegalValueException {
+        if (tagName == null) {
+            return toModelType();
+        }
+        return readSavedData(() -> new Tag(tagName));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,40 +1,64 @@
 package seedu.address.storage.addressbook;
 
+import static seedu.address.storage.addressbook.XmlSerializableAddressBook.PERSON_ELEMENT;
+import static seedu.address.storage.addressbook.XmlSerializableAddressBook.ROOT_ELEMENT;
+import static seedu.address.storage.addressbook.XmlSerializableAddressBook.addToAddressBook;
+import static seedu.address.storage.addressbook.XmlSerializableAddressBook.buildAddressBook;
+
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlAddressBookFileStorage {
 
     /**
-     * Saves the given addressbook data to the specified file.
+     * Saves the given address book data to the specified file, converting one person at a time, compressed
+     * with gzip if {@code isCompressed}.
      */
-    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook)
-            throws FileNotFoundException {
+    public static void saveDataToFile(Path file, ReadOnlyAddressBook addressBook,
+                                      boolean isCompressed) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, addressBook);
+            XmlUtil.saveElementsToFile(file, ROOT_ELEMENT, PERSON_ELEMENT,
+                    XmlAdaptedPerson.class, addressBook.getPersonList(), XmlAdaptedPerson::new,
+                    isCompressed);
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns address book in the file or an empty address book
+     * Returns the address book in the file, converting one person at a time.
+     * The persons are not validated again if {@code isSaved}, as the file is then known to be as the
+     * app saved it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableAddressBook loadDataFromSaveFile(Path file) throws DataConversionException,
-            FileNotFoundException {
+    public static AddressBook loadDataFromSaveFile(Path file, boolean isSaved)
+            throws DataConversionException, FileNotFoundException, IllegalValueException {
+        AddressBook.Builder builder = new AddressBook.Builder();
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class);
+            XmlUtil.readElementsFromFile(file, ROOT_ELEMENT, PERSON_ELEMENT,
+                    XmlAdaptedPerson.class, person -> {
+                        if (isSaved) {
+                            builder.addPerson(person.toSavedModelType());
+                        } else {
+                            addToAddressBook(builder, person);
+                        }
+                    });
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        return buildAddressBook(builder);
     }
-
-
 }
@@ -10,17 +10,19 @@ import javax.xml.bind.annotation.XmlRootElement;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to XML format
  */
-@XmlRootElement(name = "addressbook")
+@XmlRootElement(name = XmlSerializableAddressBook.ROOT_ELEMENT)
 public class XmlSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String ROOT_ELEMENT = "addressbook";
+    public static final String PERSON_ELEMENT = "persons";
 
-    @XmlElement
+    @XmlElement(name = PERSON_ELEMENT)
     private List<XmlAdaptedPerson> persons;
 
     /**
@@ -46,15 +48,34 @@ public class XmlSerializableAddressBook {
      * {@code XmlAdaptedPerson}.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        AddressBook.Builder builder = new AddressBook.Builder();
         for (XmlAdaptedPerson p : persons) {
-            Person person = p.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            addToAddressBook(builder, p);
+        }
+        return buildAddressBook(builder);
+    }
+
+    /**
+     * Converts {@code adaptedPerson} into the model's {@code Person} object and adds it to {@code builder}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in {@code adaptedPerson}.
+     */
+    public static void addToAddressBook(AddressBook.Builder builder, XmlAdaptedPerson adaptedPerson)
+            throws IllegalValueException {
+        builder.addPerson(adaptedPerson.toModelType());
+    }
+
+    /**
+     * Returns the address book with all the persons added to {@code builder}.
+     *
+     * @throws IllegalValueException if there are duplicates among them.
+     */
+    public static AddressBook buildAddressBook(AddressBook.Builder builder) throws IllegalValueException {
+        try {
+            return builder.build();
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
-        return addressBook;
     }
 
     @Override
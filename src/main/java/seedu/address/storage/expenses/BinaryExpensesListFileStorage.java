@@ -0,0 +1,76 @@
+package seedu.address.storage.expenses;
+
+import static seedu.address.storage.expenses.XmlSerializableExpensesList.addToExpensesList;
+import static seedu.address.storage.expenses.XmlSerializableExpensesList.buildExpensesList;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.model.RecordCodec;
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
+
+/**
+ * Stores expenses list data in a binary file
+ */
+public class BinaryExpensesListFileStorage {
+
+    private static final int FIELD_COUNT = 5;
+
+    /**
+     * Saves the given data to the specified file.
+     */
+    public static void saveDataToFile(Path file, ReadOnlyExpensesList expensesList) throws IOException {
+        BinaryUtil.saveRecordsToFile(file, expensesList.getExpensesRequestList(),
+                BinaryExpensesListFileStorage::toFields);
+    }
+
+    /**
+     * Returns the list in the file, converting one record at a time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static ExpensesList loadDataFromSaveFile(Path file)
+            throws DataConversionException, FileNotFoundException, IOException, IllegalValueException {
+        ExpensesList.Builder builder = new ExpensesList.Builder();
+        BinaryUtil.readRecordsFromFile(file,
+                fields -> addToExpensesList(builder, toAdaptedExpenses(fields)));
+        return buildExpensesList(builder);
+    }
+
+    /**
+     * Returns the conversion of expenses to and from the fields of their record in this format.
+     */
+    public static RecordCodec<Expenses> getRecordCodec() {
+        return new RecordCodec<Expenses>() {
+            @Override
+            public String[] toFields(Expenses record) {
+                return BinaryExpensesListFileStorage.toFields(record);
+            }
+
+            @Override
+            public Expenses fromFields(String[] fields) throws IllegalValueException {
+                return toAdaptedExpenses(fields).toSavedModelType();
+            }
+        };
+    }
+
+    static String[] toFields(Expenses expenses) {
+        return new String[] {expenses.getEmployeeId().value, expenses.getExpensesAmount().expensesAmount,
+                expenses.getTravelExpenses().travelExpenses, expenses.getMedicalExpenses().medicalExpenses,
+                expenses.getMiscellaneousExpenses().miscellaneousExpenses};
+    }
+
+    static XmlAdaptedExpenses toAdaptedExpenses(String[] fields) throws IllegalValueException {
+        if (fields.length != FIELD_COUNT) {
+            throw new IllegalValueException(
+                    "Expenses record has " + fields.length + " fields, expected " + FIELD_COUNT);
+        }
+        return new XmlAdaptedExpenses(fields[0], fields[1], fields[2], fields[3], fields[4]);
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage.expenses;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.expenses.XmlSerializableExpensesList.buildExpensesList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.storage.ListTable;
+
+/**
+ * A class to access ExpensesList data stored in a table of an embedded database file on the hard disk.
+ * Saving changes only the rows of the expenses that changed.
+ * The xml or binary file is imported into the database the first time it is read, and is left as it was.
+ */
+public class DatabaseExpensesListStorage implements ExpensesListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseExpensesListStorage.class);
+
+    private static final String TABLE_NAME = "expenses";
+    private static final List<String> COLUMNS = Arrays.asList("employee_id", "expenses_amount", "travel_expenses",
+            "medical_expenses", "miscellaneous_expenses");
+    private static final List<String> INDEXED_COLUMNS = Arrays.asList("employee_id");
+
+    private final ListTable<Expenses> table;
+    private Path filePath;
+
+    public DatabaseExpensesListStorage(Path filePath) {
+        this.filePath = filePath;
+        table = new ListTable<>(TABLE_NAME, COLUMNS, INDEXED_COLUMNS, BinaryExpensesListFileStorage::toFields,
+                row -> BinaryExpensesListFileStorage.toAdaptedExpenses(row).toModelType());
+    }
+
+    public Path getExpensesListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyExpensesList> readExpensesList() throws DataConversionException, IOException {
+        return readExpensesList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readExpensesList()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the database or the file imported is not in the correct format.
+     */
+    public Optional<ReadOnlyExpensesList> readExpensesList(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        Optional<List<Expenses>> expensess = table.read(filePath);
+        if (!expensess.isPresent()) {
+            return importExpensesList(filePath);
+        }
+
+        ExpensesList.Builder builder = new ExpensesList.Builder();
+        expensess.get().forEach(builder::addExpenses);
+        try {
+            return Optional.of(buildExpensesList(builder));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + ListTable.getDatabaseFilePath(filePath) + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveExpensesList(ReadOnlyExpensesList expensesList) throws IOException {
+        saveExpensesList(expensesList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveExpensesList(ReadOnlyExpensesList)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveExpensesList(ReadOnlyExpensesList expensesList, Path filePath) throws IOException {
+        requireNonNull(expensesList);
+        requireNonNull(filePath);
+
+        table.save(filePath, expensesList.getExpensesRequestList());
+    }
+
+    /**
+     * Closes the connection to the database, which is opened again if the ExpensesList is read or saved afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        table.close();
+    }
+
+    /**
+     * Returns the ExpensesList in the xml or binary file at {@code filePath}, which is written to the database so
+     * that it is only imported once.
+     */
+    private Optional<ReadOnlyExpensesList> importExpensesList(Path filePath) throws DataConversionException,
+            IOException {
+        Optional<ReadOnlyExpensesList> expensesList = new JournalExpensesListStorage(filePath).readExpensesList();
+        if (!expensesList.isPresent()) {
+            logger.info("ExpensesList file " + filePath + " not found");
+            return Optional.empty();
+        }
+        logger.info("Importing ExpensesList from " + filePath + " into " + ListTable.getDatabaseFilePath(filePath));
+        table.save(filePath, expensesList.get().getExpensesRequestList());
+        return expensesList;
+    }
+}
@@ -41,4 +41,10 @@ public interface ExpensesListStorage {
      */
     void saveExpensesList(ReadOnlyExpensesList expensesList, Path filePath) throws IOException;
 
+    /**
+     * Releases what the storage holds open for the expenses list, such as a database connection.
+     * Does nothing unless the storage keeps something open between saves.
+     */
+    default void close() throws IOException {}
+
 }
@@ -0,0 +1,119 @@
+package seedu.address.storage.expenses;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.expenses.XmlSerializableExpensesList.EXPENSES_ELEMENT;
+import static seedu.address.storage.expenses.XmlSerializableExpensesList.ROOT_ELEMENT;
+import static seedu.address.storage.expenses.XmlSerializableExpensesList.buildExpensesList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.storage.ListJournal;
+
+/**
+ * A class to access ExpensesList data stored as an xml file on the hard disk, together with a journal of
+ * the expenses requests changed since the xml file was written.
+ * A binary file found in its place is imported, and saved as xml from then on.
+ */
+public class JournalExpensesListStorage implements ExpensesListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalExpensesListStorage.class);
+
+    private final ListJournal<Expenses, XmlAdaptedExpenses> journal;
+    private Path filePath;
+
+    public JournalExpensesListStorage(Path filePath) {
+        this(filePath, ListJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param compactionThreshold how many changes the journal may hold before it is compacted into the xml file.
+     */
+    public JournalExpensesListStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * @param compactionThreshold how many changes the journal may hold before it is compacted into the xml file.
+     * @param isCompressed whether the xml file is written compressed with gzip.
+     */
+    public JournalExpensesListStorage(Path filePath, int compactionThreshold, boolean isCompressed) {
+        this.filePath = filePath;
+        journal = new ListJournal<>(ROOT_ELEMENT, EXPENSES_ELEMENT, XmlAdaptedExpenses.class, XmlAdaptedExpenses::new,
+                XmlAdaptedExpenses::toModelType, XmlAdaptedExpenses::toSavedModelType, compactionThreshold,
+                isCompressed);
+    }
+
+    public Path getExpensesListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyExpensesList> readExpensesList() throws DataConversionException, IOException {
+        return readExpensesList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readExpensesList()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    public Optional<ReadOnlyExpensesList> readExpensesList(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (Files.exists(filePath) && BinaryUtil.isBinaryFile(filePath)) {
+            logger.info("Importing ExpensesList from binary file " + filePath);
+            journal.invalidate();
+            try {
+                return Optional.of(BinaryExpensesListFileStorage.loadDataFromSaveFile(filePath));
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+
+        Optional<List<Expenses>> multiExpenses = journal.read(filePath);
+        if (!multiExpenses.isPresent()) {
+            logger.info("ExpensesList file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ExpensesList.Builder builder = new ExpensesList.Builder();
+        multiExpenses.get().forEach(builder::addExpenses);
+        try {
+            return Optional.of(buildExpensesList(builder));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveExpensesList(ReadOnlyExpensesList expensesList) throws IOException {
+        saveExpensesList(expensesList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveExpensesList(ReadOnlyExpensesList)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveExpensesList(ReadOnlyExpensesList expensesList, Path filePath) throws IOException {
+        requireNonNull(expensesList);
+        requireNonNull(filePath);
+
+        journal.save(filePath, expensesList.getExpensesRequestList());
+    }
+
+}
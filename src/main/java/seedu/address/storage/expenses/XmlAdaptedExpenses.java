@@ -1,5 +1,7 @@
 package seedu.address.storage.expenses;
 
+import static seedu.address.commons.util.AppUtil.readSavedData;
+
 import java.util.Objects;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -74,7 +76,7 @@ public class XmlAdaptedExpenses {
         if (!EmployeeId.isValidEmployeeId(id)) {
             throw new IllegalValueException(EmployeeId.MESSAGE_EMPLOYEEID_CONSTRAINTS);
         }
-        final EmployeeId modelEmployeeId = new EmployeeId(id);
+        final EmployeeId modelEmployeeId = EmployeeId.of(id);
 
         if (expensesAmount == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -112,6 +114,22 @@ public class XmlAdaptedExpenses {
                 modelMiscellaneousExpenses);
     }
 
+    /**
+     * Converts this adapted expenses, read back from a data file whose checksum shows it is as the app saved it,
+     * into the model's Expenses object without validating its fields again.
+     *
+     * @throws IllegalValueException if a field is missing in the adapted expenses
+     */
+    public Expenses toSavedModelType() throws IllegalValueException {
+        if (id == null || expensesAmount == null || travelExpenses == null || medicalExpenses == null
+                || miscellaneousExpenses == null) {
+            return toModelType();
+        }
+        return readSavedData(() -> new Expenses(EmployeeId.of(id), new ExpensesAmount(expensesAmount),
+                new TravelExpenses(travelExpenses), new MedicalExpenses(medicalExpenses),
+                new MiscellaneousExpenses(miscellaneousExpenses)));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,38 +1,64 @@
 package seedu.address.storage.expenses;
 
+import static seedu.address.storage.expenses.XmlSerializableExpensesList.EXPENSES_ELEMENT;
+import static seedu.address.storage.expenses.XmlSerializableExpensesList.ROOT_ELEMENT;
+import static seedu.address.storage.expenses.XmlSerializableExpensesList.addToExpensesList;
+import static seedu.address.storage.expenses.XmlSerializableExpensesList.buildExpensesList;
+
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
 
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlExpensesFileStorage {
+
     /**
-     * Saves the given expenses list data to the specified file.
+     * Saves the given expenses list data to the specified file, converting one expenses at a time, compressed
+     * with gzip if {@code isCompressed}.
      */
-    public static void saveDataToFile(Path file, XmlSerializableExpensesList expensesList)
-            throws FileNotFoundException {
+    public static void saveDataToFile(Path file, ReadOnlyExpensesList expensesList,
+                                      boolean isCompressed) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, expensesList);
+            XmlUtil.saveElementsToFile(file, ROOT_ELEMENT, EXPENSES_ELEMENT,
+                    XmlAdaptedExpenses.class, expensesList.getExpensesRequestList(), XmlAdaptedExpenses::new,
+                    isCompressed);
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns expenses list in the file or an empty expenses list
+     * Returns the expenses list in the file, converting one expenses at a time.
+     * The expenses are not validated again if {@code isSaved}, as the file is then known to be as the
+     * app saved it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableExpensesList loadDataFromExpensesSaveFile(Path file) throws DataConversionException,
-            FileNotFoundException {
+    public static ExpensesList loadDataFromExpensesSaveFile(Path file, boolean isSaved)
+            throws DataConversionException, FileNotFoundException, IllegalValueException {
+        ExpensesList.Builder builder = new ExpensesList.Builder();
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableExpensesList.class);
+            XmlUtil.readElementsFromFile(file, ROOT_ELEMENT, EXPENSES_ELEMENT,
+                    XmlAdaptedExpenses.class, expenses -> {
+                        if (isSaved) {
+                            builder.addExpenses(expenses.toSavedModelType());
+                        } else {
+                            addToExpensesList(builder, expenses);
+                        }
+                    });
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        return buildExpensesList(builder);
     }
 }
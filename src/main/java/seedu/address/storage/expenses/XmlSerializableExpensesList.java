@@ -8,19 +8,21 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ExpensesList;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.expenses.exceptions.DuplicateExpensesException;
 
 /**
  * An Immutable ExpensesList that is serializable to XML format
  */
-@XmlRootElement(name = "expenseslist")
+@XmlRootElement(name = XmlSerializableExpensesList.ROOT_ELEMENT)
 public class XmlSerializableExpensesList {
 
     public static final String MESSAGE_DUPLICATE_EXPENSES = "Expenses list contains duplicate expenses).";
+    public static final String ROOT_ELEMENT = "expenseslist";
+    public static final String EXPENSES_ELEMENT = "multiExpenses";
 
-    @XmlElement
+    @XmlElement(name = EXPENSES_ELEMENT)
     private List<XmlAdaptedExpenses> multiExpenses;
 
     /**
@@ -47,15 +49,34 @@ public class XmlSerializableExpensesList {
      * {@code XmlAdaptedExpenses}.
      */
     public ExpensesList toModelType() throws IllegalValueException {
-        ExpensesList expensesList = new ExpensesList();
+        ExpensesList.Builder builder = new ExpensesList.Builder();
         for (XmlAdaptedExpenses e : multiExpenses) {
-            Expenses expenses = e.toModelType();
-            if (expensesList.hasExpenses(expenses)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EXPENSES);
-            }
-            expensesList.addExpenses(expenses);
+            addToExpensesList(builder, e);
+        }
+        return buildExpensesList(builder);
+    }
+
+    /**
+     * Converts {@code adaptedExpenses} into the model's {@code Expenses} object and adds it to {@code builder}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in {@code adaptedExpenses}.
+     */
+    public static void addToExpensesList(ExpensesList.Builder builder, XmlAdaptedExpenses adaptedExpenses)
+            throws IllegalValueException {
+        builder.addExpenses(adaptedExpenses.toModelType());
+    }
+
+    /**
+     * Returns the expenses list with all the expenses added to {@code builder}.
+     *
+     * @throws IllegalValueException if there are duplicates among them.
+     */
+    public static ExpensesList buildExpensesList(ExpensesList.Builder builder) throws IllegalValueException {
+        try {
+            return builder.build();
+        } catch (DuplicateExpensesException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EXPENSES);
         }
-        return expensesList;
     }
 
     @Override
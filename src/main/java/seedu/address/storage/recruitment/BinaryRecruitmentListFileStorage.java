@@ -0,0 +1,75 @@
+package seedu.address.storage.recruitment;
+
+import static seedu.address.storage.recruitment.XmlSerializableRecruitmentList.addToRecruitmentList;
+import static seedu.address.storage.recruitment.XmlSerializableRecruitmentList.buildRecruitmentList;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.model.RecordCodec;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.recruitment.RecruitmentList;
+
+/**
+ * Stores recruitment list data in a binary file
+ */
+public class BinaryRecruitmentListFileStorage {
+
+    private static final int FIELD_COUNT = 3;
+
+    /**
+     * Saves the given data to the specified file.
+     */
+    public static void saveDataToFile(Path file, ReadOnlyRecruitmentList recruitmentList) throws IOException {
+        BinaryUtil.saveRecordsToFile(file, recruitmentList.getRecruitmentList(),
+                BinaryRecruitmentListFileStorage::toFields);
+    }
+
+    /**
+     * Returns the list in the file, converting one record at a time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static RecruitmentList loadDataFromSaveFile(Path file)
+            throws DataConversionException, FileNotFoundException, IOException, IllegalValueException {
+        RecruitmentList.Builder builder = new RecruitmentList.Builder();
+        BinaryUtil.readRecordsFromFile(file,
+                fields -> addToRecruitmentList(builder, toAdaptedRecruitment(fields)));
+        return buildRecruitmentList(builder);
+    }
+
+    /**
+     * Returns the conversion of a recruitment post to and from the fields of its record in this format.
+     */
+    public static RecordCodec<Recruitment> getRecordCodec() {
+        return new RecordCodec<Recruitment>() {
+            @Override
+            public String[] toFields(Recruitment record) {
+                return BinaryRecruitmentListFileStorage.toFields(record);
+            }
+
+            @Override
+            public Recruitment fromFields(String[] fields) throws IllegalValueException {
+                return toAdaptedRecruitment(fields).toSavedModelPost();
+            }
+        };
+    }
+
+    static String[] toFields(Recruitment recruitment) {
+        return new String[] {recruitment.getPost().value, recruitment.getWorkExp().workExp,
+                recruitment.getJobDescription().value};
+    }
+
+    static XmlAdaptedRecruitment toAdaptedRecruitment(String[] fields) throws IllegalValueException {
+        if (fields.length != FIELD_COUNT) {
+            throw new IllegalValueException(
+                    "Recruitment record has " + fields.length + " fields, expected " + FIELD_COUNT);
+        }
+        return new XmlAdaptedRecruitment(fields[0], fields[1], fields[2]);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.storage.recruitment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+
+/**
+ * A class to access RecruitmentList data stored as a binary file on the hard disk.
+ * An xml file found in its place is imported, and saved in binary from then on.
+ */
+public class BinaryRecruitmentListStorage implements RecruitmentListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryRecruitmentListStorage.class);
+
+    private Path filePath;
+
+    public BinaryRecruitmentListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getRecruitmentListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRecruitmentList> readRecruitmentList() throws DataConversionException, IOException {
+        return readRecruitmentList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRecruitmentList()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyRecruitmentList> readRecruitmentList(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("RecruitmentList file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        if (!BinaryUtil.isBinaryFile(filePath)) {
+            logger.info("Importing RecruitmentList from xml file " + filePath);
+            return new JournalRecruitmentListStorage(filePath).readRecruitmentList();
+        }
+
+        try {
+            return Optional.of(BinaryRecruitmentListFileStorage.loadDataFromSaveFile(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList) throws IOException {
+        saveRecruitmentList(recruitmentList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRecruitmentList(ReadOnlyRecruitmentList)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList, Path filePath) throws IOException {
+        requireNonNull(recruitmentList);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        BinaryRecruitmentListFileStorage.saveDataToFile(filePath, recruitmentList);
+    }
+
+}
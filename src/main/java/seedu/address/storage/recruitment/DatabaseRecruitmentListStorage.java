@@ -0,0 +1,116 @@
+package seedu.address.storage.recruitment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.recruitment.XmlSerializableRecruitmentList.buildRecruitmentList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.storage.ListTable;
+
+/**
+ * A class to access RecruitmentList data stored in a table of an embedded database file on the hard disk.
+ * Saving changes only the rows of the recruitment posts that changed.
+ * The xml or binary file is imported into the database the first time it is read, and is left as it was.
+ */
+public class DatabaseRecruitmentListStorage implements RecruitmentListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseRecruitmentListStorage.class);
+
+    private static final String TABLE_NAME = "recruitments";
+    private static final List<String> COLUMNS = Arrays.asList("post", "work_exp", "job_description");
+    private static final List<String> INDEXED_COLUMNS = Arrays.asList("post");
+
+    private final ListTable<Recruitment> table;
+    private Path filePath;
+
+    public DatabaseRecruitmentListStorage(Path filePath) {
+        this.filePath = filePath;
+        table = new ListTable<>(TABLE_NAME, COLUMNS, INDEXED_COLUMNS, BinaryRecruitmentListFileStorage::toFields,
+                row -> BinaryRecruitmentListFileStorage.toAdaptedRecruitment(row).toModelPost());
+    }
+
+    public Path getRecruitmentListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRecruitmentList> readRecruitmentList() throws DataConversionException, IOException {
+        return readRecruitmentList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRecruitmentList()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the database or the file imported is not in the correct format.
+     */
+    public Optional<ReadOnlyRecruitmentList> readRecruitmentList(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        Optional<List<Recruitment>> recruitments = table.read(filePath);
+        if (!recruitments.isPresent()) {
+            return importRecruitmentList(filePath);
+        }
+
+        RecruitmentList.Builder builder = new RecruitmentList.Builder();
+        recruitments.get().forEach(builder::addRecruitment);
+        try {
+            return Optional.of(buildRecruitmentList(builder));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + ListTable.getDatabaseFilePath(filePath) + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList) throws IOException {
+        saveRecruitmentList(recruitmentList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRecruitmentList(ReadOnlyRecruitmentList)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList, Path filePath) throws IOException {
+        requireNonNull(recruitmentList);
+        requireNonNull(filePath);
+
+        table.save(filePath, recruitmentList.getRecruitmentList());
+    }
+
+    /**
+     * Closes the connection to the database, which is opened again if the RecruitmentList is read or saved afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        table.close();
+    }
+
+    /**
+     * Returns the RecruitmentList in the xml or binary file at {@code filePath}, which is written to the database so
+     * that it is only imported once.
+     */
+    private Optional<ReadOnlyRecruitmentList> importRecruitmentList(Path filePath) throws DataConversionException,
+            IOException {
+        Optional<ReadOnlyRecruitmentList> recruitmentList = new JournalRecruitmentListStorage(filePath)
+                .readRecruitmentList();
+        if (!recruitmentList.isPresent()) {
+            logger.info("RecruitmentList file " + filePath + " not found");
+            return Optional.empty();
+        }
+        logger.info("Importing RecruitmentList from " + filePath + " into " + ListTable.getDatabaseFilePath(filePath));
+        table.save(filePath, recruitmentList.get().getRecruitmentList());
+        return recruitmentList;
+    }
+}
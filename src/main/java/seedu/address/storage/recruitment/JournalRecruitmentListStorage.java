@@ -0,0 +1,119 @@
+package seedu.address.storage.recruitment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.recruitment.XmlSerializableRecruitmentList.RECRUITMENT_ELEMENT;
+import static seedu.address.storage.recruitment.XmlSerializableRecruitmentList.ROOT_ELEMENT;
+import static seedu.address.storage.recruitment.XmlSerializableRecruitmentList.buildRecruitmentList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.storage.ListJournal;
+
+/**
+ * A class to access RecruitmentList data stored as an xml file on the hard disk, together with a journal of
+ * the recruitment posts changed since the xml file was written.
+ * A binary file found in its place is imported, and saved as xml from then on.
+ */
+public class JournalRecruitmentListStorage implements RecruitmentListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalRecruitmentListStorage.class);
+
+    private final ListJournal<Recruitment, XmlAdaptedRecruitment> journal;
+    private Path filePath;
+
+    public JournalRecruitmentListStorage(Path filePath) {
+        this(filePath, ListJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param compactionThreshold how many changes the journal may hold before it is compacted into the xml file.
+     */
+    public JournalRecruitmentListStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * @param compactionThreshold how many changes the journal may hold before it is compacted into the xml file.
+     * @param isCompressed whether the xml file is written compressed with gzip.
+     */
+    public JournalRecruitmentListStorage(Path filePath, int compactionThreshold, boolean isCompressed) {
+        this.filePath = filePath;
+        journal = new ListJournal<>(ROOT_ELEMENT, RECRUITMENT_ELEMENT, XmlAdaptedRecruitment.class,
+                XmlAdaptedRecruitment::new, XmlAdaptedRecruitment::toModelPost, XmlAdaptedRecruitment::toSavedModelPost,
+                compactionThreshold, isCompressed);
+    }
+
+    public Path getRecruitmentListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRecruitmentList> readRecruitmentList() throws DataConversionException, IOException {
+        return readRecruitmentList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRecruitmentList()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    public Optional<ReadOnlyRecruitmentList> readRecruitmentList(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (Files.exists(filePath) && BinaryUtil.isBinaryFile(filePath)) {
+            logger.info("Importing RecruitmentList from binary file " + filePath);
+            journal.invalidate();
+            try {
+                return Optional.of(BinaryRecruitmentListFileStorage.loadDataFromSaveFile(filePath));
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+
+        Optional<List<Recruitment>> recruitments = journal.read(filePath);
+        if (!recruitments.isPresent()) {
+            logger.info("RecruitmentList file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        RecruitmentList.Builder builder = new RecruitmentList.Builder();
+        recruitments.get().forEach(builder::addRecruitment);
+        try {
+            return Optional.of(buildRecruitmentList(builder));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList) throws IOException {
+        saveRecruitmentList(recruitmentList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRecruitmentList(ReadOnlyRecruitmentList)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList, Path filePath) throws IOException {
+        requireNonNull(recruitmentList);
+        requireNonNull(filePath);
+
+        journal.save(filePath, recruitmentList.getRecruitmentList());
+    }
+
+}
@@ -42,4 +42,10 @@ public interface RecruitmentListStorage {
      */
     void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList, Path filePath) throws IOException;
 
+    /**
+     * Releases what the storage keeps open for the recruitment list, such as a database connection.
+     * A storage that opens its file for each read and save has nothing to release.
+     */
+    default void close() throws IOException {}
+
 }
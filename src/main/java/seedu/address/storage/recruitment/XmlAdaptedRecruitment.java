@@ -1,5 +1,7 @@
 package seedu.address.storage.recruitment;
 
+import static seedu.address.commons.util.AppUtil.readSavedData;
+
 import java.util.Objects;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -88,6 +90,20 @@ public class XmlAdaptedRecruitment {
         return new Recruitment(modelPost, modelWorkExp, modelJobDescription);
     }
 
+    /**
+     * Converts this adapted recruitment, read back from a data file whose checksum shows it is as the app saved it,
+     * into the model's Recruitment object without validating its fields again.
+     *
+     * @throws IllegalValueException if a field is missing in the adapted recruitment
+     */
+    public Recruitment toSavedModelPost() throws IllegalValueException {
+        if (post == null || workExp == null || jobDescription == null) {
+            return toModelPost();
+        }
+        return readSavedData(() -> new Recruitment(new Post(post), new WorkExp(workExp),
+                new JobDescription(jobDescription)));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,41 +1,64 @@
 package seedu.address.storage.recruitment;
 
+import static seedu.address.storage.recruitment.XmlSerializableRecruitmentList.RECRUITMENT_ELEMENT;
+import static seedu.address.storage.recruitment.XmlSerializableRecruitmentList.ROOT_ELEMENT;
+import static seedu.address.storage.recruitment.XmlSerializableRecruitmentList.addToRecruitmentList;
+import static seedu.address.storage.recruitment.XmlSerializableRecruitmentList.buildRecruitmentList;
+
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.RecruitmentList;
 
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlRecruitmentFileStorage {
 
-
     /**
-     * Saves the given recruitmentlist data to the specified file.
+     * Saves the given recruitment list data to the specified file, converting one recruitment post at a time,
+     * compressed with gzip if {@code isCompressed}.
      */
-    public static void saveDataToFile(Path file, XmlSerializableRecruitmentList recruitmentList)
-            throws FileNotFoundException {
+    public static void saveDataToFile(Path file, ReadOnlyRecruitmentList recruitmentList,
+                                      boolean isCompressed) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, recruitmentList);
+            XmlUtil.saveElementsToFile(file, ROOT_ELEMENT, RECRUITMENT_ELEMENT,
+                    XmlAdaptedRecruitment.class, recruitmentList.getRecruitmentList(), XmlAdaptedRecruitment::new,
+                    isCompressed);
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns recruitment list in the file or an empty recruitment list
+     * Returns the recruitment list in the file, converting one recruitment post at a time.
+     * The recruitment posts are not validated again if {@code isSaved}, as the file is then known to be as the
+     * app saved it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableRecruitmentList loadDataFromSaveRecruitmentListFile(Path file)
-            throws DataConversionException, FileNotFoundException {
+    public static RecruitmentList loadDataFromSaveRecruitmentListFile(Path file, boolean isSaved)
+            throws DataConversionException, FileNotFoundException, IllegalValueException {
+        RecruitmentList.Builder builder = new RecruitmentList.Builder();
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableRecruitmentList.class);
+            XmlUtil.readElementsFromFile(file, ROOT_ELEMENT, RECRUITMENT_ELEMENT,
+                    XmlAdaptedRecruitment.class, recruitment -> {
+                        if (isSaved) {
+                            builder.addRecruitment(recruitment.toSavedModelPost());
+                        } else {
+                            addToRecruitmentList(builder, recruitment);
+                        }
+                    });
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        return buildRecruitmentList(builder);
     }
-
 }
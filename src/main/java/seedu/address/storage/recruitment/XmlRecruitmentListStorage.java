@@ -2,7 +2,6 @@ package seedu.address.storage.recruitment;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -12,20 +11,35 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.storage.ListJournal;
+import seedu.address.storage.SavedFileChecksum;
 
 /**
  * A class to access RecruitmentList data stored as an xml file on the hard disk.
+ * A binary file found in its place, or a journal left next to it by a journal format, is imported, and saved as
+ * plain xml from then on.
+ * The checksum of the file is saved next to it, so a file the app saved is read without validating its records again.
  */
 public class XmlRecruitmentListStorage implements RecruitmentListStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlRecruitmentListStorage.class);
 
+    private final boolean isCompressed;
     private Path filePath;
 
     public XmlRecruitmentListStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * @param isCompressed whether the xml file is written compressed with gzip.
+     */
+    public XmlRecruitmentListStorage(Path filePath, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompressed = isCompressed;
     }
 
     public Path getRecruitmentListFilePath() {
@@ -43,18 +57,28 @@ public class XmlRecruitmentListStorage implements RecruitmentListStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyRecruitmentList> readRecruitmentList(Path filePath) throws DataConversionException,
-            FileNotFoundException {
+            IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
             logger.info("RecruitmentList file " + filePath + " not found");
             return Optional.empty();
         }
+        if (Files.exists(ListJournal.getJournalFilePath(filePath))) {
+            logger.info("Replaying the journal of RecruitmentList file " + filePath);
+            return new JournalRecruitmentListStorage(filePath).readRecruitmentList(filePath);
+        }
 
-        XmlSerializableRecruitmentList
-                xmlRecruitmentList = XmlRecruitmentFileStorage.loadDataFromSaveRecruitmentListFile(filePath);
         try {
-            return Optional.of(xmlRecruitmentList.toModelType());
+            if (BinaryUtil.isBinaryFile(filePath)) {
+                logger.info("Importing RecruitmentList from binary file " + filePath);
+                return Optional.of(BinaryRecruitmentListFileStorage.loadDataFromSaveFile(filePath));
+            }
+            boolean isSaved = SavedFileChecksum.isSavedFile(filePath);
+            if (!isSaved) {
+                logger.info("Validating every record in " + filePath + " as it does not match its checksum");
+            }
+            return Optional.of(XmlRecruitmentFileStorage.loadDataFromSaveRecruitmentListFile(filePath, isSaved));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -75,7 +99,10 @@ public class XmlRecruitmentListStorage implements RecruitmentListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlRecruitmentFileStorage.saveDataToFile(filePath, new XmlSerializableRecruitmentList(recruitmentList));
+        XmlRecruitmentFileStorage.saveDataToFile(filePath, recruitmentList, isCompressed);
+        SavedFileChecksum.write(filePath);
+        // a journal left by a journal format was replayed when the file was read, and does not apply to this file
+        Files.deleteIfExists(ListJournal.getJournalFilePath(filePath));
     }
 
 }
@@ -9,19 +9,21 @@ import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
-import seedu.address.model.recruitment.Recruitment;
 import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.recruitment.exceptions.DuplicateRecruitmentException;
 
 
 /**
  * An Immutable RecruitmentList that is serializable to XML format
  */
-@XmlRootElement(name = "recruitmentlist")
+@XmlRootElement(name = XmlSerializableRecruitmentList.ROOT_ELEMENT)
 public class XmlSerializableRecruitmentList {
 
     public static final String MESSAGE_DUPLICATE_RECRUITMENT = "RecruitmentLists contain duplicate recruitmentPost(s).";
+    public static final String ROOT_ELEMENT = "recruitmentlist";
+    public static final String RECRUITMENT_ELEMENT = "recruitments";
 
-    @XmlElement
+    @XmlElement(name = RECRUITMENT_ELEMENT)
     private List<XmlAdaptedRecruitment> recruitments;
 
     /**
@@ -48,15 +50,34 @@ public class XmlSerializableRecruitmentList {
      * {@code XmlAdaptedRecruitment}.
      */
     public RecruitmentList toModelType() throws IllegalValueException {
-        RecruitmentList recruitmentList = new RecruitmentList();
+        RecruitmentList.Builder builder = new RecruitmentList.Builder();
         for (XmlAdaptedRecruitment p : recruitments) {
-            Recruitment recruitment = p.toModelPost();
-            if (recruitmentList.hasRecruitment(recruitment)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_RECRUITMENT);
-            }
-            recruitmentList.addRecruitment(recruitment);
+            addToRecruitmentList(builder, p);
+        }
+        return buildRecruitmentList(builder);
+    }
+
+    /**
+     * Converts {@code adaptedRecruitment} into the model's {@code Recruitment} object and adds it to {@code builder}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in {@code adaptedRecruitment}.
+     */
+    public static void addToRecruitmentList(RecruitmentList.Builder builder, XmlAdaptedRecruitment adaptedRecruitment)
+            throws IllegalValueException {
+        builder.addRecruitment(adaptedRecruitment.toModelPost());
+    }
+
+    /**
+     * Returns the recruitment list with all the recruitments added to {@code builder}.
+     *
+     * @throws IllegalValueException if there are duplicates among them.
+     */
+    public static RecruitmentList buildRecruitmentList(RecruitmentList.Builder builder) throws IllegalValueException {
+        try {
+            return builder.build();
+        } catch (DuplicateRecruitmentException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_RECRUITMENT);
         }
-        return recruitmentList;
     }
 
     @Override
@@ -0,0 +1,75 @@
+package seedu.address.storage.schedule;
+
+import static seedu.address.storage.schedule.XmlSerializableScheduleList.addToScheduleList;
+import static seedu.address.storage.schedule.XmlSerializableScheduleList.buildScheduleList;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.model.RecordCodec;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleList;
+
+/**
+ * Stores schedule list data in a binary file
+ */
+public class BinaryScheduleListFileStorage {
+
+    private static final int FIELD_COUNT = 3;
+
+    /**
+     * Saves the given data to the specified file.
+     */
+    public static void saveDataToFile(Path file, ReadOnlyScheduleList scheduleList) throws IOException {
+        BinaryUtil.saveRecordsToFile(file, scheduleList.getScheduleList(),
+                BinaryScheduleListFileStorage::toFields);
+    }
+
+    /**
+     * Returns the list in the file, converting one record at a time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static ScheduleList loadDataFromSaveFile(Path file)
+            throws DataConversionException, FileNotFoundException, IOException, IllegalValueException {
+        ScheduleList.Builder builder = new ScheduleList.Builder();
+        BinaryUtil.readRecordsFromFile(file,
+                fields -> addToScheduleList(builder, toAdaptedSchedule(fields)));
+        return buildScheduleList(builder);
+    }
+
+    /**
+     * Returns the conversion of a schedule to and from the fields of its record in this format.
+     */
+    public static RecordCodec<Schedule> getRecordCodec() {
+        return new RecordCodec<Schedule>() {
+            @Override
+            public String[] toFields(Schedule record) {
+                return BinaryScheduleListFileStorage.toFields(record);
+            }
+
+            @Override
+            public Schedule fromFields(String[] fields) throws IllegalValueException {
+                return toAdaptedSchedule(fields).toSavedModelType();
+            }
+        };
+    }
+
+    static String[] toFields(Schedule schedule) {
+        return new String[] {schedule.getEmployeeId().value, schedule.getType().value,
+                schedule.getScheduleDate().value};
+    }
+
+    static XmlAdaptedSchedule toAdaptedSchedule(String[] fields) throws IllegalValueException {
+        if (fields.length != FIELD_COUNT) {
+            throw new IllegalValueException(
+                    "Schedule record has " + fields.length + " fields, expected " + FIELD_COUNT);
+        }
+        return new XmlAdaptedSchedule(fields[0], fields[1], fields[2]);
+    }
+}
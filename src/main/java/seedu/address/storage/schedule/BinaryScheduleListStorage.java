@@ -0,0 +1,85 @@
+package seedu.address.storage.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+
+/**
+ * A class to access ScheduleList data stored as a binary file on the hard disk.
+ * An xml file found in its place is imported, and saved in binary from then on.
+ */
+public class BinaryScheduleListStorage implements ScheduleListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryScheduleListStorage.class);
+
+    private Path filePath;
+
+    public BinaryScheduleListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getScheduleListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleList> readScheduleList() throws DataConversionException, IOException {
+        return readScheduleList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readScheduleList()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyScheduleList> readScheduleList(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("ScheduleList file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        if (!BinaryUtil.isBinaryFile(filePath)) {
+            logger.info("Importing ScheduleList from xml file " + filePath);
+            return new JournalScheduleListStorage(filePath).readScheduleList();
+        }
+
+        try {
+            return Optional.of(BinaryScheduleListFileStorage.loadDataFromSaveFile(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList) throws IOException {
+        saveScheduleList(scheduleList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveScheduleList(ReadOnlyScheduleList)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList, Path filePath) throws IOException {
+        requireNonNull(scheduleList);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        BinaryScheduleListFileStorage.saveDataToFile(filePath, scheduleList);
+    }
+
+}
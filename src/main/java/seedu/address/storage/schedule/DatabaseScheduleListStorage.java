@@ -0,0 +1,131 @@
+package seedu.address.storage.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.schedule.XmlSerializableScheduleList.buildScheduleList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.storage.ListTable;
+
+/**
+ * A class to access ScheduleList data stored in a table of an embedded database file on the hard disk.
+ * Saving changes only the rows of the schedules that changed.
+ * The xml or binary file is imported into the database the first time it is read, and is left as it was.
+ */
+public class DatabaseScheduleListStorage implements ScheduleListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseScheduleListStorage.class);
+
+    private static final String TABLE_NAME = "schedules";
+    private static final List<String> COLUMNS = Arrays.asList("employee_id", "schedule_type", "schedule_date");
+    private static final List<String> INDEXED_COLUMNS = Arrays.asList("employee_id", "schedule_date");
+
+    private final ListTable<Schedule> table;
+    private Path filePath;
+
+    public DatabaseScheduleListStorage(Path filePath) {
+        this.filePath = filePath;
+        table = new ListTable<>(TABLE_NAME, COLUMNS, INDEXED_COLUMNS, BinaryScheduleListFileStorage::toFields,
+                row -> BinaryScheduleListFileStorage.toAdaptedSchedule(row).toModelType());
+    }
+
+    public Path getScheduleListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleList> readScheduleList() throws DataConversionException, IOException {
+        return readScheduleList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readScheduleList()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the database or the file imported is not in the correct format.
+     */
+    public Optional<ReadOnlyScheduleList> readScheduleList(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        Optional<List<Schedule>> schedules = table.read(filePath);
+        if (!schedules.isPresent()) {
+            return importScheduleList(filePath);
+        }
+
+        ScheduleList.Builder builder = new ScheduleList.Builder();
+        schedules.get().forEach(builder::addSchedule);
+        try {
+            return Optional.of(buildScheduleList(builder));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + ListTable.getDatabaseFilePath(filePath) + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList) throws IOException {
+        saveScheduleList(scheduleList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveScheduleList(ReadOnlyScheduleList)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList, Path filePath) throws IOException {
+        requireNonNull(scheduleList);
+        requireNonNull(filePath);
+
+        table.save(filePath, scheduleList.getScheduleList());
+    }
+
+    /**
+     * Closes the connection to the database, which is opened again if the ScheduleList is read or saved afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        table.close();
+    }
+
+    /**
+     * Returns the ScheduleList in the xml or binary file at {@code filePath}, which is written to the database so
+     * that it is only imported once.
+     */
+    private Optional<ReadOnlyScheduleList> importScheduleList(Path filePath) throws DataConversionException,
+            IOException {
+        // the schedules of every year are imported, including those a split schedule list reads only when needed
+        PartitionedScheduleListStorage fileStorage = new PartitionedScheduleListStorage(filePath,
+                JournalScheduleListStorage::new);
+        Optional<ReadOnlyScheduleList> recentSchedules = fileStorage.readScheduleList();
+        if (!recentSchedules.isPresent()) {
+            logger.info("ScheduleList file " + filePath + " not found");
+            return Optional.empty();
+        }
+        ScheduleList.Builder builder = new ScheduleList.Builder();
+        fileStorage.readYears(year -> true).forEach(builder::addSchedule);
+        if (fileStorage.hasUnreadYears(year -> true)) {
+            throw new IOException("Problem while reading every year of ScheduleList file " + filePath);
+        }
+        recentSchedules.get().getScheduleList().forEach(builder::addSchedule);
+        Optional<ReadOnlyScheduleList> scheduleList;
+        try {
+            scheduleList = Optional.of(buildScheduleList(builder));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        logger.info("Importing ScheduleList from " + filePath + " into " + ListTable.getDatabaseFilePath(filePath));
+        table.save(filePath, scheduleList.get().getScheduleList());
+        return scheduleList;
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.storage.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.schedule.XmlSerializableScheduleList.ROOT_ELEMENT;
+import static seedu.address.storage.schedule.XmlSerializableScheduleList.SCHEDULE_ELEMENT;
+import static seedu.address.storage.schedule.XmlSerializableScheduleList.buildScheduleList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.storage.ListJournal;
+
+/**
+ * A class to access ScheduleList data stored as an xml file on the hard disk, together with a journal of the schedules
+ * changed since the xml file was written.
+ * A binary file found in its place is imported, and saved as xml from then on.
+ */
+public class JournalScheduleListStorage implements ScheduleListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalScheduleListStorage.class);
+
+    private final ListJournal<Schedule, XmlAdaptedSchedule> journal;
+    private Path filePath;
+
+    public JournalScheduleListStorage(Path filePath) {
+        this(filePath, ListJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param compactionThreshold how many changes the journal may hold before it is compacted into the xml file.
+     */
+    public JournalScheduleListStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * @param compactionThreshold how many changes the journal may hold before it is compacted into the xml file.
+     * @param isCompressed whether the xml file is written compressed with gzip.
+     */
+    public JournalScheduleListStorage(Path filePath, int compactionThreshold, boolean isCompressed) {
+        this.filePath = filePath;
+        journal = new ListJournal<>(ROOT_ELEMENT, SCHEDULE_ELEMENT, XmlAdaptedSchedule.class, XmlAdaptedSchedule::new,
+                XmlAdaptedSchedule::toModelType, XmlAdaptedSchedule::toSavedModelType, compactionThreshold,
+                isCompressed);
+    }
+
+    public Path getScheduleListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleList> readScheduleList() throws DataConversionException, IOException {
+        return readScheduleList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readScheduleList()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    public Optional<ReadOnlyScheduleList> readScheduleList(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (Files.exists(filePath) && BinaryUtil.isBinaryFile(filePath)) {
+            logger.info("Importing ScheduleList from binary file " + filePath);
+            journal.invalidate();
+            try {
+                return Optional.of(BinaryScheduleListFileStorage.loadDataFromSaveFile(filePath));
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+
+        Optional<List<Schedule>> schedules = journal.read(filePath);
+        if (!schedules.isPresent()) {
+            logger.info("ScheduleList file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ScheduleList.Builder builder = new ScheduleList.Builder();
+        schedules.get().forEach(builder::addSchedule);
+        try {
+            return Optional.of(buildScheduleList(builder));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList) throws IOException {
+        saveScheduleList(scheduleList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveScheduleList(ReadOnlyScheduleList)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList, Path filePath) throws IOException {
+        requireNonNull(scheduleList);
+        requireNonNull(filePath);
+
+        journal.save(filePath, scheduleList.getScheduleList());
+    }
+
+}
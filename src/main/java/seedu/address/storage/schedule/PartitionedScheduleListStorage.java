@@ -0,0 +1,359 @@
+package seedu.address.storage.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.storage.schedule.XmlSerializableScheduleList.buildScheduleList;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Year;
+import seedu.address.storage.ListJournal;
+import seedu.address.storage.SavedFileChecksum;
+
+/**
+ * A class to access ScheduleList data stored as one file per year, such as {@code schedulelist-2019.xml} for the
+ * schedule list file {@code schedulelist.xml}, each read and written by a storage of its own.
+ * Reading the schedule list only reads the current year and the years after it. The earlier years are read by
+ * {@link #readYears(Predicate)} when they are needed, and saving the schedule list only writes the years read that
+ * changed since they were read or last saved.
+ * A schedule list file from before the schedules were split by year is read in full, and split when it is next saved.
+ * The employees of each year are kept in a {@link ScheduleYearIndex} written with the years, so that only the years
+ * that may hold the schedules of an employee are read when they are needed.
+ */
+public class PartitionedScheduleListStorage implements ScheduleListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedScheduleListStorage.class);
+
+    private static final String YEAR_SEPARATOR = "-";
+    private static final int YEAR_LENGTH = 4;
+
+    private final Path filePath;
+    private final Function<Path, ScheduleListStorage> yearStorageFactory;
+    private final int currentYear;
+
+    // the storages of the years read or saved, the schedules their files held when last read or saved,
+    // the years with a file that has not been read, and the employees of those of them in the index
+    private final Map<Year, ScheduleListStorage> yearStorages = new HashMap<>();
+    private final Map<Year, List<Schedule>> savedSchedules = new HashMap<>();
+    private final Set<Year> unreadYears = new TreeSet<>(PartitionedScheduleListStorage::compareYears);
+    private final Map<Year, Set<EmployeeId>> unreadEmployeeIds = new HashMap<>();
+    private boolean hasUnsplitFile;
+
+    /**
+     * @param yearStorageFactory creates the storage of the file of a year.
+     */
+    public PartitionedScheduleListStorage(Path filePath, Function<Path, ScheduleListStorage> yearStorageFactory) {
+        this(filePath, yearStorageFactory, LocalDate.now().getYear());
+    }
+
+    /**
+     * @param yearStorageFactory creates the storage of the file of a year.
+     * @param currentYear the earliest year read with the schedule list.
+     */
+    public PartitionedScheduleListStorage(Path filePath, Function<Path, ScheduleListStorage> yearStorageFactory,
+                                          int currentYear) {
+        requireAllNonNull(filePath, yearStorageFactory);
+        this.filePath = filePath;
+        this.yearStorageFactory = yearStorageFactory;
+        this.currentYear = currentYear;
+    }
+
+    public Path getScheduleListFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the file holding the schedules of {@code year} for the schedule list file {@code filePath}.
+     */
+    public static Path getYearFilePath(Path filePath, Year year) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = getExtensionIndex(fileName);
+        return filePath.resolveSibling(fileName.substring(0, extensionIndex) + YEAR_SEPARATOR + year
+                + fileName.substring(extensionIndex));
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleList> readScheduleList() throws DataConversionException, IOException {
+        return readScheduleList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readScheduleList()}
+     * @param filePath location of the data. Cannot be null. Every year is read if it is not the location of this
+     *                 storage's data.
+     */
+    public synchronized Optional<ReadOnlyScheduleList> readScheduleList(Path filePath) throws DataConversionException,
+                                                                                              IOException {
+        requireNonNull(filePath);
+
+        boolean isTracked = filePath.equals(this.filePath);
+        if (isTracked) {
+            yearStorages.clear();
+            savedSchedules.clear();
+            unreadYears.clear();
+            unreadEmployeeIds.clear();
+            hasUnsplitFile = Files.exists(filePath);
+        }
+
+        // an unsplit file left next to year files is from a split that did not finish, and is removed when saved
+        Set<Year> years = findYears(filePath);
+        if (years.isEmpty()) {
+            // the years read from an unsplit file have no file of their own yet, so they are all written when saved
+            return yearStorageFactory.apply(filePath).readScheduleList(filePath);
+        }
+
+        ScheduleList.Builder builder = new ScheduleList.Builder();
+        for (Year year : years) {
+            if (!isTracked) {
+                readYear(filePath, year).forEach(builder::addSchedule);
+            } else if (Integer.parseInt(year.value) >= currentYear) {
+                readTrackedYear(year).forEach(builder::addSchedule);
+            } else {
+                unreadYears.add(year);
+            }
+        }
+        if (!unreadYears.isEmpty()) {
+            logger.info("Schedules of " + unreadYears + " will be read from " + filePath + " when needed");
+            unreadEmployeeIds.putAll(ScheduleYearIndex.read(filePath));
+            unreadEmployeeIds.keySet().retainAll(unreadYears);
+        }
+
+        try {
+            return Optional.of(buildScheduleList(builder));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns true if any of the years not read yet is accepted by {@code isNeeded}.
+     */
+    public synchronized boolean hasUnreadYears(Predicate<Year> isNeeded) {
+        return unreadYears.stream().anyMatch(isNeeded);
+    }
+
+    /**
+     * Returns the years not read yet that may hold schedules of the employee with {@code employeeId}, which are those
+     * the index lists the employee in, and those missing from the index.
+     */
+    public synchronized Set<Year> findUnreadYears(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        Set<Year> years = new HashSet<>();
+        for (Year year : unreadYears) {
+            Set<EmployeeId> employeeIds = unreadEmployeeIds.get(year);
+            if (employeeIds == null || employeeIds.contains(employeeId)) {
+                years.add(year);
+            }
+        }
+        return years;
+    }
+
+    /**
+     * Returns the schedules of the years not read yet that {@code isNeeded} accepts, which are saved with the
+     * schedule list from then on. A year that cannot be read is left unread, and its file is never written.
+     */
+    public synchronized List<Schedule> readYears(Predicate<Year> isNeeded) {
+        List<Schedule> schedules = new ArrayList<>();
+        Iterator<Year> years = unreadYears.iterator();
+        while (years.hasNext()) {
+            Year year = years.next();
+            if (!isNeeded.test(year)) {
+                continue;
+            }
+            try {
+                schedules.addAll(readTrackedYear(year));
+                years.remove();
+                unreadEmployeeIds.remove(year);
+                logger.info("Read schedules of " + year + " from " + getYearFilePath(filePath, year));
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Problem while reading schedules of " + year + ", which will not be saved: " + e);
+            }
+        }
+        return schedules;
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList) throws IOException {
+        saveScheduleList(scheduleList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveScheduleList(ReadOnlyScheduleList)}
+     * @param filePath location of the data. Cannot be null. Every year is written if it is not the location of this
+     *                 storage's data.
+     */
+    public synchronized void saveScheduleList(ReadOnlyScheduleList scheduleList, Path filePath) throws IOException {
+        requireAllNonNull(scheduleList, filePath);
+
+        Map<Year, List<Schedule>> schedulesByYear = groupByYear(scheduleList.getScheduleList());
+        if (!filePath.equals(this.filePath)) {
+            for (Map.Entry<Year, List<Schedule>> entry : schedulesByYear.entrySet()) {
+                Path yearFilePath = getYearFilePath(filePath, entry.getKey());
+                yearStorageFactory.apply(yearFilePath).saveScheduleList(toScheduleList(entry.getValue()));
+            }
+            writeIndex(filePath, schedulesByYear, Collections.emptyMap());
+            return;
+        }
+
+        Set<Year> years = new HashSet<>(schedulesByYear.keySet());
+        years.addAll(savedSchedules.keySet());
+        boolean isChanged = false;
+        for (Year year : years) {
+            List<Schedule> schedules = schedulesByYear.getOrDefault(year, Collections.emptyList());
+            if (unreadYears.contains(year)) {
+                logger.warning("Not saving schedules of " + year + " as they were not read");
+                continue;
+            }
+            if (schedules.equals(savedSchedules.get(year))) {
+                continue;
+            }
+            ScheduleListStorage yearStorage = yearStorages.get(year);
+            if (yearStorage == null) {
+                yearStorage = yearStorageFactory.apply(getYearFilePath(filePath, year));
+                yearStorages.put(year, yearStorage);
+            }
+            yearStorage.saveScheduleList(toScheduleList(schedules));
+            savedSchedules.put(year, schedules);
+            isChanged = true;
+        }
+        if (isChanged) {
+            writeIndex(filePath, savedSchedules, unreadEmployeeIds);
+        }
+
+        if (hasUnsplitFile) {
+            logger.info("Split ScheduleList file " + filePath + " by year");
+            Files.deleteIfExists(filePath);
+            Files.deleteIfExists(ListJournal.getJournalFilePath(filePath));
+            Files.deleteIfExists(SavedFileChecksum.getChecksumFilePath(filePath));
+            hasUnsplitFile = false;
+        }
+    }
+
+    /**
+     * Writes the index of the schedule list file {@code filePath} with the employees of {@code schedulesByYear},
+     * along with {@code indexedEmployeeIds} for the years not read. The index is only used to skip reading years,
+     * so the save is not failed if it cannot be written. The index left from before lists the years changed since
+     * with their earlier file times, so it is not used for them.
+     */
+    private static void writeIndex(Path filePath, Map<Year, List<Schedule>> schedulesByYear,
+                                   Map<Year, Set<EmployeeId>> indexedEmployeeIds) {
+        Map<Year, Set<EmployeeId>> employeeIdsByYear = new HashMap<>(indexedEmployeeIds);
+        for (Map.Entry<Year, List<Schedule>> entry : schedulesByYear.entrySet()) {
+            Set<EmployeeId> employeeIds = new HashSet<>();
+            entry.getValue().forEach(schedule -> employeeIds.add(schedule.getEmployeeId()));
+            employeeIdsByYear.put(entry.getKey(), employeeIds);
+        }
+        try {
+            ScheduleYearIndex.write(filePath, employeeIdsByYear);
+        } catch (IOException e) {
+            logger.warning("Problem while writing the index of " + filePath
+                    + ", the years saved will be read when needed for any employee: " + e);
+        }
+    }
+
+    /**
+     * Returns the schedules of {@code year} for this storage's data, whose file is written by later saves.
+     */
+    private List<Schedule> readTrackedYear(Year year) throws DataConversionException, IOException {
+        ScheduleListStorage yearStorage = yearStorageFactory.apply(getYearFilePath(filePath, year));
+        List<Schedule> schedules = readYear(yearStorage);
+        yearStorages.put(year, yearStorage);
+        savedSchedules.put(year, schedules);
+        return schedules;
+    }
+
+    private List<Schedule> readYear(Path filePath, Year year) throws DataConversionException, IOException {
+        return readYear(yearStorageFactory.apply(getYearFilePath(filePath, year)));
+    }
+
+    private static List<Schedule> readYear(ScheduleListStorage yearStorage) throws DataConversionException,
+                                                                                    IOException {
+        Optional<ReadOnlyScheduleList> scheduleList = yearStorage.readScheduleList();
+        return scheduleList.isPresent() ? new ArrayList<>(scheduleList.get().getScheduleList()) : new ArrayList<>();
+    }
+
+    /**
+     * Returns the years with a file for the schedule list file {@code filePath}.
+     */
+    private static Set<Year> findYears(Path filePath) throws IOException {
+        Set<Year> years = new TreeSet<>(PartitionedScheduleListStorage::compareYears);
+        Path folder = filePath.toAbsolutePath().getParent();
+        if (folder == null || !Files.isDirectory(folder)) {
+            return years;
+        }
+
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = getExtensionIndex(fileName);
+        String prefix = fileName.substring(0, extensionIndex) + YEAR_SEPARATOR;
+        String suffix = fileName.substring(extensionIndex);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.length() != prefix.length() + YEAR_LENGTH + suffix.length()
+                        || !name.startsWith(prefix) || !name.endsWith(suffix)) {
+                    continue;
+                }
+                String year = name.substring(prefix.length(), prefix.length() + YEAR_LENGTH);
+                if (Year.isValidYear(year)) {
+                    years.add(new Year(year));
+                }
+            }
+        }
+        return years;
+    }
+
+    /**
+     * Returns the schedules in {@code schedules} grouped by year, in the order they are in.
+     */
+    private static Map<Year, List<Schedule>> groupByYear(List<Schedule> schedules) {
+        Map<Year, List<Schedule>> schedulesByYear = new LinkedHashMap<>();
+        for (Schedule schedule : schedules) {
+            schedulesByYear.computeIfAbsent(new Year(schedule.getScheduleYear()), year -> new ArrayList<>())
+                    .add(schedule);
+        }
+        return schedulesByYear;
+    }
+
+    private static ReadOnlyScheduleList toScheduleList(List<Schedule> schedules) {
+        ObservableList<Schedule> scheduleList = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(schedules));
+        return () -> scheduleList;
+    }
+
+    private static int getExtensionIndex(String fileName) {
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex > 0 ? extensionIndex : fileName.length();
+    }
+
+    private static int compareYears(Year year, Year otherYear) {
+        return year.value.compareTo(otherYear.value);
+    }
+}
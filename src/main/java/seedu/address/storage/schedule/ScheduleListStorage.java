@@ -43,4 +43,10 @@ public interface ScheduleListStorage {
      */
     void saveScheduleList(ReadOnlyScheduleList scheduleList, Path filePath) throws IOException;
 
+    /**
+     * Releases what the storage holds open for the schedule list between saves, such as a database connection.
+     * @throws IOException if there was any problem closing the storage.
+     */
+    default void close() throws IOException {}
+
 }
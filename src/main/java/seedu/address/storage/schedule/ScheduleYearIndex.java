@@ -0,0 +1,123 @@
+package seedu.address.storage.schedule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.schedule.Year;
+import seedu.address.storage.ListJournal;
+
+/**
+ * The employee ids of the schedules of each year, kept in a file next to the files of the years, so the years that
+ * may hold the schedules of an employee are known without reading them.
+ *
+ * <p>Each line of the file holds a year, the last modified time of the file of that year or of its journal when the
+ * line was written, and the employee ids. A year whose files were changed since then, such as by hand or by a save
+ * that did not finish, is left out when the index is read, as it may hold the schedules of any employee.
+ */
+class ScheduleYearIndex {
+
+    private static final Logger logger = LogsCenter.getLogger(ScheduleYearIndex.class);
+
+    private static final String INDEX_FILE_SUFFIX = ".years";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String SEPARATOR = " ";
+
+    private ScheduleYearIndex() {}
+
+    /**
+     * Returns the index file for the schedule list file {@code filePath}.
+     */
+    static Path getIndexFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + INDEX_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the employee ids of each year in the index of the schedule list file {@code filePath}, leaving out the
+     * years whose file changed since they were indexed. Returns no year if the index is missing or cannot be read.
+     */
+    static Map<Year, Set<EmployeeId>> read(Path filePath) {
+        Map<Year, Set<EmployeeId>> employeeIdsByYear = new HashMap<>();
+        Path indexFile = getIndexFilePath(filePath);
+        if (!Files.exists(indexFile)) {
+            return employeeIdsByYear;
+        }
+
+        try {
+            for (String line : Files.readAllLines(indexFile, StandardCharsets.UTF_8)) {
+                String[] fields = line.split(SEPARATOR);
+                if (fields.length < 2 || !Year.isValidYear(fields[0])) {
+                    throw new IOException("Invalid line in the schedule year index: " + line);
+                }
+                Year year = new Year(fields[0]);
+                Path yearFile = PartitionedScheduleListStorage.getYearFilePath(filePath, year);
+                if (!Files.exists(yearFile) || getLastModifiedTime(yearFile) != Long.parseLong(fields[1])) {
+                    continue;
+                }
+                Set<EmployeeId> employeeIds = new HashSet<>();
+                for (int i = 2; i < fields.length; i++) {
+                    if (!EmployeeId.isValidEmployeeId(fields[i])) {
+                        throw new IOException("Invalid employee id in the schedule year index: " + fields[i]);
+                    }
+                    employeeIds.add(EmployeeId.of(fields[i]));
+                }
+                employeeIdsByYear.put(year, employeeIds);
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.warning("Problem while reading " + indexFile + ", every year will be read when needed: " + e);
+            employeeIdsByYear.clear();
+        }
+        return employeeIdsByYear;
+    }
+
+    /**
+     * Replaces the index of the schedule list file {@code filePath} in one step with {@code employeeIdsByYear},
+     * along with the current last modified time of the file of each year.
+     */
+    static void write(Path filePath, Map<Year, Set<EmployeeId>> employeeIdsByYear) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<Year, Set<EmployeeId>> entry : employeeIdsByYear.entrySet()) {
+            Path yearFile = PartitionedScheduleListStorage.getYearFilePath(filePath, entry.getKey());
+            if (!Files.exists(yearFile)) {
+                continue;
+            }
+            StringBuilder line = new StringBuilder(entry.getKey().value).append(SEPARATOR)
+                    .append(getLastModifiedTime(yearFile));
+            entry.getValue().forEach(employeeId -> line.append(SEPARATOR).append(employeeId.value));
+            lines.add(line.toString());
+        }
+
+        Path indexFile = getIndexFilePath(filePath);
+        Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + TEMP_FILE_SUFFIX);
+        Files.write(tempFile, lines, StandardCharsets.UTF_8);
+        try {
+            Files.move(tempFile, indexFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the last time {@code yearFile} or its journal was changed, as a journal is written without the file.
+     */
+    private static long getLastModifiedTime(Path yearFile) throws IOException {
+        long lastModifiedTime = Files.getLastModifiedTime(yearFile).toMillis();
+        Path journalFile = ListJournal.getJournalFilePath(yearFile);
+        if (Files.exists(journalFile)) {
+            lastModifiedTime = Math.max(lastModifiedTime, Files.getLastModifiedTime(journalFile).toMillis());
+        }
+        return lastModifiedTime;
+    }
+}
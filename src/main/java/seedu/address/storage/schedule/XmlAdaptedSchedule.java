@@ -1,5 +1,7 @@
 package seedu.address.storage.schedule;
 
+import static seedu.address.commons.util.AppUtil.readSavedData;
+
 import java.util.Objects;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -64,7 +66,7 @@ public class XmlAdaptedSchedule {
         if (!EmployeeId.isValidEmployeeId(employeeId)) {
             throw new IllegalValueException(EmployeeId.MESSAGE_EMPLOYEEID_CONSTRAINTS);
         }
-        final EmployeeId modelEmployeeId = new EmployeeId(employeeId);
+        final EmployeeId modelEmployeeId = EmployeeId.of(employeeId);
 
         if (type == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Type.class.getSimpleName()));
@@ -86,6 +88,19 @@ public class XmlAdaptedSchedule {
         return new Schedule(modelEmployeeId, modelType, modelDate);
     }
 
+    /**
+     * Converts this adapted schedule, read back from a data file whose checksum shows it is as the app saved it,
+     * into the model's Schedule object without validating its fields again.
+     *
+     * @throws IllegalValueException if a field is missing in the adapted schedule
+     */
+    public Schedule toSavedModelType() throws IllegalValueException {
+        if (employeeId == null || type == null || date == null) {
+            return toModelType();
+        }
+        return readSavedData(() -> new Schedule(EmployeeId.of(employeeId), new Type(type), new Date(date)));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,41 +1,64 @@
 package seedu.address.storage.schedule;
 
+import static seedu.address.storage.schedule.XmlSerializableScheduleList.ROOT_ELEMENT;
+import static seedu.address.storage.schedule.XmlSerializableScheduleList.SCHEDULE_ELEMENT;
+import static seedu.address.storage.schedule.XmlSerializableScheduleList.addToScheduleList;
+import static seedu.address.storage.schedule.XmlSerializableScheduleList.buildScheduleList;
+
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.ScheduleList;
 
 /**
  * Stores schedule list data in an XML file
  */
 public class XmlScheduleFileStorage {
 
-
     /**
-     * Saves the given schedule list data to the specified file.
+     * Saves the given schedule list data to the specified file, converting one schedule at a time, compressed
+     * with gzip if {@code isCompressed}.
      */
-    public static void saveDataToFile(Path file, XmlSerializableScheduleList scheduleList)
-            throws FileNotFoundException {
+    public static void saveDataToFile(Path file, ReadOnlyScheduleList scheduleList,
+                                      boolean isCompressed) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, scheduleList);
+            XmlUtil.saveElementsToFile(file, ROOT_ELEMENT, SCHEDULE_ELEMENT,
+                    XmlAdaptedSchedule.class, scheduleList.getScheduleList(), XmlAdaptedSchedule::new,
+                    isCompressed);
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns schedule list in the file or an empty schedule list
+     * Returns the schedule list in the file, converting one schedule at a time.
+     * The schedules are not validated again if {@code isSaved}, as the file is then known to be as the
+     * app saved it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableScheduleList loadDataFromSaveScheduleListFile(Path file)
-            throws DataConversionException, FileNotFoundException {
+    public static ScheduleList loadDataFromSaveScheduleListFile(Path file, boolean isSaved)
+            throws DataConversionException, FileNotFoundException, IllegalValueException {
+        ScheduleList.Builder builder = new ScheduleList.Builder();
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableScheduleList.class);
+            XmlUtil.readElementsFromFile(file, ROOT_ELEMENT, SCHEDULE_ELEMENT,
+                    XmlAdaptedSchedule.class, schedule -> {
+                        if (isSaved) {
+                            builder.addSchedule(schedule.toSavedModelType());
+                        } else {
+                            addToScheduleList(builder, schedule);
+                        }
+                    });
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        return buildScheduleList(builder);
     }
-
 }
@@ -2,7 +2,6 @@ package seedu.address.storage.schedule;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -12,20 +11,35 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.storage.ListJournal;
+import seedu.address.storage.SavedFileChecksum;
 
 /**
  * A class to access ScheduleList data stored as an xml file on the hard disk.
+ * A binary file found in its place, or a journal left next to it by a journal format, is imported, and saved as
+ * plain xml from then on.
+ * The checksum of the file is saved next to it, so a file the app saved is read without validating its records again.
  */
 public class XmlScheduleListStorage implements ScheduleListStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlScheduleListStorage.class);
 
+    private final boolean isCompressed;
     private Path filePath;
 
     public XmlScheduleListStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * @param isCompressed whether the xml file is written compressed with gzip.
+     */
+    public XmlScheduleListStorage(Path filePath, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompressed = isCompressed;
     }
 
     public Path getScheduleListFilePath() {
@@ -43,17 +57,28 @@ public class XmlScheduleListStorage implements ScheduleListStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyScheduleList> readScheduleList(Path filePath) throws DataConversionException,
-            FileNotFoundException {
+            IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
             logger.info("ScheduleList file " + filePath + " not found");
             return Optional.empty();
         }
+        if (Files.exists(ListJournal.getJournalFilePath(filePath))) {
+            logger.info("Replaying the journal of ScheduleList file " + filePath);
+            return new JournalScheduleListStorage(filePath).readScheduleList(filePath);
+        }
 
-        XmlSerializableScheduleList xmlScheduleList = XmlScheduleFileStorage.loadDataFromSaveScheduleListFile(filePath);
         try {
-            return Optional.of(xmlScheduleList.toModelType());
+            if (BinaryUtil.isBinaryFile(filePath)) {
+                logger.info("Importing ScheduleList from binary file " + filePath);
+                return Optional.of(BinaryScheduleListFileStorage.loadDataFromSaveFile(filePath));
+            }
+            boolean isSaved = SavedFileChecksum.isSavedFile(filePath);
+            if (!isSaved) {
+                logger.info("Validating every record in " + filePath + " as it does not match its checksum");
+            }
+            return Optional.of(XmlScheduleFileStorage.loadDataFromSaveScheduleListFile(filePath, isSaved));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +99,10 @@ public class XmlScheduleListStorage implements ScheduleListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlScheduleFileStorage.saveDataToFile(filePath, new XmlSerializableScheduleList(scheduleList));
+        XmlScheduleFileStorage.saveDataToFile(filePath, scheduleList, isCompressed);
+        SavedFileChecksum.write(filePath);
+        // a journal left by a journal format was replayed when the file was read, and does not apply to this file
+        Files.deleteIfExists(ListJournal.getJournalFilePath(filePath));
     }
 
 }
@@ -9,19 +9,21 @@ import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
-import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 
 
 /**
  * An Immutable ScheduleList that is serializable to XML format
  */
-@XmlRootElement(name = "schedulelist")
+@XmlRootElement(name = XmlSerializableScheduleList.ROOT_ELEMENT)
 public class XmlSerializableScheduleList {
 
     public static final String MESSAGE_DUPLICATE_SCHEDULE = "Schedules list contains duplicate schedule(s).";
+    public static final String ROOT_ELEMENT = "schedulelist";
+    public static final String SCHEDULE_ELEMENT = "schedules";
 
-    @XmlElement
+    @XmlElement(name = SCHEDULE_ELEMENT)
     private List<XmlAdaptedSchedule> schedules;
 
     /**
@@ -47,15 +49,34 @@ public class XmlSerializableScheduleList {
      * {@code XmlAdaptedSchedule}.
      */
     public ScheduleList toModelType() throws IllegalValueException {
-        ScheduleList scheduleList = new ScheduleList();
+        ScheduleList.Builder builder = new ScheduleList.Builder();
         for (XmlAdaptedSchedule p : schedules) {
-            Schedule schedule = p.toModelType();
-            if (scheduleList.hasSchedule(schedule)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SCHEDULE);
-            }
-            scheduleList.addSchedule(schedule);
+            addToScheduleList(builder, p);
+        }
+        return buildScheduleList(builder);
+    }
+
+    /**
+     * Converts {@code adaptedSchedule} into the model's {@code Schedule} object and adds it to {@code builder}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in {@code adaptedSchedule}.
+     */
+    public static void addToScheduleList(ScheduleList.Builder builder, XmlAdaptedSchedule adaptedSchedule)
+            throws IllegalValueException {
+        builder.addSchedule(adaptedSchedule.toModelType());
+    }
+
+    /**
+     * Returns the schedule list with all the schedules added to {@code builder}.
+     *
+     * @throws IllegalValueException if there are duplicates among them.
+     */
+    public static ScheduleList buildScheduleList(ScheduleList.Builder builder) throws IllegalValueException {
+        try {
+            return builder.build();
+        } catch (DuplicateScheduleException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SCHEDULE);
         }
-        return scheduleList;
     }
 
     @Override
@@ -113,6 +113,11 @@ public class UiManager extends ComponentManager implements Ui {
 
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
+        // data is saved in the background, so saving failures may be reported off the JavaFX thread
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> handleDataSavingExceptionEvent(event));
+            return;
+        }
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
                 event.exception);
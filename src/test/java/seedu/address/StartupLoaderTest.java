@@ -0,0 +1,83 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.addressbook.JournalAddressBookStorage;
+import seedu.address.storage.expenses.JournalExpensesListStorage;
+import seedu.address.storage.recruitment.JournalRecruitmentListStorage;
+import seedu.address.storage.schedule.JournalScheduleListStorage;
+import seedu.address.storage.schedule.XmlScheduleListStorage;
+import seedu.address.storage.userpref.JsonUserPrefsStorage;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class StartupLoaderTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+    // unregisters the storage managers from the events center after each test
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Test
+    public void createModel_missingAndInvalidFiles_fallbackDataUsed() throws Exception {
+        Path scheduleListFile = getTempFilePath("schedulelist.xml");
+        Files.write(scheduleListFile, "not xml".getBytes(StandardCharsets.UTF_8));
+        StorageManager storage = new StorageManager(new JournalAddressBookStorage(getTempFilePath("addressbook.xml")),
+                new JournalExpensesListStorage(getTempFilePath("expenses.xml")),
+                new JournalScheduleListStorage(scheduleListFile),
+                new JournalRecruitmentListStorage(getTempFilePath("recruitmentlist.xml")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs.json")));
+
+        StartupLoader startupLoader = new StartupLoader(storage);
+        ModelManager model = startupLoader.createModel(new UserPrefs());
+        startupLoader.finishLoading();
+        startupLoader.finishLoading();
+
+        assertTrue(startupLoader.getLoadedFuture().isDone());
+        assertEquals(SampleDataUtil.getSampleAddressBook(), new AddressBook(model.getAddressBook()));
+        assertTrue(model.getExpensesList().getExpensesRequestList().isEmpty());
+        assertTrue(model.getScheduleList().getScheduleList().isEmpty());
+        assertTrue(model.getRecruitmentList().getRecruitmentList().isEmpty());
+    }
+
+    @Test
+    public void finishLoading_unexpectedErrorReadingFile_emptyListUsed() throws Exception {
+        StorageManager storage = new StorageManager(new JournalAddressBookStorage(getTempFilePath("addressbook.xml")),
+                new JournalExpensesListStorage(getTempFilePath("expenses.xml")),
+                new XmlScheduleListStorage(getTempFilePath("schedulelist.xml")) {
+                    @Override
+                    public Optional<ReadOnlyScheduleList> readScheduleList() {
+                        throw new IllegalStateException("dummy");
+                    }
+                },
+                new JournalRecruitmentListStorage(getTempFilePath("recruitmentlist.xml")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs.json")));
+
+        StartupLoader startupLoader = new StartupLoader(storage);
+        ModelManager model = startupLoader.createModel(new UserPrefs());
+        startupLoader.getLoadedFuture().join();
+        startupLoader.finishLoading();
+
+        assertTrue(model.getScheduleList().getScheduleList().isEmpty());
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
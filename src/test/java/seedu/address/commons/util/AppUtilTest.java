@@ -1,5 +1,7 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
 import org.junit.Rule;
@@ -45,4 +47,25 @@ public class AppUtilTest {
         thrown.expectMessage(errorMessage);
         AppUtil.checkArgument(false, errorMessage);
     }
+
+    @Test
+    public void checkArgument_falseConditionWithErrorMessage_throwsIllegalArgumentException() {
+        String errorMessage = "error message";
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(errorMessage);
+        AppUtil.checkArgument(() -> false, errorMessage);
+    }
+
+    @Test
+    public void readSavedData_falseCondition_conditionNotEvaluated() throws Exception {
+        String value = AppUtil.readSavedData(() -> {
+            AppUtil.checkArgument(() -> {
+                throw new AssertionError("The condition should not be evaluated.");
+            }, "error message");
+            return "value";
+        });
+
+        assertEquals("value", value);
+        assertFalse(AppUtil.isReadingSavedData());
+    }
 }
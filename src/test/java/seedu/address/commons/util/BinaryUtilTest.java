@@ -0,0 +1,99 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+public class BinaryUtilTest {
+
+    private static final List<String[]> RECORDS = Arrays.asList(
+            new String[] {"000001", "WORK", "02/02/2019"},
+            new String[] {"000002", "WORK", "02/02/2019", null},
+            new String[] {},
+            new String[] {"", "\u00e9t\u00e9"});
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveAndReadRecords_validRecords_sameFieldsRead() throws Exception {
+        Path file = createTempFile();
+        BinaryUtil.saveRecordsToFile(file, RECORDS, record -> record);
+
+        List<String[]> readBack = readRecords(file);
+        assertEquals(RECORDS.size(), readBack.size());
+        for (int i = 0; i < RECORDS.size(); i++) {
+            assertArrayEquals(RECORDS.get(i), readBack.get(i));
+        }
+
+        // repeated strings are read into memory once
+        assertSame(readBack.get(0)[1], readBack.get(1)[1]);
+        assertSame(readBack.get(0)[2], readBack.get(1)[2]);
+    }
+
+    @Test
+    public void isBinaryFile() throws Exception {
+        Path file = createTempFile();
+        assertFalse(BinaryUtil.isBinaryFile(file));
+
+        Files.write(file, "<?xml version=\"1.0\"?>".getBytes(StandardCharsets.UTF_8));
+        assertFalse(BinaryUtil.isBinaryFile(file));
+
+        BinaryUtil.saveRecordsToFile(file, RECORDS, record -> record);
+        assertTrue(BinaryUtil.isBinaryFile(file));
+    }
+
+    @Test
+    public void readRecordsFromFile_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        readRecords(testFolder.getRoot().toPath().resolve("missing.bin"));
+    }
+
+    @Test
+    public void readRecordsFromFile_notBinaryFile_throwsDataConversionException() throws Exception {
+        Path file = createTempFile();
+        Files.write(file, "<?xml version=\"1.0\"?>".getBytes(StandardCharsets.UTF_8));
+        thrown.expect(DataConversionException.class);
+        readRecords(file);
+    }
+
+    @Test
+    public void readRecordsFromFile_truncatedFile_throwsDataConversionException() throws Exception {
+        Path file = createTempFile();
+        BinaryUtil.saveRecordsToFile(file, RECORDS, record -> record);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+        thrown.expect(DataConversionException.class);
+        readRecords(file);
+    }
+
+    private Path createTempFile() throws Exception {
+        return testFolder.newFile().toPath();
+    }
+
+    private List<String[]> readRecords(Path file) throws Exception {
+        List<String[]> records = new ArrayList<>();
+        BinaryUtil.readRecordsFromFile(file, records::add);
+        return records;
+    }
+}
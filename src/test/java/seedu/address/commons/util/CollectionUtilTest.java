@@ -1,16 +1,32 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.util.CollectionUtil.addSorted;
+import static seedu.address.commons.util.CollectionUtil.isSorted;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.setAllChanged;
+import static seedu.address.commons.util.CollectionUtil.setSorted;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
 public class CollectionUtilTest {
     @Test
     public void requireAllNonNullVarargs() {
@@ -82,6 +98,97 @@ public class CollectionUtilTest {
         assertTrue(collectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void isSorted_variousLists_returnsCorrectResult() {
+        assertTrue(isSorted(Collections.<Integer>emptyList(), Comparator.naturalOrder()));
+        assertTrue(isSorted(Arrays.asList(1, 2, 2, 3), Comparator.naturalOrder()));
+        assertFalse(isSorted(Arrays.asList(1, 3, 2), Comparator.naturalOrder()));
+        assertTrue(isSorted(Arrays.asList(3, 2, 1), Comparator.reverseOrder()));
+    }
+
+    @Test
+    public void addSorted_keepsListSorted() {
+        List<Integer> list = new ArrayList<>();
+        for (int item : Arrays.asList(5, 1, 4, 2, 3, 0, 6)) {
+            addSorted(list, item, Comparator.naturalOrder());
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6), list);
+    }
+
+    @Test
+    public void addSorted_equalItems_insertedAfterExistingItems() {
+        List<String> list = new ArrayList<>(Arrays.asList("a", "B", "c"));
+        addSorted(list, "b", String.CASE_INSENSITIVE_ORDER);
+        assertEquals(Arrays.asList("a", "B", "b", "c"), list);
+    }
+
+    @Test
+    public void setSorted_itemStillBetweenNeighbours_replacedInPlace() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(1, 3, 5));
+        setSorted(list, 1, 4, Comparator.naturalOrder());
+        assertEquals(Arrays.asList(1, 4, 5), list);
+    }
+
+    @Test
+    public void setSorted_itemOutOfPlace_movedToSortedPosition() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(1, 3, 5));
+        setSorted(list, 0, 6, Comparator.naturalOrder());
+        assertEquals(Arrays.asList(3, 5, 6), list);
+        setSorted(list, 2, 0, Comparator.naturalOrder());
+        assertEquals(Arrays.asList(0, 3, 5), list);
+        assertTrue(isSorted(list, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void setAllChanged_oneElementDiffers_onlyThatElementChanged() {
+        ObservableList<Integer> list = FXCollections.observableArrayList(1, 2, 3, 4, 5);
+        int[] addedAndRemoved = new int[2];
+        list.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                addedAndRemoved[0] += change.getAddedSize();
+                addedAndRemoved[1] += change.getRemovedSize();
+            }
+        });
+
+        // inserted
+        setAllChanged(list, Arrays.asList(1, 2, 6, 3, 4, 5));
+        assertEquals(Arrays.asList(1, 2, 6, 3, 4, 5), list);
+        assertEquals(1, addedAndRemoved[0]);
+        assertEquals(0, addedAndRemoved[1]);
+
+        // removed
+        setAllChanged(list, Arrays.asList(1, 2, 3, 4, 5));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), list);
+        assertEquals(1, addedAndRemoved[0]);
+        assertEquals(1, addedAndRemoved[1]);
+
+        // replaced
+        setAllChanged(list, Arrays.asList(1, 2, 7, 4, 5));
+        assertEquals(Arrays.asList(1, 2, 7, 4, 5), list);
+        assertEquals(2, addedAndRemoved[0]);
+        assertEquals(2, addedAndRemoved[1]);
+    }
+
+    @Test
+    public void setAllChanged_equalElementWithOtherBonus_elementReplaced() {
+        ObservableList<Person> list = FXCollections.observableArrayList(ALICE, BENSON);
+        // equal to ALICE, as the bonus is not compared
+        Person aliceWithBonus = new PersonBuilder(ALICE).withBonus("500").build();
+
+        setAllChanged(list, Arrays.asList(aliceWithBonus, BENSON));
+        assertSame(aliceWithBonus, list.get(0));
+        assertSame(BENSON, list.get(1));
+    }
+
+    @Test
+    public void setAllChanged_nothingShared_allReplaced() {
+        ObservableList<Integer> list = FXCollections.observableArrayList(1, 2, 3);
+        setAllChanged(list, Arrays.asList(4, 5));
+        assertEquals(Arrays.asList(4, 5), list);
+        setAllChanged(list, Collections.emptyList());
+        assertTrue(list.isEmpty());
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -0,0 +1,99 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class PersistentListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_elements_sameElementsInOrder() {
+        List<Integer> elements = Arrays.asList(5, 3, 8, 1, 9, 2);
+        assertEquals(elements, PersistentList.of(elements));
+        assertTrue(PersistentList.of(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.of(Arrays.asList(1, null));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Arrays.asList(1, 2)).get(2);
+    }
+
+    @Test
+    public void plusWithMinus_originalListUnchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+        assertEquals(Arrays.asList("a", "x", "b", "c"), original.plus(1, "x"));
+        assertEquals(Arrays.asList("a", "b", "c", "x"), original.plus(3, "x"));
+        assertEquals(Arrays.asList("a", "x", "c"), original.with(1, "x"));
+        assertEquals(Arrays.asList("a", "c"), original.minus(1));
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+    }
+
+    @Test
+    public void plusWithMinus_manyChanges_matchesArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void mirror_observableListChanged_followsList() {
+        ObservableList<Integer> source = FXCollections.observableArrayList(4, 2, 7);
+        PersistentListMirror<Integer> mirror = new PersistentListMirror<>(source);
+        PersistentList<Integer> initial = mirror.current();
+
+        source.add(1, 9);
+        source.set(0, 5);
+        source.remove(Integer.valueOf(7));
+        assertEquals(source, mirror.current());
+
+        source.removeAll(Arrays.asList(5, 2));
+        assertEquals(source, mirror.current());
+
+        source.setAll(3, 1, 2);
+        FXCollections.sort(source);
+        assertEquals(source, mirror.current());
+
+        // earlier copies are unaffected by later changes
+        assertEquals(Arrays.asList(4, 2, 7), initial);
+    }
+}
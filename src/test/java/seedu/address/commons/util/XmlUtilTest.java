@@ -1,10 +1,14 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -16,12 +20,14 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.person.Person;
 import seedu.address.storage.addressbook.XmlAdaptedPerson;
 import seedu.address.storage.addressbook.XmlAdaptedTag;
 import seedu.address.storage.addressbook.XmlSerializableAddressBook;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TestUtil;
+import seedu.address.testutil.TypicalPersons;
 
 public class XmlUtilTest {
 
@@ -147,6 +153,77 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void readElementsFromFile_missingFile_fileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlUtil.readElementsFromFile(MISSING_FILE, "addressbook", "persons", XmlAdaptedPerson.class, person -> { });
+    }
+
+    @Test
+    public void readElementsFromFile_emptyFile_dataFormatMismatchException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.readElementsFromFile(EMPTY_FILE, "addressbook", "persons", XmlAdaptedPerson.class, person -> { });
+    }
+
+    @Test
+    public void readElementsFromFile_wrongRootElement_dataFormatMismatchException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.readElementsFromFile(VALID_FILE, "schedulelist", "persons", XmlAdaptedPerson.class, person -> { });
+    }
+
+    @Test
+    public void readElementsFromFile_validFile_allElementsRead() throws Exception {
+        List<XmlAdaptedPerson> persons = new ArrayList<>();
+        XmlUtil.readElementsFromFile(VALID_FILE, "addressbook", "persons", XmlAdaptedPerson.class, persons::add);
+        assertEquals(9, persons.size());
+    }
+
+    @Test
+    public void saveElementsToFile_validFile_sameAsSaveDataToFile() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        List<Person> noPersons = Collections.emptyList();
+        for (List<Person> persons : Arrays.asList(noPersons, TypicalPersons.getTypicalPersons())) {
+            AddressBook addressBook = new AddressBook();
+            persons.forEach(addressBook::addPerson);
+            List<XmlAdaptedPerson> adaptedPersons = new ArrayList<>();
+            addressBook.getPersonList().forEach(person -> adaptedPersons.add(new XmlAdaptedPerson(person)));
+
+            // the file is laid out exactly as when the whole address book is saved at once
+            XmlUtil.saveDataToFile(TEMP_FILE, new XmlSerializableAddressBook(addressBook));
+            String savedAtOnce = FileUtil.readFromFile(TEMP_FILE);
+            XmlUtil.saveElementsToFile(TEMP_FILE, "addressbook", "persons", XmlAdaptedPerson.class,
+                    addressBook.getPersonList(), XmlAdaptedPerson::new);
+            assertEquals(savedAtOnce, FileUtil.readFromFile(TEMP_FILE));
+
+            List<XmlAdaptedPerson> personsFromFile = new ArrayList<>();
+            XmlUtil.readElementsFromFile(TEMP_FILE, "addressbook", "persons", XmlAdaptedPerson.class,
+                    personsFromFile::add);
+            assertEquals(adaptedPersons, personsFromFile);
+        }
+    }
+
+    @Test
+    public void saveElementsToFile_compressed_readAsUncompressed() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(TypicalPersons.ALICE).build();
+        XmlUtil.saveElementsToFile(TEMP_FILE, "addressbook", "persons", XmlAdaptedPerson.class,
+                addressBook.getPersonList(), XmlAdaptedPerson::new, true);
+        assertTrue(XmlUtil.isCompressedFile(TEMP_FILE));
+
+        List<XmlAdaptedPerson> personsFromFile = new ArrayList<>();
+        XmlUtil.readElementsFromFile(TEMP_FILE, "addressbook", "persons", XmlAdaptedPerson.class,
+                personsFromFile::add);
+        assertEquals(Collections.singletonList(new XmlAdaptedPerson(TypicalPersons.ALICE)), personsFromFile);
+        assertEquals(addressBook,
+                XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class).toModelType());
+    }
+
+    @Test
+    public void isCompressedFile_uncompressedFile_returnsFalse() throws Exception {
+        assertFalse(XmlUtil.isCompressedFile(VALID_FILE));
+        assertFalse(XmlUtil.isCompressedFile(EMPTY_FILE));
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedPerson}
      * objects.
@@ -8,28 +8,22 @@ import static seedu.address.testutil.TypicalRecruitments.RECRUITMENT_EXAMPLE;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.ModelTypes;
-import seedu.address.model.addressbook.ReadOnlyAddressBook;
 import seedu.address.model.expenses.Expenses;
-import seedu.address.model.expenses.ReadOnlyExpensesList;
 import seedu.address.model.person.Person;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
 import seedu.address.model.recruitment.RecruitmentList;
-import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.ModelStub;
 import seedu.address.testutil.recruitment.RecruitmentBuilder;
 
 public class AddRecruitmentPostCommandTest {
@@ -41,7 +35,6 @@ public class AddRecruitmentPostCommandTest {
 
     private CommandHistory commandHistory = new CommandHistory();
 
-
     @Test
     public void constructor_nullSchedule_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -128,346 +121,6 @@ public class AddRecruitmentPostCommandTest {
         assertFalse(addReCommand.equals(addReOneCommand));
     }
 
-    /**
-     * A default model stub that have all of the methods failing.
-     */
-    private class ModelStub implements Model {
-
-        @Override
-        public boolean canRedoModel() {
-            throw new AssertionError("This method should not be called."); }
-
-        @Override
-        public boolean canUndoModel() {
-            throw new AssertionError("This method should not be called."); }
-
-        @Override
-        public Set<ModelTypes> getNextCommitType() {
-            throw new AssertionError("This method should not be called."); }
-
-        @Override
-        public Set<ModelTypes> getLastCommitType() {
-            throw new AssertionError("This method should not be called."); }
-
-        @Override
-        public void addExpenses(Expenses expenses) {
-            throw new AssertionError("This method should not be called."); }
-
-        @Override
-        public void addPerson(Person person) {
-            throw new AssertionError("This method should not be called."); }
-
-        @Override
-        public void addRecruitment(Recruitment recruitment) {
-            throw new AssertionError("This method should not be called."); }
-
-        @Override
-        public void addSchedule(Schedule schedule) {
-            throw new AssertionError("This method should not be " + "called."); }
-
-
-        //------------------------------------------------
-        @Override
-        public void resetAddressBookData(ReadOnlyAddressBook newData) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void resetDataExpenses(ReadOnlyExpensesList newData) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void resetRecruitmentListData(ReadOnlyRecruitmentList newData) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void resetScheduleListData(ReadOnlyScheduleList newData) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        //------------------------------------------------
-        @Override
-        public ReadOnlyExpensesList getExpensesList() {
-            throw new AssertionError("This method should not be called."); }
-
-        @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            throw new AssertionError("This method should " + "not be called."); }
-
-        @Override
-        public ReadOnlyRecruitmentList getRecruitmentList() {
-            throw new AssertionError("This method "
-                    + "should not be called."); }
-
-        @Override
-        public ReadOnlyScheduleList getScheduleList() {
-            throw new AssertionError("This method should not be called."); }
-
-        //------------------------------------------------
-        @Override
-        public boolean hasExpenses(Expenses expenses) {
-            throw new AssertionError("This method should not be called."); }
-
-        @Override
-        public boolean hasPerson(Person person) {
-            throw new AssertionError("This method should "
-                    + "not be called.");
-        }
-        @Override
-        public boolean hasPerson(Person person, Predicate<Person> predicate) {
-            throw new AssertionError("This method should "
-                    + "not be called.");
-        }
-
-        @Override
-        public boolean hasEmployeeId(Person person) {
-            return true;
-        }
-
-        @Override
-        public boolean hasRecruitment(Recruitment recruitment) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasSchedule(Schedule schedule) {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        //------------------------------------------------
-        @Override
-        public void deleteExpenses(Expenses target) {
-            throw new AssertionError("This method should not be called."); }
-        @Override
-        public void deletePerson(Person target) {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        @Override
-        public void deleteRecruitmentPost(Recruitment recruitment) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteSchedule(Schedule target) {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-
-        //------------------------------------------------
-        @Override
-        public void updateExpenses(Expenses target, Expenses editedExpenses) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updatePerson(Person target, Person editedPerson) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateRecruitment(Recruitment target, Recruitment editedRecruitment) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateSchedule(Schedule target, Schedule editedSchedule) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-
-        //------------------------------------------------
-        @Override
-        public ObservableList<Expenses> getFilteredExpensesList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Person> getFilteredPersonList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Person> getFilteredPersonList(FilteredList<Person> dummyFilteredPersons) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Recruitment> getFilteredRecruitmentList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Schedule> getFilteredScheduleList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        //------------------------------------------------
-        @Override
-        public void updateFilteredExpensesList(Predicate<Expenses> predicate) {
-
-        }
-
-        @Override
-        public void updateFilteredPersonList(Predicate<Person> predicate) {
-
-        }
-
-        @Override
-        public void updateFilteredPersonList(Predicate<Person> predicate, String sortOrder) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredRecruitmentList(Predicate<Recruitment> predicate) {
-
-        }
-
-        @Override
-        public void updateFilteredScheduleList(Predicate<Schedule> predicate) {
-
-        }
-
-        //------------------------------------------------
-        @Override
-        public boolean canUndoAddressBook() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        @Override
-        public boolean canUndoExpensesList() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        @Override
-        public boolean canUndoRecruitmentList() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        @Override
-        public boolean canUndoScheduleList() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        //------------------------------------------------
-        @Override
-        public boolean canRedoAddressBook() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        @Override
-        public boolean canRedoExpensesList() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        @Override
-        public boolean canRedoRecruitmentList() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        @Override
-        public boolean canRedoScheduleList() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        //------------------------------------------------
-        @Override
-        public void undoAddressBook() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        @Override
-        public void undoExpensesList() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        @Override
-        public void undoRecruitmentList() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        @Override
-        public void undoScheduleList() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        @Override
-        public void undoModelList() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        //------------------------------------------------
-        @Override
-        public void redoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void redoExpensesList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void redoRecruitmentList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void redoScheduleList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void redoModelList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        //------------------------------------------------
-        @Override
-        public void commitAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void commitExpensesList() {
-            throw new AssertionError("This method should not be called."); }
-
-        @Override
-        public void commitRecruitmentPostList() {
-            throw new AssertionError(
-                    "This method should not be called.");
-        }
-
-        @Override
-        public void commitScheduleList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void commitMultipleLists(Set<ModelTypes> set) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-    }
-
     /**
      * A Model stub that contains a single recruitment.
      */
@@ -513,5 +166,25 @@ public class AddRecruitmentPostCommandTest {
         public ReadOnlyRecruitmentList getRecruitmentList() {
             return new RecruitmentList();
         }
+
+        @Override
+        public void updateFilteredExpensesList(Predicate<Expenses> predicate) {
+            // called by {@code execute()} to show the whole list
+        }
+
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate) {
+            // called by {@code execute()} to show the whole list
+        }
+
+        @Override
+        public void updateFilteredScheduleList(Predicate<Schedule> predicate) {
+            // called by {@code execute()} to show the whole list
+        }
+
+        @Override
+        public void updateFilteredRecruitmentList(Predicate<Recruitment> predicate) {
+            // called by {@code execute()} to show the whole list
+        }
     }
 }
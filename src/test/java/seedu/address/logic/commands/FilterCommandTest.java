@@ -89,7 +89,7 @@ public class FilterCommandTest {
         EmployeeIdExpensesContainsKeywordsPredicate expensesPredicate =
                 new EmployeeIdExpensesContainsKeywordsPredicate(Collections.singletonList("a"));
         FilterCommand command = new FilterCommand(departmentPredicate, positionPredicate, sortAscOrder);
-        expectedMessage += command.listAvailablePositions(expectedModel);
+        expectedMessage += "\nAvailable Positions: DIRECTOR (3), INTERN (3), MANAGER (1)";
         command.setIsPositionPrefixPresent(true);
         command.setIsDepartmentPrefixPresent(false);
         expectedModel.updateFilteredPersonList(positionPredicate, sortAscOrder);
@@ -113,7 +113,7 @@ public class FilterCommandTest {
         EmployeeIdExpensesContainsKeywordsPredicate expensesPredicate =
                 new EmployeeIdExpensesContainsKeywordsPredicate(Collections.singletonList("a"));
         FilterCommand command = new FilterCommand(departmentPredicate, positionPredicate, sortAscOrder);
-        expectedMessage += command.listAvailableDepartments(expectedModel);
+        expectedMessage += "\nAvailable Departments: FINANCE (2), HUMAN RESOURCE (3), IT (2)";
         command.setIsPositionPrefixPresent(false);
         command.setIsDepartmentPrefixPresent(true);
         expectedModel.updateFilteredPersonList(departmentPredicate, sortAscOrder);
@@ -137,8 +137,8 @@ public class FilterCommandTest {
         EmployeeIdExpensesContainsKeywordsPredicate expensesPredicate =
                 new EmployeeIdExpensesContainsKeywordsPredicate(Collections.singletonList("a"));
         FilterCommand command = new FilterCommand(departmentPredicate, positionPredicate, sortAscOrder);
-        expectedMessage += command.listAvailableDepartments(expectedModel)
-                + command.listAvailablePositions(expectedModel);
+        expectedMessage += "\nAvailable Departments: FINANCE (2), HUMAN RESOURCE (3), IT (2)"
+                + "\nAvailable Positions: DIRECTOR (3), INTERN (3), MANAGER (1)";
         command.setIsPositionPrefixPresent(true);
         command.setIsDepartmentPrefixPresent(true);
         expectedModel.updateFilteredPersonList(departmentPredicate.and(positionPredicate), sortAscOrder);
@@ -245,8 +245,8 @@ public class FilterCommandTest {
         command.setPositionPredicate(positionPredicateSet);
         command.setIsPositionPrefixPresent(true);
         command.setIsDepartmentPrefixPresent(true);
-        expectedMessage += command.listAvailableDepartments(expectedModel)
-                + command.listAvailablePositions(expectedModel);
+        expectedMessage += "\nAvailable Departments: FINANCE (2), HUMAN RESOURCE (3), IT (2)"
+                + "\nAvailable Positions: DIRECTOR (3), INTERN (3), MANAGER (1)";
         expectedModel.updateFilteredPersonList(departmentPredicateSet.and(positionPredicateSet), sortAscOrder);
         expectedModel.updateFilteredScheduleList(schedulePredicate);
         expectedModel.updateFilteredExpensesList(expensesPredicate);
@@ -0,0 +1,122 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.schedule.TypicalSchedules.FRIDAY_20_JUN_2025;
+import static seedu.address.testutil.schedule.TypicalSchedules.MONDAY_16_JUN_2025;
+import static seedu.address.testutil.schedule.TypicalSchedules.SATURDAY_21_JUN_2025;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.person.Person;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.Date;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Year;
+import seedu.address.testutil.schedule.ScheduleBuilder;
+
+public class LeaveReportCommandTest {
+
+    public static final Year YEAR_2025 = new Year("2025");
+    public static final Year YEAR_2026 = new Year("2026");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void constructor_nullYear_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new LeaveReportCommand(null);
+    }
+
+    @Test
+    public void execute_noEmployeeFound_throwsCommandException() throws Exception {
+        Model model = new ModelManager();
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(LeaveReportCommand.MESSAGE_NO_EMPLOYEE_FOUND);
+        new LeaveReportCommand(YEAR_2025).execute(model, commandHistory);
+    }
+
+    @Test
+    public void execute_leavesScheduledInYear_listsLeavesOfEveryEmployee() throws Exception {
+        //7 employees from typical address book, each employee scheduled with leave on Mon and Fri, work on Sat.
+        Model model = new ModelManager(getTypicalAddressBook(), new ExpensesList(),
+                new ScheduleList(), new RecruitmentList(), new UserPrefs());
+        Set<Date> leaveDates = new HashSet<>();
+        leaveDates.add(MONDAY_16_JUN_2025);
+        leaveDates.add(FRIDAY_20_JUN_2025);
+        Set<Date> workDates = new HashSet<>();
+        workDates.add(SATURDAY_21_JUN_2025);
+        new AddLeavesCommand(leaveDates).execute(model, commandHistory);
+        new AddWorksCommand(workDates).execute(model, commandHistory);
+        //Alice has one more leave in 2025, and one in another year
+        model.addSchedule(new ScheduleBuilder().withEmployeeId(ALICE.getEmployeeId().value)
+                .withType("LEAVE").withDate("18/06/2025").build());
+        model.addSchedule(new ScheduleBuilder().withEmployeeId(ALICE.getEmployeeId().value)
+                .withType("LEAVE").withDate("18/06/2026").build());
+
+        StringBuilder expectedReport = new StringBuilder();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            expectedReport.append(String.format(LeaveReportCommand.MESSAGE_EMPLOYEE_LEAVES, person.getEmployeeId(),
+                    person.getName(), person.isSamePerson(ALICE) ? 3 : 2));
+        }
+
+        CommandResult commandResult = new LeaveReportCommand(YEAR_2025).execute(model, commandHistory);
+        assertEquals(String.format(LeaveReportCommand.MESSAGE_SUCCESS, YEAR_2025, expectedReport),
+                commandResult.feedbackToUser);
+    }
+
+    @Test
+    public void execute_noLeavesScheduledInYear_listsZeroLeaves() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new ExpensesList(),
+                new ScheduleList(), new RecruitmentList(), new UserPrefs());
+
+        StringBuilder expectedReport = new StringBuilder();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            expectedReport.append(String.format(LeaveReportCommand.MESSAGE_EMPLOYEE_LEAVES, person.getEmployeeId(),
+                    person.getName(), 0));
+        }
+
+        CommandResult commandResult = new LeaveReportCommand(YEAR_2026).execute(model, commandHistory);
+        assertEquals(String.format(LeaveReportCommand.MESSAGE_SUCCESS, YEAR_2026, expectedReport),
+                commandResult.feedbackToUser);
+    }
+
+    @Test
+    public void equals() {
+        LeaveReportCommand report2025 = new LeaveReportCommand(YEAR_2025);
+
+        // same object -> returns true
+        assertTrue(report2025.equals(report2025));
+
+        // same values -> returns true
+        assertTrue(report2025.equals(new LeaveReportCommand(new Year("2025"))));
+
+        // different types -> returns false
+        assertFalse(report2025.equals(1));
+
+        // null -> returns false
+        assertFalse(report2025.equals(null));
+
+        // different year -> returns false
+        assertFalse(report2025.equals(new LeaveReportCommand(YEAR_2026)));
+    }
+}
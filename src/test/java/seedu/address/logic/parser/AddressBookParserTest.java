@@ -13,6 +13,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MINIMUM_EXPERIENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_YEAR;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_RECRUITMENT;
 import static seedu.address.testutil.recruitment.RecruitmentBuilder.DEFAULT_JOB_DESCRIPTION;
@@ -55,6 +56,7 @@ import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.LeaveReportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ModifyAllPayCommand;
 import seedu.address.logic.commands.ModifyPayCommand;
@@ -267,6 +269,16 @@ public class AddressBookParserTest {
         assertEquals(new CalculateLeavesCommand(new EmployeeId("000001"), new Year("2018")), command);
     }
 
+    @Test
+    public void parseCommand_leaveReport_equals() throws Exception {
+        LeaveReportCommand command = (LeaveReportCommand) parser.parseCommand(
+                LeaveReportCommand.COMMAND_WORD + " " + PREFIX_SCHEDULE_YEAR + "2018");
+        assertEquals(new LeaveReportCommand(new Year("2018")), command);
+        command = (LeaveReportCommand) parser.parseCommand(
+                LeaveReportCommand.COMMAND_ALIAS + " " + PREFIX_SCHEDULE_YEAR + "2018");
+        assertEquals(new LeaveReportCommand(new Year("2018")), command);
+    }
+
     @Test
     public void parseCommand_deleteSchedule_equals() throws Exception {
         DeleteScheduleCommand command = (DeleteScheduleCommand) parser.parseCommand(
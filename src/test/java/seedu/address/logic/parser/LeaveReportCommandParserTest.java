@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_OVERLOAD_PREFIX_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_SCHEDULE_YEAR_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_YEAR_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.YEAR_SCHEDULE_DESC_BOB;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.LeaveReportCommand;
+import seedu.address.model.schedule.Year;
+
+public class LeaveReportCommandParserTest {
+    private LeaveReportCommandParser parser = new LeaveReportCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        // whitespace only preamble
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + YEAR_SCHEDULE_DESC_BOB,
+                new LeaveReportCommand(new Year(VALID_YEAR_BOB)));
+    }
+
+    @Test
+    public void parse_multipleFields_failure() {
+        // multiple schedule years
+        assertParseFailure(parser, YEAR_SCHEDULE_DESC_BOB + YEAR_SCHEDULE_DESC_BOB,
+                String.format(MESSAGE_INVALID_COMMAND_OVERLOAD_PREFIX_FORMAT, LeaveReportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        // missing year prefix
+        assertParseFailure(parser, VALID_YEAR_BOB,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, LeaveReportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, INVALID_SCHEDULE_YEAR_DESC, Year.MESSAGE_YEAR_CONSTRAINTS);
+    }
+}
@@ -6,12 +6,20 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -22,6 +30,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -62,6 +71,23 @@ public class AddressBookTest {
         addressBook.resetData(newData);
     }
 
+    @Test
+    public void builder_uniquePersons_addedInOrder() {
+        AddressBook built = new AddressBook.Builder().addPerson(BENSON).addPerson(ALICE).build();
+        assertEquals(Arrays.asList(BENSON, ALICE), built.getPersonList());
+        assertTrue(built.hasPerson(ALICE));
+        assertEquals(Collections.singleton(BENSON), built.findPersonsByName("benson"));
+    }
+
+    @Test
+    public void builder_withDuplicatePersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        AddressBook.Builder builder = new AddressBook.Builder().addPerson(ALICE).addPerson(BENSON)
+                .addPerson(editedAlice);
+        thrown.expect(DuplicatePersonException.class);
+        builder.build();
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -87,6 +113,77 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void countPersonsBy_typicalAddressBook_countsPersonsOfEachValue() {
+        addressBook.resetData(getTypicalAddressBook());
+        Map<String, Integer> expectedDepartments = new TreeMap<>();
+        expectedDepartments.put("FINANCE", 2);
+        expectedDepartments.put("HUMAN RESOURCE", 3);
+        expectedDepartments.put("IT", 2);
+        assertEquals(expectedDepartments, addressBook.countPersonsBy(PersonAttribute.DEPARTMENT));
+
+        Map<String, Integer> expectedTags = new TreeMap<>();
+        expectedTags.put("FRIENDS", 3);
+        expectedTags.put("OWESMONEY", 1);
+        assertEquals(expectedTags, addressBook.countPersonsBy(PersonAttribute.TAG));
+    }
+
+    @Test
+    public void findPersonsBy_matchingValues_returnsPersonsHavingThem() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(new HashSet<>(Arrays.asList(DANIEL, GEORGE)),
+                addressBook.findPersonsBy(PersonAttribute.DEPARTMENT, "FINANCE"::equals));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, FIONA, GEORGE)),
+                addressBook.findPersonsBy(PersonAttribute.POSITION, position -> position.contains("DIRECT")));
+        assertTrue(addressBook.findPersonsBy(PersonAttribute.TAG, "HUSBAND"::equals).isEmpty());
+    }
+
+    @Test
+    public void countPersonsBy_personsUpdatedAndRemoved_countsKeptInSync() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(DANIEL);
+        Person editedAlice = new PersonBuilder(ALICE).withDepartment("Finance").build();
+        addressBook.updatePerson(ALICE, editedAlice);
+        assertEquals(Collections.singletonMap("FINANCE", 2), addressBook.countPersonsBy(PersonAttribute.DEPARTMENT));
+        assertEquals(new HashSet<>(Arrays.asList(editedAlice, DANIEL)),
+                addressBook.findPersonsBy(PersonAttribute.DEPARTMENT, "FINANCE"::equals));
+
+        addressBook.removePerson(DANIEL);
+        assertEquals(Collections.singletonMap("FINANCE", 1), addressBook.countPersonsBy(PersonAttribute.DEPARTMENT));
+        assertEquals(Collections.singletonMap("DIRECTOR", 1), addressBook.countPersonsBy(PersonAttribute.POSITION));
+    }
+
+    @Test
+    public void findPersonsByName_substringOfNames_returnsPersonsWithMatchingNames() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), addressBook.findPersonsByName("MEIER"));
+        assertEquals(Collections.singleton(ALICE), addressBook.findPersonsByName("ce pau"));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL, ELLE, GEORGE)),
+                addressBook.findPersonsByName("e"));
+        assertTrue(addressBook.findPersonsByName("meiers").isEmpty());
+    }
+
+    @Test
+    public void findPersonsByName_duplicateNames_returnsAllPersonsWithThatName() {
+        Person otherAlice = new PersonBuilder().withEmployeeId("000010").withName(ALICE.getName().fullName)
+                .withDateOfBirth("02/02/1980").withPhone("91234567").withEmail("otheralice@example.com").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(otherAlice);
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, otherAlice)), addressBook.findPersonsByName("alice"));
+
+        addressBook.removePerson(ALICE);
+        assertEquals(Collections.singleton(otherAlice), addressBook.findPersonsByName("alice"));
+    }
+
+    @Test
+    public void findPersonsByName_personRenamed_findsNewNameOnly() {
+        addressBook.addPerson(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        addressBook.updatePerson(ALICE, renamedAlice);
+        assertEquals(Collections.singleton(renamedAlice), addressBook.findPersonsByName("alicia"));
+        assertTrue(addressBook.findPersonsByName("pauline").isEmpty());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -1,35 +1,61 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.expenses.TypicalExpenses.ALICE_CLAIM;
 import static seedu.address.testutil.schedule.TypicalSchedules.ALICE_WORK;
 import static seedu.address.testutil.schedule.TypicalSchedules.BENSON_WORK;
 import static seedu.address.testutil.schedule.TypicalSchedules.CARL_WORK;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleArchive;
 import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Type;
+import seedu.address.model.schedule.Year;
+import seedu.address.storage.addressbook.BinaryAddressBookFileStorage;
+import seedu.address.storage.expenses.BinaryExpensesListFileStorage;
+import seedu.address.storage.recruitment.BinaryRecruitmentListFileStorage;
+import seedu.address.storage.schedule.BinaryScheduleListFileStorage;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.schedule.ScheduleBuilder;
 import seedu.address.testutil.schedule.ScheduleListBuilder;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -96,6 +122,253 @@ public class ModelManagerTest {
         modelManager.getFilteredScheduleList().remove(0);
     }
 
+    @Test
+    public void commit_undoHistoryLimitReached_oldestChangesMovedToFile() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(1);
+        modelManager = createModelManagerWithUndoHistoryDirectory(userPrefs);
+
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addSchedule(ALICE_WORK);
+        modelManager.commitScheduleList();
+        modelManager.addPerson(BENSON);
+        modelManager.addSchedule(BENSON_WORK);
+        modelManager.commitMultipleLists(new HashSet<>(Arrays.asList(ModelTypes.ADDRESS_BOOK,
+                ModelTypes.SCHEDULES_LIST)));
+        assertEquals(2, getUndoHistoryFileCount());
+
+        // every command can still be undone, the oldest ones being read back from the files
+        undoLastCommand();
+        undoLastCommand();
+        undoLastCommand();
+        assertFalse(modelManager.canUndoModel());
+        assertFalse(modelManager.canUndoAddressBook());
+        assertFalse(modelManager.canUndoScheduleList());
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+        assertTrue(modelManager.getScheduleList().getScheduleList().isEmpty());
+
+        modelManager.redoAddressBook();
+        modelManager.redoModelList();
+        modelManager.redoScheduleList();
+        modelManager.redoModelList();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertEquals(Collections.singletonList(ALICE_WORK), modelManager.getScheduleList().getScheduleList());
+
+        // committing after undoing discards the undone commits
+        modelManager.addPerson(CARL);
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canRedoModel());
+        undoLastCommand();
+        undoLastCommand();
+        undoLastCommand();
+        assertFalse(modelManager.canUndoModel());
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void commit_undoHistoryByteLimitReached_replacedListMovedToFile() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryByteLimit(0);
+        modelManager = createModelManagerWithUndoHistoryDirectory(userPrefs);
+
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.resetAddressBookData(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.commitAddressBook();
+        modelManager.resetAddressBookData(new AddressBook());
+        modelManager.commitAddressBook();
+        assertEquals(1, getUndoHistoryFileCount());
+
+        undoLastCommand();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        undoLastCommand();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getPersonList());
+        undoLastCommand();
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+        assertFalse(modelManager.canUndoModel());
+    }
+
+    @Test
+    public void canUndoModel_undoHistoryFileUnreadable_historyDiscarded() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(1);
+        modelManager = createModelManagerWithUndoHistoryDirectory(userPrefs);
+
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        try (Stream<Path> files = Files.list(temporaryFolder.getRoot().toPath())) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.write(file, new byte[0]);
+            }
+        }
+
+        undoLastCommand();
+        assertFalse(modelManager.canUndoModel());
+        assertFalse(modelManager.canUndoAddressBook());
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void commit_undoHistoryLimitReachedWithoutDirectory_changesKeptInMemory() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(1);
+        modelManager = new ModelManager(new AddressBook(), new ExpensesList(), new ScheduleList(),
+                new RecruitmentList(), userPrefs);
+
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+
+        undoLastCommand();
+        undoLastCommand();
+        assertFalse(modelManager.canUndoModel());
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void commitTransaction_changesMade_committedTogether() {
+        modelManager.inTransaction(() -> {
+            modelManager.addPerson(BENSON);
+            modelManager.addPerson(ALICE);
+            modelManager.addSchedule(ALICE_WORK);
+        });
+
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(Collections.singletonList(ALICE_WORK), modelManager.getFilteredScheduleList());
+        assertEquals(new HashSet<>(Arrays.asList(ModelTypes.ADDRESS_BOOK, ModelTypes.SCHEDULES_LIST)),
+                modelManager.getLastCommitType());
+
+        // a transaction without changes is not committed
+        modelManager.inTransaction(() -> { });
+        modelManager.undoAddressBook();
+        modelManager.undoScheduleList();
+        modelManager.undoModelList();
+        assertFalse(modelManager.canUndoModel());
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void inTransaction_changesThrow_rolledBack() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+
+        try {
+            modelManager.inTransaction(() -> {
+                modelManager.addPerson(BENSON);
+                modelManager.addSchedule(BENSON_WORK);
+                modelManager.deletePerson(CARL);
+            });
+        } catch (RuntimeException e) {
+            assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getPersonList());
+            assertTrue(modelManager.getScheduleList().getScheduleList().isEmpty());
+            assertEquals(Collections.singleton(ModelTypes.ADDRESS_BOOK), modelManager.getLastCommitType());
+            assertFalse(modelManager.canUndoScheduleList());
+            return;
+        }
+        throw new AssertionError("Deleting a missing person should throw.");
+    }
+
+    @Test
+    public void inTransaction_changesThrowAfterUncommittedChanges_onlyTransactionRolledBack() {
+        modelManager.addPerson(ALICE);
+
+        try {
+            modelManager.inTransaction(() -> {
+                modelManager.addPerson(BENSON);
+                modelManager.deletePerson(CARL);
+            });
+        } catch (RuntimeException e) {
+            // the change made before the transaction is kept, and committed with the next commit
+            assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getPersonList());
+            modelManager.commitAddressBook();
+            modelManager.undoAddressBook();
+            modelManager.undoModelList();
+            assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+            return;
+        }
+        throw new AssertionError("Deleting a missing person should throw.");
+    }
+
+    @Test
+    public void loadInitialLists_listsRead_replacedWithoutHistory() {
+        ExpensesList expensesList = new ExpensesList();
+        expensesList.addExpenses(ALICE_CLAIM);
+        ScheduleList scheduleList = new ScheduleListBuilder().withSchedule(ALICE_WORK).build();
+        RecruitmentList recruitmentList = new RecruitmentList();
+
+        modelManager.loadInitialLists(expensesList, scheduleList, recruitmentList);
+        assertEquals(Collections.singletonList(ALICE_CLAIM), modelManager.getFilteredExpensesList());
+        assertEquals(Collections.singletonList(ALICE_WORK), modelManager.getFilteredScheduleList());
+        assertFalse(modelManager.canUndoScheduleList());
+
+        // loading is not a change that is rolled back
+        modelManager.addSchedule(BENSON_WORK);
+        modelManager.commitScheduleList();
+        modelManager.undoScheduleList();
+        assertEquals(Collections.singletonList(ALICE_WORK), modelManager.getFilteredScheduleList());
+    }
+
+    @Test
+    public void countSchedules_archivedYear_readWithoutHistory() {
+        Schedule pastLeave = new ScheduleBuilder(ALICE_WORK).withType("LEAVE").withDate("01/03/2019").build();
+        List<Year> yearsRead = new ArrayList<>();
+        modelManager.setScheduleArchive(isNeeded -> {
+            Year year = new Year("2019");
+            if (yearsRead.contains(year) || !isNeeded.test(year)) {
+                return Collections.emptyList();
+            }
+            yearsRead.add(year);
+            return Collections.singletonList(pastLeave);
+        });
+
+        assertEquals(0, modelManager.countSchedules(ALICE.getEmployeeId(), new Year("2020"), new Type("LEAVE")));
+        assertTrue(yearsRead.isEmpty());
+        assertEquals(1, modelManager.countSchedules(ALICE.getEmployeeId(), new Year("2019"), new Type("LEAVE")));
+        assertEquals(Collections.singletonList(pastLeave), modelManager.getFilteredScheduleList());
+        assertFalse(modelManager.canUndoScheduleList());
+    }
+
+    @Test
+    public void deleteSchedules_archiveKnowsEmployeeYears_onlyThoseYearsReadAndLaterReadsKeptOnUndo() {
+        Schedule alicePastWork = new ScheduleBuilder(ALICE_WORK).withDate("01/03/2019").build();
+        Schedule bensonPastWork = new ScheduleBuilder(BENSON_WORK).withDate("01/03/2018").build();
+        List<Year> yearsRead = new ArrayList<>();
+        modelManager.setScheduleArchive(new ScheduleArchive() {
+            @Override
+            public List<Schedule> read(Predicate<Year> isNeeded) {
+                List<Schedule> schedules = new ArrayList<>();
+                for (Schedule schedule : Arrays.asList(alicePastWork, bensonPastWork)) {
+                    Year year = new Year(schedule.getScheduleYear());
+                    if (!yearsRead.contains(year) && isNeeded.test(year)) {
+                        yearsRead.add(year);
+                        schedules.add(schedule);
+                    }
+                }
+                return schedules;
+            }
+
+            @Override
+            public Predicate<Year> findYearsOf(EmployeeId employeeId) {
+                String year = employeeId.equals(ALICE_WORK.getEmployeeId()) ? "2019" : "2018";
+                return new Year(year)::equals;
+            }
+        });
+
+        assertTrue(modelManager.deleteSchedules(ALICE_WORK.getEmployeeId()));
+        modelManager.commitScheduleList();
+        assertEquals(Collections.singletonList(new Year("2019")), yearsRead);
+        assertEquals(Collections.emptyList(), modelManager.getFilteredScheduleList());
+
+        // the year read after the deletion is still in the list once the deletion is undone
+        assertTrue(modelManager.hasSchedules(BENSON_WORK.getEmployeeId()));
+        modelManager.undoScheduleList();
+        assertEquals(Arrays.asList(alicePastWork, bensonPastWork), modelManager.getFilteredScheduleList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -157,4 +430,47 @@ public class ModelManagerTest {
         assertTrue(modelManager.equals(new ModelManager(addressBook, expensesList, scheduleList,
                 recruitmentList, differentUserPrefs)));
     }
+
+    private ModelManager createModelManagerWithUndoHistoryDirectory(UserPrefs userPrefs) {
+        ModelManager model = new ModelManager(new AddressBook(), new ExpensesList(), new ScheduleList(),
+                new RecruitmentList(), userPrefs);
+        model.setUndoHistoryDirectory(temporaryFolder.getRoot().toPath(), BinaryAddressBookFileStorage.getRecordCodec(),
+                BinaryExpensesListFileStorage.getRecordCodec(), BinaryScheduleListFileStorage.getRecordCodec(),
+                BinaryRecruitmentListFileStorage.getRecordCodec());
+        return model;
+    }
+
+    private long getUndoHistoryFileCount() throws IOException {
+        try (Stream<Path> files = Files.list(temporaryFolder.getRoot().toPath())) {
+            return files.count();
+        }
+    }
+
+    /**
+     * Undoes the last command in each list it changed, as {@code UndoCommand} does.
+     */
+    private void undoLastCommand() {
+        if (!modelManager.canUndoModel()) {
+            return;
+        }
+        for (ModelTypes myModel : modelManager.getLastCommitType()) {
+            switch(myModel) {
+            case SCHEDULES_LIST:
+                modelManager.undoScheduleList();
+                break;
+            case EXPENSES_LIST:
+                modelManager.undoExpensesList();
+                break;
+            case RECRUITMENT_LIST:
+                modelManager.undoRecruitmentList();
+                break;
+            case ADDRESS_BOOK:
+                modelManager.undoAddressBook();
+                break;
+            default:
+                break;
+            }
+        }
+        modelManager.undoModelList();
+    }
 }
@@ -0,0 +1,120 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the time taken to find the persons whose name contains a keyword in a large address book, using the
+ * trigram name index of {@code AddressBook} and using a linear scan of every name, as {@code FindCommand} did before
+ * the index. The scan measured is only the first of the passes the command made, so it is the fastest it could be.
+ * It is not run with the tests, as it takes a while. Run its {@code main} method, optionally with the number of
+ * persons to generate.
+ */
+public class NameSearchBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100_000;
+    private static final int RUN_COUNT = 5;
+    private static final int SEARCHES_PER_RUN = 20;
+    private static final long SEED = 42;
+    private static final List<String> FIRST_NAMES = Arrays.asList("Alex", "Bernice", "Charlotte", "David", "Irfan",
+            "Roy", "Wei Ling", "Hui Min", "Kumar", "Siti", "Jonathan", "Priya", "Marcus", "Nur", "Zhi Hao");
+    private static final List<String> LAST_NAMES = Arrays.asList("Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim",
+            "Balakrishnan", "Tan", "Lim", "Ng", "Rahman", "Kaur", "Wong", "Goh", "Chua", "Fernandez");
+    private static final String SYLLABLES = "bcdfghjklmnprstvwz";
+    private static final String VOWELS = "aeiou";
+
+    public static void main(String[] args) {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        List<Person> persons = createPersons(personCount);
+
+        long start = System.nanoTime();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        System.out.printf("Indexed %,d names in %,d ms%n", personCount, (System.nanoTime() - start) / 1_000_000);
+
+        // find only searches names for keywords that are valid names, of three letters or more
+        List<String> keywords = Arrays.asList("tan", "yeoh", "wei ling", "zok", persons.get(personCount / 2)
+                .getName().fullName.toLowerCase(), "xyz");
+        System.out.println("Searching " + SEARCHES_PER_RUN + " times, best of " + RUN_COUNT + " runs");
+        for (String keyword : keywords) {
+            long indexMicros = measure(() -> addressBook.findPersonsByName(keyword));
+            long scanMicros = measure(() -> scan(addressBook.getPersonList(), keyword));
+            int matchCount = addressBook.findPersonsByName(keyword).size();
+            if (matchCount != scan(addressBook.getPersonList(), keyword).size()) {
+                throw new AssertionError("The index and the scan found different persons for " + keyword);
+            }
+            System.out.printf("%-30s  matches %,7d  index %,9d us  scan %,9d us%n",
+                    "\"" + keyword + "\"", matchCount, indexMicros, scanMicros);
+        }
+    }
+
+    /**
+     * Creates {@code count} persons with distinct names made of a first name, a random middle name and a last name.
+     */
+    private static List<Person> createPersons(int count) {
+        Random random = new Random(SEED);
+        Set<String> names = new HashSet<>();
+        List<Person> persons = new ArrayList<>();
+        while (persons.size() < count) {
+            String name = FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size())) + " " + createMiddleName(random)
+                    + " " + LAST_NAMES.get(random.nextInt(LAST_NAMES.size()));
+            if (!names.add(name)) {
+                continue;
+            }
+            persons.add(new PersonBuilder()
+                    .withEmployeeId(String.format("%06d", persons.size()))
+                    .withName(name)
+                    .withPhone(String.valueOf(80_000_000 + persons.size()))
+                    .withEmail("person" + persons.size() + "@example.com")
+                    .build());
+        }
+        return persons;
+    }
+
+    private static String createMiddleName(Random random) {
+        StringBuilder middleName = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            middleName.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())))
+                    .append(VOWELS.charAt(random.nextInt(VOWELS.length())));
+        }
+        middleName.setCharAt(0, Character.toUpperCase(middleName.charAt(0)));
+        return middleName.toString();
+    }
+
+    /**
+     * Returns the persons whose name contains {@code keyword}, checking every person.
+     */
+    private static Set<Person> scan(List<Person> persons, String keyword) {
+        Set<Person> matches = new HashSet<>();
+        for (Person person : persons) {
+            if (person.getName().fullName.toLowerCase().contains(keyword)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Runs {@code search} {@code SEARCHES_PER_RUN} times in each of {@code RUN_COUNT} runs, and returns the shortest
+     * average time taken by a search in a run.
+     */
+    private static long measure(Runnable search) {
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < RUN_COUNT; i++) {
+            long start = System.nanoTime();
+            for (int j = 0; j < SEARCHES_PER_RUN; j++) {
+                search.run();
+            }
+            bestNanos = Math.min(bestNanos, (System.nanoTime() - start) / SEARCHES_PER_RUN);
+        }
+        return bestNanos / 1000;
+    }
+}
@@ -210,6 +210,35 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undo_personRemoved_personRestoredAtSamePosition() {
+        ReadOnlyAddressBook addressBookWithAmyBobCarl = new AddressBookBuilder().withPerson(AMY).withPerson(BOB)
+                .withPerson(CARL).build();
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmyBobCarl);
+
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmyBobCarl, new AddressBook(versionedAddressBook));
+
+        versionedAddressBook.redo();
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(CARL).build(),
+                new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_changesAndLastCommitReverted() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.updatePerson(AMY, CARL);
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
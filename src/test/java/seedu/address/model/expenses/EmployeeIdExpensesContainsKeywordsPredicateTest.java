@@ -31,6 +31,11 @@ public class EmployeeIdExpensesContainsKeywordsPredicateTest {
                 new EmployeeIdExpensesContainsKeywordsPredicate(firstPredicateKeywordsList);
         assertTrue(firstPredicateList.equals(firstPredicateListCopy));
 
+        // same values in a different order -> returns true
+        EmployeeIdExpensesContainsKeywordsPredicate secondPredicateListReordered =
+                new EmployeeIdExpensesContainsKeywordsPredicate(Arrays.asList("000002", "000001", "000002"));
+        assertTrue(secondPredicateList.equals(secondPredicateListReordered));
+
         // different types -> returns false
         assertFalse(firstPredicateList.equals(1));
 
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -61,6 +62,40 @@ public class UniqueExpensesListTest {
         assertFalse(uniqueExpensesList.contains(editedAlice));
     }
 
+    @Test
+    public void find_nullEmployeeId_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueExpensesList.find(null);
+    }
+
+    @Test
+    public void find_expensesNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniqueExpensesList.find(ALICE_CLAIM.getEmployeeId()));
+    }
+
+    @Test
+    public void find_expensesInList_returnsExpenses() {
+        uniqueExpensesList.add(ALICE_CLAIM);
+        uniqueExpensesList.add(BENSON_CLAIM);
+        assertEquals(Optional.of(BENSON_CLAIM), uniqueExpensesList.find(BENSON_CLAIM.getEmployeeId()));
+    }
+
+    @Test
+    public void find_editedExpenses_returnsEditedExpenses() {
+        uniqueExpensesList.add(ALICE_CLAIM);
+        Expenses editedAlice = new ExpensesBuilder(ALICE_CLAIM).withTravelExpenses(VALID_TRAVELEXPENSES_AMY).build();
+        uniqueExpensesList.setExpenses(ALICE_CLAIM, editedAlice);
+        assertEquals(editedAlice.getTravelExpenses(),
+                uniqueExpensesList.find(ALICE_CLAIM.getEmployeeId()).get().getTravelExpenses());
+    }
+
+    @Test
+    public void find_removedExpenses_returnsEmpty() {
+        uniqueExpensesList.add(ALICE_CLAIM);
+        uniqueExpensesList.remove(ALICE_CLAIM);
+        assertEquals(Optional.empty(), uniqueExpensesList.find(ALICE_CLAIM.getEmployeeId()));
+    }
+
     @Test
     public void add_nullExpenses_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
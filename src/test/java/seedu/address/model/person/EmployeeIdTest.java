@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -51,5 +52,15 @@ public class EmployeeIdTest {
         EmployeeId expectedHashCode = new EmployeeId("999999");
         assertNotEquals("888888".hashCode(), expectedHashCode.hashCode());
     }
-}
 
+    @Test
+    public void of_equalEmployeeIds_returnsSameInstance() {
+        assertSame(EmployeeId.of("123456"), EmployeeId.of(new String("123456")));
+        assertEquals(new EmployeeId("123456"), EmployeeId.of("123456"));
+    }
+
+    @Test
+    public void of_invalidEmployeeId_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> EmployeeId.of("12345"));
+    }
+}
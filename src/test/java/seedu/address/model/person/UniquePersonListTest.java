@@ -5,19 +5,27 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMPLOYEEID_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.NoSuchElementException;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.Assert;
@@ -54,6 +62,67 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameEmailDifferentCaseInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithUpperCaseEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value.toUpperCase())
+                .build();
+        assertTrue(uniquePersonList.contains(aliceWithUpperCaseEmail));
+    }
+
+    @Test
+    public void contains_personWithSameEmailDifferentCaseInTurkishLocale_returnsTrue() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // lower casing "I" in Turkish gives a dotless i, which must not make the emails differ
+            Locale.setDefault(new Locale("tr", "TR"));
+            uniquePersonList.add(ALICE);
+            Person aliceWithUpperCaseEmail = new PersonBuilder(BOB)
+                    .withEmail(ALICE.getEmail().value.toUpperCase(Locale.ROOT)).build();
+            assertTrue(uniquePersonList.contains(aliceWithUpperCaseEmail));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void contains_personWithSamePhoneInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertTrue(uniquePersonList.contains(bobWithAlicePhone));
+    }
+
+    @Test
+    public void contains_personWithSameNameAndDateOfBirthInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithOtherContacts = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB)
+                .build();
+        assertTrue(uniquePersonList.contains(aliceWithOtherContacts));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void containsEmployeeId_personWithSameEmployeeIdInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceEmployeeId = new PersonBuilder(BOB).withEmployeeId(ALICE.getEmployeeId().value).build();
+        assertTrue(uniquePersonList.containsEmployeeId(bobWithAliceEmployeeId.getEmployeeId()));
+    }
+
+    @Test
+    public void containsEmployeeId_editedEmployeeId_returnsFalseForOldEmployeeId() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withEmployeeId(VALID_EMPLOYEEID_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertFalse(uniquePersonList.containsEmployeeId(ALICE.getEmployeeId()));
+        assertTrue(uniquePersonList.containsEmployeeId(editedAlice.getEmployeeId()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -122,6 +191,15 @@ public class UniquePersonListTest {
         uniquePersonList.setPerson(ALICE, BOB);
     }
 
+    @Test
+    public void setPerson_editedPersonHasSameIdentityAsTargetAndAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPerson(ALICE, aliceWithBobPhone);
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -142,6 +220,15 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_returnsPositionRemovedFrom() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        assertEquals(1, uniquePersonList.remove(BENSON));
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -180,6 +267,14 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePhones_throwsDuplicatePersonException() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, bobWithAlicePhone);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPersons(listWithDuplicatePersons);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -209,6 +304,35 @@ public class UniquePersonListTest {
         Assert.assertThrows(NoSuchElementException.class, () -> uniquePersonList.iterator().next());
     }
 
+    @Test
+    public void add_afterSortByName_keepsListSorted() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sortByName(FilterCommand.ASCENDING);
+        uniquePersonList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.sortByName(FilterCommand.DESCENDING);
+        uniquePersonList.add(DANIEL);
+        assertEquals(Arrays.asList(DANIEL, CARL, BENSON, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_renamedAfterSortByName_movesToSortedPosition() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.sortByName(FilterCommand.ASCENDING);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, renamedAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_afterSortByName_sortsReplacement() {
+        uniquePersonList.sortByName(FilterCommand.ASCENDING);
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE, BENSON));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void sort_noSuchSortOrder_throwsAssertionError() {
         Assert.assertThrows(AssertionError.class, () -> uniquePersonList.sortByName("ascdsc"));
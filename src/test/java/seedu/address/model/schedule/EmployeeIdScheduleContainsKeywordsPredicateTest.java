@@ -31,6 +31,11 @@ public class EmployeeIdScheduleContainsKeywordsPredicateTest {
                 new EmployeeIdScheduleContainsKeywordsPredicate(firstPredicateKeywordsList);
         assertTrue(firstPredicateList.equals(firstPredicateListCopy));
 
+        // same values in a different order -> returns true
+        EmployeeIdScheduleContainsKeywordsPredicate secondPredicateListReordered =
+                new EmployeeIdScheduleContainsKeywordsPredicate(Arrays.asList("000002", "000001", "000002"));
+        assertTrue(secondPredicateList.equals(secondPredicateListReordered));
+
         // different types -> returns false
         assertFalse(firstPredicateList.equals(1));
 
@@ -58,6 +58,21 @@ public class ScheduleListTest {
         scheduleList.resetData(newData);
     }
 
+    @Test
+    public void builder_uniqueSchedules_addedInOrder() {
+        ScheduleList built = new ScheduleList.Builder().addSchedule(BENSON_WORK).addSchedule(ALICE_WORK).build();
+        assertEquals(Arrays.asList(BENSON_WORK, ALICE_WORK), built.getScheduleList());
+        assertTrue(built.hasSchedule(ALICE_WORK));
+    }
+
+    @Test
+    public void builder_withDuplicateSchedules_throwsDuplicateScheduleException() {
+        ScheduleList.Builder builder = new ScheduleList.Builder().addSchedule(ALICE_WORK).addSchedule(BENSON_WORK)
+                .addSchedule(new ScheduleBuilder(ALICE_WORK).build());
+        thrown.expect(DuplicateScheduleException.class);
+        builder.build();
+    }
+
     @Test
     public void hasSchedule_nullSchedule_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
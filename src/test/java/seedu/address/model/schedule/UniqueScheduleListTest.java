@@ -13,13 +13,16 @@ import static seedu.address.testutil.schedule.TypicalSchedules.DANIEL_LEAVE;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
 import seedu.address.testutil.Assert;
@@ -30,6 +33,10 @@ public class UniqueScheduleListTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    private static final Year YEAR_2099 = new Year("2099");
+    private static final Type LEAVE = new Type(Type.LEAVE);
+    private static final Type WORK = new Type(Type.WORK);
+
     private final UniqueScheduleList uniqueScheduleList = new UniqueScheduleList();
 
     @Test
@@ -57,6 +64,30 @@ public class UniqueScheduleListTest {
         assertFalse(uniqueScheduleList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_sameDateAndTypeForAnotherEmployee_returnsFalse() {
+        uniqueScheduleList.add(ALICE_WORK);
+        Schedule bensonOnAliceWorkDay = new ScheduleBuilder(ALICE_WORK)
+                .withEmployeeId(BENSON_WORK.getEmployeeId().value).build();
+        assertFalse(uniqueScheduleList.contains(bensonOnAliceWorkDay));
+    }
+
+    @Test
+    public void contains_editedSchedule_returnsFalseForTarget() {
+        uniqueScheduleList.add(ALICE_WORK);
+        Schedule editedAlice = new ScheduleBuilder(ALICE_WORK).withType(VALID_TYPE_CARL).build();
+        uniqueScheduleList.setSchedule(ALICE_WORK, editedAlice);
+        assertFalse(uniqueScheduleList.contains(ALICE_WORK));
+        assertTrue(uniqueScheduleList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_removedSchedule_returnsFalse() {
+        uniqueScheduleList.add(ALICE_WORK);
+        uniqueScheduleList.remove(ALICE_WORK);
+        assertFalse(uniqueScheduleList.contains(ALICE_WORK));
+    }
+
     @Test
     public void add_nullSchedule_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -160,6 +191,92 @@ public class UniqueScheduleListTest {
         assertEquals(expectedUniqueScheduleList, uniqueScheduleList);
     }
 
+    @Test
+    public void find_nullEmployeeId_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueScheduleList.find(null);
+    }
+
+    @Test
+    public void find_employeeWithoutSchedules_returnsEmptyList() {
+        uniqueScheduleList.add(ALICE_WORK);
+        assertTrue(uniqueScheduleList.find(BENSON_WORK.getEmployeeId()).isEmpty());
+    }
+
+    @Test
+    public void find_employeeWithSchedules_returnsOnlyTheirSchedules() {
+        Schedule aliceLeave = new ScheduleBuilder(ALICE_WORK).withType(VALID_TYPE_CARL).build();
+        uniqueScheduleList.add(ALICE_WORK);
+        uniqueScheduleList.add(BENSON_WORK);
+        uniqueScheduleList.add(aliceLeave);
+        List<Schedule> aliceSchedules = uniqueScheduleList.find(ALICE_WORK.getEmployeeId());
+        assertEquals(2, aliceSchedules.size());
+        assertTrue(aliceSchedules.containsAll(Arrays.asList(ALICE_WORK, aliceLeave)));
+    }
+
+    @Test
+    public void removeAll_employeeWithoutSchedules_returnsFalse() {
+        uniqueScheduleList.add(ALICE_WORK);
+        assertFalse(uniqueScheduleList.removeAll(BENSON_WORK.getEmployeeId()));
+        assertEquals(Collections.singletonList(ALICE_WORK), uniqueScheduleList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_employeeWithSchedules_removesOnlyTheirSchedules() {
+        Schedule aliceLeave = new ScheduleBuilder(ALICE_WORK).withType(VALID_TYPE_CARL).build();
+        uniqueScheduleList.add(ALICE_WORK);
+        uniqueScheduleList.add(BENSON_WORK);
+        uniqueScheduleList.add(aliceLeave);
+        assertTrue(uniqueScheduleList.removeAll(ALICE_WORK.getEmployeeId()));
+        assertEquals(Collections.singletonList(BENSON_WORK), uniqueScheduleList.asUnmodifiableObservableList());
+        assertFalse(uniqueScheduleList.contains(ALICE_WORK));
+        assertTrue(uniqueScheduleList.find(ALICE_WORK.getEmployeeId()).isEmpty());
+    }
+
+    @Test
+    public void removeAll_schedulesBetweenOthers_orderOfOthersKept() {
+        Schedule aliceLeave = new ScheduleBuilder(ALICE_WORK).withType(VALID_TYPE_CARL).build();
+        uniqueScheduleList.setSchedules(Arrays.asList(ALICE_WORK, BENSON_WORK, aliceLeave, CARL_WORK, DANIEL_LEAVE));
+        assertTrue(uniqueScheduleList.removeAll(ALICE_WORK.getEmployeeId()));
+        assertEquals(Arrays.asList(BENSON_WORK, CARL_WORK, DANIEL_LEAVE),
+                uniqueScheduleList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void count_schedulesAddedEditedAndRemoved_countsKeptInSync() {
+        Schedule aliceLeave = new ScheduleBuilder(ALICE_WORK).withType(VALID_TYPE_CARL).build();
+        Schedule aliceLeaveNextDay = new ScheduleBuilder(aliceLeave).withDate("02/01/2099").build();
+        uniqueScheduleList.add(ALICE_WORK);
+        uniqueScheduleList.add(aliceLeave);
+        uniqueScheduleList.add(aliceLeaveNextDay);
+        assertEquals(2, uniqueScheduleList.count(ALICE_WORK.getEmployeeId(), YEAR_2099, LEAVE));
+        assertEquals(1, uniqueScheduleList.count(ALICE_WORK.getEmployeeId(), YEAR_2099, WORK));
+        assertEquals(0, uniqueScheduleList.count(ALICE_WORK.getEmployeeId(), new Year("2050"), LEAVE));
+
+        uniqueScheduleList.setSchedule(ALICE_WORK, new ScheduleBuilder(ALICE_WORK).withDate("01/01/2050").build());
+        assertEquals(0, uniqueScheduleList.count(ALICE_WORK.getEmployeeId(), YEAR_2099, WORK));
+        assertEquals(1, uniqueScheduleList.count(ALICE_WORK.getEmployeeId(), new Year("2050"), WORK));
+
+        uniqueScheduleList.remove(aliceLeave);
+        assertEquals(1, uniqueScheduleList.count(ALICE_WORK.getEmployeeId(), YEAR_2099, LEAVE));
+
+        uniqueScheduleList.removeAll(ALICE_WORK.getEmployeeId());
+        assertEquals(0, uniqueScheduleList.count(ALICE_WORK.getEmployeeId(), YEAR_2099, LEAVE));
+        assertFalse(uniqueScheduleList.containsEmployeeId(ALICE_WORK.getEmployeeId()));
+    }
+
+    @Test
+    public void count_allEmployees_returnsCountsOfEmployeesWithSchedules() {
+        Schedule aliceLeave = new ScheduleBuilder(ALICE_WORK).withType(VALID_TYPE_CARL).build();
+        uniqueScheduleList.setSchedules(Arrays.asList(ALICE_WORK, aliceLeave, BENSON_WORK, CARL_WORK));
+        Map<EmployeeId, Integer> expected = new HashMap<>();
+        expected.put(ALICE_WORK.getEmployeeId(), 1);
+        expected.put(CARL_WORK.getEmployeeId(), 1);
+        assertEquals(expected, uniqueScheduleList.count(YEAR_2099, WORK));
+        assertEquals(Collections.singletonMap(ALICE_WORK.getEmployeeId(), 1),
+                uniqueScheduleList.count(YEAR_2099, LEAVE));
+    }
+
     @Test
     public void setSchedules_nullList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class BackgroundSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<String> saved = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void submit_severalTimesBeforeSaving_onlyLatestSaved() throws IOException {
+        BackgroundSaver<String> saver = new BackgroundSaver<>("test-saver", saved::add, failures::add,
+                LONG_DELAY_MILLIS);
+        saver.submit("first");
+        saver.submit("second");
+        saver.submit("third");
+        saver.flush();
+
+        assertEquals(Collections.singletonList("third"), saved);
+        assertTrue(failures.isEmpty());
+
+        // nothing is left to save
+        saver.flush();
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    public void submit_noDelay_savedWithoutFlush() throws InterruptedException {
+        BackgroundSaver<String> saver = new BackgroundSaver<>("test-saver", saved::add, failures::add, 0);
+        saver.submit("data");
+        for (int i = 0; i < 100 && saved.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(Collections.singletonList("data"), saved);
+    }
+
+    @Test
+    public void submit_saveFails_failureReported() throws InterruptedException {
+        IOException exception = new IOException("dummy");
+        BackgroundSaver<String> saver = new BackgroundSaver<>("test-saver", data -> {
+            throw exception;
+        }, failures::add, 0);
+        saver.submit("data");
+        for (int i = 0; i < 100 && failures.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(Collections.singletonList(exception), failures);
+    }
+
+    @Test
+    public void flush_saveFails_throwsIOException() throws IOException {
+        IOException exception = new IOException("dummy");
+        BackgroundSaver<String> saver = new BackgroundSaver<>("test-saver", data -> {
+            throw exception;
+        }, failures::add, LONG_DELAY_MILLIS);
+        saver.submit("data");
+
+        try {
+            saver.flush();
+        } catch (IOException e) {
+            assertEquals(exception, e);
+            assertTrue(failures.isEmpty());
+            return;
+        }
+        throw new AssertionError("The failed save should be thrown.");
+    }
+
+    @Test
+    public void close_dataWaiting_savedAndStopped() throws IOException {
+        BackgroundSaver<String> saver = new BackgroundSaver<>("test-saver", saved::add, failures::add,
+                LONG_DELAY_MILLIS);
+        saver.submit("data");
+        saver.close();
+
+        assertEquals(Collections.singletonList("data"), saved);
+        thrown.expect(RejectedExecutionException.class);
+        saver.submit("more data");
+    }
+}
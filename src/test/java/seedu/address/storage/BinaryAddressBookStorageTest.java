@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.storage.addressbook.BinaryAddressBookStorage;
+import seedu.address.storage.addressbook.JournalAddressBookStorage;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(getTempFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonRecord_throwDataConversionException() throws Exception {
+        Path filePath = getTempFilePath();
+        Files.createFile(filePath);
+        BinaryUtil.saveRecordsToFile(filePath, Collections.singletonList(new String[] {"000001", "Alice"}),
+                record -> record);
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        //Save in new file and read back
+        storage.saveAddressBook(original);
+        assertTrue(BinaryUtil.isBinaryFile(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        //Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_otherFormat_convertedOnSave() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+
+        //Import from xml, and save in binary
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertTrue(BinaryUtil.isBinaryFile(filePath));
+
+        //Export back to xml
+        JournalAddressBookStorage xmlStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(xmlStorage.readAddressBook().get()));
+        xmlStorage.saveAddressBook(original);
+        assertFalse(BinaryUtil.isBinaryFile(filePath));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private Path getTempFilePath() {
+        return testFolder.getRoot().toPath().resolve("TempAddressBook.bin");
+    }
+}
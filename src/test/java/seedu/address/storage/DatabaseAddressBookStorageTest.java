@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.addressbook.DatabaseAddressBookStorage;
+import seedu.address.storage.addressbook.JournalAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+
+public class DatabaseAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new DatabaseAddressBookStorage(getTempFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath);
+
+        //Save in new database and read back
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(ListTable.getDatabaseFilePath(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        //Insert, delete and update rows, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.updatePerson(BENSON, new PersonBuilder(BENSON).withTags("owesMoney", "friends", "manager").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new DatabaseAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_fieldsNotComparedByEqualsEdited_rowUpdated() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // the edited person equals the person it replaces, as department, position and bonus are not compared
+        Person editedAlice = new PersonBuilder(ALICE).withDepartment("Marketing").withPosition("Manager")
+                .withBonus("500").build();
+        original.updatePerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+
+        Person readBack = new DatabaseAddressBookStorage(filePath).readAddressBook().get().getPersonList().get(0);
+        assertEquals(editedAlice.getDepartment(), readBack.getDepartment());
+        assertEquals(editedAlice.getPosition(), readBack.getPosition());
+        assertEquals(editedAlice.getBonus(), readBack.getBonus());
+    }
+
+    @Test
+    public void saveAddressBook_afterClose_databaseReopened() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        storage.close();
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.close();
+        assertEquals(original, new AddressBook(new DatabaseAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_xmlFile_importedOnce() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+
+        //Import from xml into the database
+        assertEquals(original, new AddressBook(new DatabaseAddressBookStorage(filePath).readAddressBook().get()));
+        assertTrue(Files.exists(ListTable.getDatabaseFilePath(filePath)));
+
+        //Later changes to the xml file are not imported again
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(IDA);
+        new JournalAddressBookStorage(filePath).saveAddressBook(changed);
+        assertEquals(original, new AddressBook(new DatabaseAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private Path getTempFilePath() {
+        return testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.addressbook.JournalAddressBookStorage;
+import seedu.address.storage.addressbook.XmlAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalAddressBookStorage(getTempFilePath()).readAddressBook(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(getTempFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        //Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, readAddressBook(filePath));
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        //Modify data, append the changes to the journal, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_fieldsNotComparedByEqualsEdited_changeJournaled() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // the edited person equals the person it replaces, as department, position and bonus are not compared
+        Person editedAlice = new PersonBuilder(ALICE).withDepartment("Marketing").withPosition("Manager")
+                .withBonus("500").build();
+        original.updatePerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+
+        Person readBack = readAddressBook(filePath).getPersonList().get(0);
+        assertEquals(editedAlice.getDepartment(), readBack.getDepartment());
+        assertEquals(editedAlice.getPosition(), readBack.getPosition());
+        assertEquals(editedAlice.getBonus(), readBack.getBonus());
+    }
+
+    @Test
+    public void saveAddressBook_compactionThresholdReached_journalCompacted() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(original);
+        long emptyJournalSize = Files.size(ListJournal.getJournalFilePath(filePath));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(emptyJournalSize, Files.size(ListJournal.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readEitherWay() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath, ListJournal.DEFAULT_COMPACTION_THRESHOLD, true)
+                .saveAddressBook(original);
+        assertTrue(XmlUtil.isCompressedFile(filePath));
+
+        //Read the compressed file, then save it uncompressed with a change
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertFalse(XmlUtil.isCompressedFile(filePath));
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteChangeAtEndOfJournal_changeDropped() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Path journalFilePath = ListJournal.getJournalFilePath(filePath);
+        long journalSize = Files.size(journalFilePath);
+
+        // a change cut short while being written
+        Files.write(journalFilePath, new byte[] {0, 0, 1, 0, 1, 2}, StandardOpenOption.APPEND);
+
+        storage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(journalSize, Files.size(journalFilePath));
+
+        // later changes are appended after the last complete change
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_journalOfReplacedFile_journalIgnored() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new XmlAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_fileEditedByHand_fieldsValidated() throws Exception {
+        Path filePath = getTempFilePath();
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        String xml = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        Files.write(filePath, xml.replace("Alice Pauline", "Alice P@uline").getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new JournalAddressBookStorage(filePath).readAddressBook();
+    }
+
+    private Path getTempFilePath() {
+        return testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+    }
+
+    /**
+     * Returns the address book at {@code filePath}, read by a new storage.
+     */
+    private AddressBook readAddressBook(Path filePath) throws Exception {
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        return new AddressBook(readBack);
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.expenses.TypicalExpenses.ALICE_CLAIM;
+import static seedu.address.testutil.expenses.TypicalExpenses.getTypicalExpensesList;
+
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.storage.expenses.JournalExpensesListStorage;
+import seedu.address.testutil.expenses.ExpensesBuilder;
+
+public class JournalExpensesListStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveExpensesList_amountsUpdated_changeJournaled() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempExpensesList.xml");
+        ExpensesList original = getTypicalExpensesList();
+        JournalExpensesListStorage storage = new JournalExpensesListStorage(filePath);
+        storage.saveExpensesList(original);
+
+        // the updated expenses equal the expenses they replace, as only their employee ids are compared
+        Expenses updatedClaim = new ExpensesBuilder(ALICE_CLAIM).withExpensesAmount("200.00", "123.00", "123.00")
+                .withTravelExpenses("200.00").build();
+        original.updateExpenses(ALICE_CLAIM, updatedClaim);
+        storage.saveExpensesList(original);
+
+        Expenses readBack = new JournalExpensesListStorage(filePath).readExpensesList().get()
+                .getExpensesRequestList().get(0);
+        assertEquals(updatedClaim.getTravelExpenses().toString(), readBack.getTravelExpenses().toString());
+        assertEquals(updatedClaim.getExpensesAmount().toString(), readBack.getExpensesAmount().toString());
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ListTableTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void save_insertedBetweenSameRowsUntilNoKeysLeft_orderKept() throws Exception {
+        Path filePath = getTempFilePath();
+        ListTable<String> table = createTable();
+        List<String> records = new ArrayList<>(Arrays.asList("first", "last"));
+        table.save(filePath, records);
+
+        // each record goes right after the first, halving the gap each time until every row is written again
+        for (int i = 0; i < 40; i++) {
+            records.add(1, "inserted " + i);
+            table.save(filePath, records);
+        }
+        assertEquals(records, createTable().read(filePath).get());
+    }
+
+    @Test
+    public void save_recordsAddedAndRemovedAtBothEnds_orderKept() throws Exception {
+        Path filePath = getTempFilePath();
+        ListTable<String> table = createTable();
+        List<String> records = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        table.save(filePath, records);
+
+        records.add(0, "before a");
+        records.add("after c");
+        table.save(filePath, records);
+        records.remove("b");
+        table.save(filePath, records);
+        records.subList(0, 2).clear();
+        records.add(0, "new first");
+        table.save(filePath, records);
+        assertEquals(records, createTable().read(filePath).get());
+
+        records.clear();
+        table.save(filePath, records);
+        records.add("only");
+        table.save(filePath, records);
+        assertEquals(Collections.singletonList("only"), createTable().read(filePath).get());
+    }
+
+    @Test
+    public void save_recordReplacedByEqualRecordWithOtherFields_rowUpdated() throws Exception {
+        Path filePath = getTempFilePath();
+        ListTable<Entry> table = createEntryTable();
+        List<Entry> entries = new ArrayList<>(Arrays.asList(new Entry("a", "1"), new Entry("b", "2")));
+        table.save(filePath, entries);
+
+        entries.set(1, new Entry("b", "3"));
+        table.save(filePath, entries);
+
+        assertEquals("3", createEntryTable().read(filePath).get().get(1).value);
+    }
+
+    private ListTable<String> createTable() {
+        return new ListTable<>("records", Collections.singletonList("value"), Collections.emptyList(),
+                record -> new String[] {record}, row -> row[0]);
+    }
+
+    private ListTable<Entry> createEntryTable() {
+        return new ListTable<>("entries", Arrays.asList("entry_key", "entry_value"),
+                Collections.singletonList("entry_key"), entry -> new String[] {entry.key, entry.value},
+                row -> new Entry(row[0], row[1]));
+    }
+
+    private Path getTempFilePath() {
+        return testFolder.getRoot().toPath().resolve("TempList.xml");
+    }
+
+    /**
+     * A record whose equality leaves out its value, as the equality of some records leaves out saved fields.
+     */
+    private static class Entry {
+        private final String key;
+        private final String value;
+
+        Entry(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Entry && key.equals(((Entry) other).key));
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Year;
+import seedu.address.storage.schedule.BinaryScheduleListStorage;
+import seedu.address.storage.schedule.PartitionedScheduleListStorage;
+import seedu.address.testutil.schedule.ScheduleBuilder;
+
+public class PartitionedScheduleListStorageTest {
+
+    private static final int CURRENT_YEAR = 2030;
+    private static final Schedule PAST_SCHEDULE = new ScheduleBuilder().withDate("01/03/2029").build();
+    private static final Schedule CURRENT_SCHEDULE = new ScheduleBuilder().withDate("01/03/2030").build();
+    private static final Schedule FUTURE_SCHEDULE = new ScheduleBuilder().withDate("01/03/2031").build();
+    private static final Schedule OTHER_PAST_SCHEDULE = new ScheduleBuilder().withEmployeeId("000009")
+            .withDate("01/03/2028").build();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<Path> savedFiles = new ArrayList<>();
+
+    @Test
+    public void readScheduleList_pastYears_readWhenNeeded() throws Exception {
+        createStorage().saveScheduleList(getScheduleList(PAST_SCHEDULE, CURRENT_SCHEDULE, FUTURE_SCHEDULE));
+
+        PartitionedScheduleListStorage storage = createStorage();
+        assertEquals(getScheduleList(CURRENT_SCHEDULE, FUTURE_SCHEDULE),
+                new ScheduleList(storage.readScheduleList().get()));
+        assertTrue(storage.hasUnreadYears(new Year("2029")::equals));
+        assertEquals(Collections.emptyList(), storage.readYears(new Year("2028")::equals));
+        assertEquals(Collections.singletonList(PAST_SCHEDULE), storage.readYears(new Year("2029")::equals));
+        assertFalse(storage.hasUnreadYears(year -> true));
+    }
+
+    @Test
+    public void saveScheduleList_oneYearChanged_onlyThatYearWritten() throws Exception {
+        createStorage().saveScheduleList(getScheduleList(PAST_SCHEDULE, CURRENT_SCHEDULE, FUTURE_SCHEDULE));
+        savedFiles.clear();
+
+        PartitionedScheduleListStorage storage = createStorage();
+        ScheduleList scheduleList = new ScheduleList(storage.readScheduleList().get());
+        scheduleList.removeSchedule(FUTURE_SCHEDULE);
+        storage.saveScheduleList(scheduleList);
+
+        // the unread past year is left as it is, and the emptied future year is written
+        assertEquals(Collections.singletonList(getYearFilePath("2031")), savedFiles);
+        assertEquals(getScheduleList(PAST_SCHEDULE, CURRENT_SCHEDULE), readAllYears());
+    }
+
+    @Test
+    public void findUnreadYears_yearsIndexedOnSave_onlyYearsOfEmployee() throws Exception {
+        createStorage().saveScheduleList(getScheduleList(OTHER_PAST_SCHEDULE, PAST_SCHEDULE, CURRENT_SCHEDULE));
+
+        PartitionedScheduleListStorage storage = createStorage();
+        storage.readScheduleList();
+        assertEquals(Collections.singleton(new Year("2029")), storage.findUnreadYears(PAST_SCHEDULE.getEmployeeId()));
+        assertEquals(Collections.singleton(new Year("2028")),
+                storage.findUnreadYears(OTHER_PAST_SCHEDULE.getEmployeeId()));
+
+        // the index is kept for the years still unread when a read year is saved
+        ScheduleList scheduleList = new ScheduleList(storage.readScheduleList().get());
+        scheduleList.removeSchedule(CURRENT_SCHEDULE);
+        storage.saveScheduleList(scheduleList);
+        storage = createStorage();
+        storage.readScheduleList();
+        assertEquals(Collections.singleton(new Year("2029")), storage.findUnreadYears(PAST_SCHEDULE.getEmployeeId()));
+    }
+
+    @Test
+    public void findUnreadYears_yearChangedAfterIndexed_yearIncluded() throws Exception {
+        createStorage().saveScheduleList(getScheduleList(OTHER_PAST_SCHEDULE, PAST_SCHEDULE));
+        Path yearFilePath = getYearFilePath("2029");
+        FileTime savedTime = Files.getLastModifiedTime(yearFilePath);
+        new BinaryScheduleListStorage(yearFilePath).saveScheduleList(getScheduleList(PAST_SCHEDULE,
+                new ScheduleBuilder(OTHER_PAST_SCHEDULE).withDate("01/04/2029").build()));
+        Files.setLastModifiedTime(yearFilePath, FileTime.fromMillis(savedTime.toMillis() + 1000));
+
+        PartitionedScheduleListStorage storage = createStorage();
+        storage.readScheduleList();
+        assertEquals(new HashSet<>(Arrays.asList(new Year("2028"), new Year("2029"))),
+                storage.findUnreadYears(OTHER_PAST_SCHEDULE.getEmployeeId()));
+    }
+
+    @Test
+    public void readScheduleList_unsplitFile_splitOnSave() throws Exception {
+        Path filePath = getTempFilePath();
+        ScheduleList original = getScheduleList(PAST_SCHEDULE, CURRENT_SCHEDULE);
+        new BinaryScheduleListStorage(filePath).saveScheduleList(original);
+
+        PartitionedScheduleListStorage storage = createStorage();
+        assertEquals(original, new ScheduleList(storage.readScheduleList().get()));
+        storage.saveScheduleList(original);
+
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(getYearFilePath("2029")));
+        assertTrue(Files.exists(getYearFilePath("2030")));
+        assertEquals(original, readAllYears());
+    }
+
+    private PartitionedScheduleListStorage createStorage() {
+        return new PartitionedScheduleListStorage(getTempFilePath(), yearFilePath ->
+                new BinaryScheduleListStorage(yearFilePath) {
+                    @Override
+                    public void saveScheduleList(ReadOnlyScheduleList scheduleList) throws IOException {
+                        savedFiles.add(yearFilePath);
+                        super.saveScheduleList(scheduleList);
+                    }
+                }, CURRENT_YEAR);
+    }
+
+    private ScheduleList readAllYears() throws Exception {
+        PartitionedScheduleListStorage storage = createStorage();
+        ScheduleList scheduleList = new ScheduleList(storage.readScheduleList().get());
+        List<Schedule> schedules = new ArrayList<>(storage.readYears(year -> true));
+        schedules.addAll(scheduleList.getScheduleList());
+        ScheduleList allYears = new ScheduleList();
+        allYears.setSchedules(schedules);
+        return allYears;
+    }
+
+    private ScheduleList getScheduleList(Schedule... schedules) {
+        ScheduleList scheduleList = new ScheduleList();
+        scheduleList.setSchedules(Arrays.asList(schedules));
+        return scheduleList;
+    }
+
+    private Path getYearFilePath(String year) {
+        return PartitionedScheduleListStorage.getYearFilePath(getTempFilePath(), new Year(year));
+    }
+
+    private Path getTempFilePath() {
+        return testFolder.getRoot().toPath().resolve("TempScheduleList.bin");
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.storage.schedule.BinaryScheduleListStorage;
+import seedu.address.storage.schedule.XmlScheduleListStorage;
+import seedu.address.testutil.schedule.ScheduleBuilder;
+
+/**
+ * Compares the size of a large schedule list saved as an xml file, a gzip-compressed xml file and a binary file, the
+ * time taken to save it, and the time and peak heap taken to load it.
+ * It is not run with the tests, as it takes a while. Run its {@code main} method, optionally with the number of
+ * schedules to generate.
+ */
+public class StorageFormatBenchmark {
+
+    private static final int DEFAULT_SCHEDULE_COUNT = 200_000;
+    private static final int EMPLOYEE_COUNT = 1000;
+    private static final int RUN_COUNT = 5;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    public static void main(String[] args) throws Exception {
+        int scheduleCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SCHEDULE_COUNT;
+        ScheduleList scheduleList = createScheduleList(scheduleCount);
+
+        Path folder = Files.createTempDirectory("StorageFormatBenchmark");
+        Path xmlFile = folder.resolve("schedulelist.xml");
+        Path compressedFile = folder.resolve("schedulelist.xml.gz");
+        Path binaryFile = folder.resolve("schedulelist.bin");
+
+        System.out.println("Saving and loading " + scheduleCount + " schedules, best of " + RUN_COUNT + " runs");
+        measure("xml", xmlFile,
+                () -> new XmlScheduleListStorage(xmlFile).saveScheduleList(scheduleList),
+                () -> new XmlScheduleListStorage(xmlFile).readScheduleList().get());
+        measure("xml.gz", compressedFile,
+                () -> new XmlScheduleListStorage(compressedFile, true).saveScheduleList(scheduleList),
+                () -> new XmlScheduleListStorage(compressedFile).readScheduleList().get());
+        measure("binary", binaryFile,
+                () -> new BinaryScheduleListStorage(binaryFile).saveScheduleList(scheduleList),
+                () -> new BinaryScheduleListStorage(binaryFile).readScheduleList().get());
+    }
+
+    /**
+     * Creates {@code count} schedules, spread over {@code EMPLOYEE_COUNT} employees working on consecutive days.
+     */
+    private static ScheduleList createScheduleList(int count) {
+        ScheduleList scheduleList = new ScheduleList();
+        LocalDate firstDate = LocalDate.of(2030, 1, 1);
+        for (int i = 0; i < count; i++) {
+            scheduleList.addSchedule(new ScheduleBuilder()
+                    .withEmployeeId(String.format("%06d", i % EMPLOYEE_COUNT))
+                    .withType("WORK")
+                    .withDate(firstDate.plusDays(i / EMPLOYEE_COUNT).format(DATE_FORMAT))
+                    .build());
+        }
+        return scheduleList;
+    }
+
+    /**
+     * Saves the file {@code RUN_COUNT} times, then loads it {@code RUN_COUNT} times, and prints its size, the shortest
+     * times taken and the least peak heap used.
+     */
+    private static void measure(String format, Path file, Saver saver, Loader loader) throws Exception {
+        long bestSaveMillis = Long.MAX_VALUE;
+        for (int i = 0; i < RUN_COUNT; i++) {
+            System.gc();
+            long start = System.nanoTime();
+            saver.save();
+            bestSaveMillis = Math.min(bestSaveMillis, (System.nanoTime() - start) / 1_000_000);
+        }
+
+        List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans();
+        long bestMillis = Long.MAX_VALUE;
+        long bestPeakBytes = Long.MAX_VALUE;
+        for (int i = 0; i < RUN_COUNT; i++) {
+            System.gc();
+            long usedBefore = 0;
+            for (MemoryPoolMXBean pool : pools) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    usedBefore += pool.getUsage().getUsed();
+                    pool.resetPeakUsage();
+                }
+            }
+
+            long start = System.nanoTime();
+            Object loaded = loader.load();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            long peakBytes = 0;
+            for (MemoryPoolMXBean pool : pools) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    peakBytes += pool.getPeakUsage().getUsed();
+                }
+            }
+            bestMillis = Math.min(bestMillis, millis);
+            bestPeakBytes = Math.min(bestPeakBytes, peakBytes - usedBefore);
+            if (loaded == null) {
+                throw new AssertionError("Nothing was loaded from " + file);
+            }
+        }
+        System.out.printf("%-6s  file %,12d bytes  save %,7d ms  load %,7d ms  peak heap %,14d bytes%n",
+                format, Files.size(file), bestSaveMillis, bestMillis, bestPeakBytes);
+    }
+
+    /**
+     * Saves a data file.
+     */
+    @FunctionalInterface
+    private interface Saver {
+        void save() throws Exception;
+    }
+
+    /**
+     * Loads a data file.
+     */
+    @FunctionalInterface
+    private interface Loader {
+        Object load() throws Exception;
+    }
+}
@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalRecruitments.getTypicalRecruitmentList;
 import static seedu.address.testutil.expenses.TypicalExpenses.getTypicalExpensesList;
@@ -11,17 +10,20 @@ import static seedu.address.testutil.schedule.TypicalSchedules.getTypicalSchedul
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.ExpensesListChangedEvent;
 import seedu.address.commons.events.model.RecruitmentListChangedEvent;
 import seedu.address.commons.events.model.ScheduleListChangedEvent;
-import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
@@ -43,6 +45,9 @@ public class StorageManagerTest {
     @Rule
     public TemporaryFolder testFolder = new TemporaryFolder();
     @Rule
+    public ExpectedException thrown = ExpectedException.none();
+    // unregisters the storage managers from the events center after each test
+    @Rule
     public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
 
     private StorageManager storageManager;
@@ -155,7 +160,7 @@ public class StorageManagerTest {
     }
 
     @Test
-    public void handleAddressBookChangedEvent_exceptionThrown_eventRaised() {
+    public void handleAddressBookChangedEvent_exceptionThrown_flushThrowsIOException() throws Exception {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
         Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")), (
                 new XmlExpensesListStorageExceptionThrowingStub(Paths.get("dummy"))), (
@@ -163,11 +168,12 @@ public class StorageManagerTest {
                 new XmlRecruitmentListStorageExceptionThrowingStub(Paths.get("dummy")),
                 new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
-        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+        thrown.expect(IOException.class);
+        storage.flush();
     }
 
     @Test
-    public void handleScheduleListChangedEvent_exceptionThrown_eventRaised() {
+    public void handleScheduleListChangedEvent_exceptionThrown_flushThrowsIOException() throws Exception {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
         Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")), (
                 new XmlExpensesListStorageExceptionThrowingStub(Paths.get("dummy"))), (
@@ -175,11 +181,12 @@ public class StorageManagerTest {
                 new XmlRecruitmentListStorageExceptionThrowingStub(Paths.get("dummy"))),
                 new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleScheduleListChangedEvent(new ScheduleListChangedEvent(new ScheduleList()));
-        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+        thrown.expect(IOException.class);
+        storage.flush();
     }
 
     @Test
-    public void handleRecruitmentListChangedEvent_exceptionThrown_eventRaised() {
+    public void handleRecruitmentListChangedEvent_exceptionThrown_flushThrowsIOException() throws Exception {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
         Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")), (
                 new XmlExpensesListStorageExceptionThrowingStub(Paths.get("dummy"))), (
@@ -187,11 +194,12 @@ public class StorageManagerTest {
                 new XmlRecruitmentListStorageExceptionThrowingStub(Paths.get("dummy"))),
                 new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleRecruitmentListChangedEvent(new RecruitmentListChangedEvent(new RecruitmentList()));
-        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+        thrown.expect(IOException.class);
+        storage.flush();
     }
 
     @Test
-    public void handleExpensesListChangedEvent_exceptionThrown_eventRaised() {
+    public void handleExpensesListChangedEvent_exceptionThrown_flushThrowsIOException() throws Exception {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
         Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")), (
                 new XmlExpensesListStorageExceptionThrowingStub(Paths.get("dummy"))), (
@@ -199,7 +207,35 @@ public class StorageManagerTest {
                 new XmlRecruitmentListStorageExceptionThrowingStub(Paths.get("dummy"))),
                 new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleExpensesListChangedEvent(new ExpensesListChangedEvent(new ExpensesList()));
-        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+        thrown.expect(IOException.class);
+        storage.flush();
+    }
+
+    @Test
+    public void close_saveFails_listStoragesStillClosed() throws Exception {
+        List<String> closedStorages = new ArrayList<>();
+        Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")),
+                new XmlExpensesListStorage(Paths.get("dummy")) {
+                    @Override
+                    public void close() {
+                        closedStorages.add("expenses");
+                    }
+                },
+                new XmlScheduleListStorage(Paths.get("dummy")) {
+                    @Override
+                    public void close() {
+                        closedStorages.add("schedules");
+                    }
+                },
+                new XmlRecruitmentListStorage(Paths.get("dummy")),
+                new JsonUserPrefsStorage(Paths.get("dummy")));
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        thrown.expect(IOException.class);
+        try {
+            storage.close();
+        } finally {
+            assertEquals(Arrays.asList("expenses", "schedules"), closedStorages);
+        }
     }
 
     /**
@@ -73,6 +73,20 @@ public class XmlAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toSavedModelType_validPersonDetails_returnsPerson() throws Exception {
+        XmlAdaptedPerson person = new XmlAdaptedPerson(BENSON);
+        assertEquals(BENSON, person.toSavedModelType());
+    }
+
+    @Test
+    public void toSavedModelType_nullName_throwsIllegalValueException() {
+        XmlAdaptedPerson person = new XmlAdaptedPerson(VALID_EMPLOYEEID, null, VALID_DATEOFBIRTH, VALID_PHONE,
+                VALID_EMAIL, VALID_DEPARTMENT, VALID_POSITION, VALID_ADDRESS, VALID_SALARY, VALID_BONUS, VALID_TAGS);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, person::toSavedModelType);
+    }
+
     @Test
     public void toModelType_invalidEmployeeId_throwsIllegalValueException() {
         XmlAdaptedPerson person =
@@ -2,12 +2,15 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -19,6 +22,7 @@ import org.junit.rules.TemporaryFolder;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.storage.addressbook.JournalAddressBookStorage;
 import seedu.address.storage.addressbook.XmlAddressBookStorage;
 
 public class XmlAddressBookStorageTest {
@@ -100,6 +104,51 @@ public class XmlAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_journalLeftByJournalFormat_journalReplayedThenDeleted() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        journalStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journalStorage.saveAddressBook(original);
+
+        XmlAddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(xmlAddressBookStorage.readAddressBook().get()));
+
+        original.addPerson(IDA);
+        xmlAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.exists(ListJournal.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(xmlAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_savedFile_fieldsNotValidatedAgain() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        new XmlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        // a name the app would not accept, in a file whose checksum shows it is as the app saved it
+        String xml = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        Files.write(filePath, xml.replace("Alice Pauline", "Alice P@uline").getBytes(StandardCharsets.UTF_8));
+        SavedFileChecksum.write(filePath);
+
+        ReadOnlyAddressBook readBack = new XmlAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals("Alice P@uline", readBack.getPersonList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void readAddressBook_fileEditedByHand_fieldsValidated() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        new XmlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(SavedFileChecksum.getChecksumFilePath(filePath)));
+
+        String xml = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        Files.write(filePath, xml.replace("Alice Pauline", "Alice P@uline").getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new XmlAddressBookStorage(filePath).readAddressBook();
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);